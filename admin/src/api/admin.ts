@@ -40,9 +40,20 @@ export const getSubmissions = async () => {
   return res.data;
 };
 
-export const getClients = async () => {
-  const res = await api.get('/clients');
-  return res.data;
+export type ClientPage = {
+  items: any[];
+  nextCursor?: string | null;
+  hasMore: boolean;
+};
+
+// One keyset page of clients; pass the previous page's nextCursor to continue
+export const getClients = async (cursor?: string, limit = 50): Promise<ClientPage> => {
+  const res = await api.get('/clients', { params: { cursor, limit } });
+  return {
+    items: res.data.items || [],
+    nextCursor: res.data.nextCursor,
+    hasMore: !!res.data.hasMore,
+  };
 };
 
 export type CreateClientResponse = {
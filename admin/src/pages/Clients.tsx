@@ -7,15 +7,17 @@ import ClientForm from '../components/ClientForm';
 
 const Clients: React.FC = () => {
   const [clients, setClients] = useState<any[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
   const [loading, setLoading] = useState(false);
   const [formOpen, setFormOpen] = useState(false);
   const [editing, setEditing] = useState<any | null>(null);
 
-  const load = async () => {
+  const load = async (cursor?: string) => {
     setLoading(true);
     try {
-      const data = await getClients();
-      setClients(data || []);
+      const page = await getClients(cursor);
+      setClients((s) => (cursor ? [...s, ...page.items] : page.items));
+      setNextCursor(page.hasMore && page.nextCursor ? page.nextCursor : undefined);
     } catch (e) {
       console.error('Failed to load clients', e);
     } finally {
@@ -65,7 +67,7 @@ const Clients: React.FC = () => {
         <Paper sx={{ mt: 2, p: 2 }}>
           <Box sx={{ mb: 2, display: 'flex', justifyContent: 'space-between', alignItems: 'center' }}>
             <Button variant="contained" onClick={handleCreateOpen}>Create New Client</Button>
-            <Button onClick={load} disabled={loading}>Refresh</Button>
+            <Button onClick={() => load()} disabled={loading}>Refresh</Button>
           </Box>
           <Table>
             <TableHead>
@@ -92,6 +94,11 @@ const Clients: React.FC = () => {
               ))}
             </TableBody>
           </Table>
+          {nextCursor && (
+            <Box sx={{ mt: 2, display: 'flex', justifyContent: 'center' }}>
+              <Button onClick={() => load(nextCursor)} disabled={loading}>Load more</Button>
+            </Box>
+          )}
         </Paper>
       </Box>
 
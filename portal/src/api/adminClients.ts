@@ -35,22 +35,6 @@ export type SearchParams = {
   sort?: string; // e.g. 'createdAt,desc'
 };
 
-export const listClients = async (): Promise<Client[]> => {
-  const res = await http.get(BASE);
-  const arr = Array.isArray(res.data) ? res.data : [];
-  return arr.map((c: any) => ({
-    id: String(c.id),
-    firstName: c.firstName,
-    lastName: c.lastName,
-    email: c.email,
-    role: c.role,
-    isActive: !!(c.isActive ?? c.active),
-    isEmailVerified: !!(c.isEmailVerified ?? c.emailVerified),
-    createdAt: c.createdAt,
-    updatedAt: c.updatedAt,
-  }));
-};
-
 export const searchClients = async (params: SearchParams): Promise<Page<Client>> => {
   const res = await http.get(SEARCH, { params });
   const p = res.data;
@@ -137,7 +121,6 @@ export const resendInvite = async (id: string): Promise<void> => {
 };
 
 export default {
-  listClients,
   searchClients,
   getClient,
   createClient,
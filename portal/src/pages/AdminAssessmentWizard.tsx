@@ -2,7 +2,7 @@ import { useEffect, useMemo, useState } from 'react';
 import { Box, Button, Card, CardContent, Checkbox, FormControlLabel, Stack, TextField, Typography, Stepper, Step, StepLabel, Snackbar, Alert } from '@mui/material';
 import catalog from '../api/catalog';
 import adminQuestionnaireCore from '../api/adminQuestionnaireCore';
-import { listClients, Client } from '../api/adminClients';
+import { searchClients, Client } from '../api/adminClients';
 import { createAssessment, assignAssessment } from '../api/adminAssessments';
 import { useNavigate, useLocation } from 'react-router-dom';
 
@@ -33,19 +33,35 @@ export default function AdminAssessmentWizard() {
   const [clientQuery, setClientQuery] = useState('');
   const [dateError, setDateError] = useState<string | null>(null);
 
+  const [clientTotal, setClientTotal] = useState(0);
+
   const load = async () => {
-    const [t, qs, cls] = await Promise.all([
+    const [t, qs] = await Promise.all([
       catalog.getModuleTree(),
       adminQuestionnaireCore.listQuestionnaires(),
-      listClients(),
     ]);
     setTree(Array.isArray(t) ? t : []);
     setQuestionnaires(qs);
-    setClients(cls);
   };
 
   useEffect(() => { load(); }, []);
 
+  // Clients are searched on the server; only the matching page is loaded
+  useEffect(() => {
+    let active = true;
+    const fetch = async () => {
+      try {
+        const res = await searchClients({ query: clientQuery.trim() || undefined, page: 0, size: 50 });
+        if (active) { setClients(res.content); setClientTotal(res.totalElements); }
+      } catch {
+        if (active) { setClients([]); setClientTotal(0); }
+      }
+    };
+    // debounce
+    const t = setTimeout(fetch, 300);
+    return () => { active = false; clearTimeout(t); };
+  }, [clientQuery]);
+
   // Prefill stage/questionnaire from URL params
   useEffect(() => {
     const params = new URLSearchParams(location.search);
@@ -77,6 +93,7 @@ export default function AdminAssessmentWizard() {
   const canNext3 = !!name.trim();
   const selectedClientIds = useMemo(() => Object.entries(selected).filter(([, v]) => v).map(([id]) => id), [selected]);
   const canFinish = selectedClientIds.length > 0;
+  const allShownSelected = clients.length > 0 && clients.every(c => selected[c.id]);
 
   const next = () => setStep(s => s + 1);
   const back = () => setStep(s => s - 1);
@@ -171,23 +188,19 @@ export default function AdminAssessmentWizard() {
           <Stack spacing={1}>
             <Stack direction={{ xs: 'column', sm: 'row' }} spacing={1} alignItems={{ xs: 'stretch', sm: 'center' }}>
               <TextField size="small" placeholder="Search clients..." value={clientQuery} onChange={(e)=>setClientQuery(e.target.value)} sx={{ maxWidth: 420 }} />
-              <Typography variant="body2" color="text.secondary">Selected: {selectedClientIds.length} / {clients.length}</Typography>
+              <Typography variant="body2" color="text.secondary">Selected: {selectedClientIds.length} • Showing {clients.length} of {clientTotal}</Typography>
               <Button size="small" onClick={() => {
-                if (selectedClientIds.length === clients.length) {
-                  setSelected({});
-                } else {
-                  const all: Record<string, boolean> = {};
-                  clients.forEach(c => { all[c.id] = true; });
-                  setSelected(all);
-                }
-              }}>{selectedClientIds.length === clients.length ? 'Clear all' : 'Select all'}</Button>
+                // Applies to the clients shown; selections from earlier searches are kept
+                const next: Record<string, boolean> = { ...selected };
+                clients.forEach(c => { next[c.id] = !allShownSelected; });
+                setSelected(next);
+              }}>{allShownSelected ? 'Clear shown' : 'Select shown'}</Button>
             </Stack>
             {clients.map(c => (
-              (!clientQuery.trim() || `${c.firstName || ''} ${c.lastName || ''} ${c.email}`.toLowerCase().includes(clientQuery.trim().toLowerCase())) && (
               <FormControlLabel key={c.id}
                 control={<Checkbox checked={!!selected[c.id]} onChange={(e)=> setSelected(prev => ({ ...prev, [c.id]: e.target.checked }))} />}
                 label={`${c.firstName || ''} ${c.lastName || ''} <${c.email}>`}
-              />)
+              />
             ))}
             {clients.length === 0 && <Typography color="text.secondary">No clients found. Create clients first.</Typography>}
           </Stack>
@@ -27,6 +27,7 @@ const AdminCatalog = () => {
   const [assForm, setAssForm] = useState<{ id?: string; name: string; description?: string; questionnaireId?: string }>({ name: '' });
   const [assignForm, setAssignForm] = useState<{ assessmentId?: string; clientIds: string[]; dueDate?: string }>({ clientIds: [] });
   const [clients, setClients] = useState<Client[]>([]);
+  const [clientQuery, setClientQuery] = useState('');
   const [questionnaires, setQuestionnaires] = useState<Array<{ id: string; name: string; version?: string }>>([]);
 
   // Confirm dialog for deletions
@@ -50,9 +51,6 @@ const AdminCatalog = () => {
     try {
       const data = await getModuleTree();
       setTree(data);
-      // also prefetch clients for assignment picker
-      const cs = await adminClientsApi.listClients();
-      setClients(cs);
       // prefetch questionnaires for picker
       const qs = await adminQuestionnaireCore.listQuestionnaires();
       setQuestionnaires(qs);
@@ -63,6 +61,22 @@ const AdminCatalog = () => {
     }
   };
 
+  // Assignment picker: clients are searched on the server, one page at a time
+  useEffect(() => {
+    let active = true;
+    const fetch = async () => {
+      try {
+        const res = await adminClientsApi.searchClients({ query: clientQuery.trim() || undefined, page: 0, size: 50 });
+        if (active) setClients(res.content);
+      } catch {
+        if (active) setClients([]);
+      }
+    };
+    // debounce
+    const t = setTimeout(fetch, 300);
+    return () => { active = false; clearTimeout(t); };
+  }, [clientQuery]);
+
   const loadAssessments = async (stageId?: string) => {
     if (!stageId) { setAssessments([]); return; }
     setAssLoading(true);
@@ -500,6 +514,7 @@ const AdminCatalog = () => {
                   {assignForm.assessmentId && (
                     <>
                       <TextField type="date" label="Due date" placeholder="YYYY-MM-DD" InputLabelProps={{ shrink: true }} value={assignForm.dueDate || ''} onChange={(e) => setAssignForm({ ...assignForm, dueDate: e.target.value })} sx={{ maxWidth: 260 }} />
+                      <TextField size="small" placeholder="Search clients..." value={clientQuery} onChange={(e) => setClientQuery(e.target.value)} sx={{ maxWidth: 360 }} />
                       <List dense sx={{ maxHeight: 240, overflow: 'auto', border: '1px solid', borderColor: 'divider', borderRadius: 1, p: 0.5 }}>
                         {clients.length === 0 && (
                           <ListItem><ListItemText primary="No clients found" secondary="Create clients first from the Clients page" /></ListItem>
@@ -0,0 +1,95 @@
+package com.elevate.consultingplatform.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Verifications per second for what the authentication filter does with one bearer token: before, with
+ * {@code extractUsername} followed by {@code isTokenValid}, three full parses each behind a freshly built
+ * parser and a re-decoded key; after, one {@link JwtService#verify} on the shared parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String EMAIL = "learner@example.com";
+
+    private String secret;
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        secret = Encoders.BASE64.encode(keyBytes);
+
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", secret);
+        ReflectionTestUtils.setField(jwtService, "jwtExpirationInMillis", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtService, "refreshExpirationInMillis", TimeUnit.DAYS.toMillis(7));
+        jwtService.init();
+
+        userDetails = User.withUsername(EMAIL).password("n/a").authorities("ROLE_CLIENT").build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean parsePerClaim() {
+        String username = extractClaim(token, Claims::getSubject);
+        if (username == null) {
+            return false;
+        }
+        // isTokenValid: subject again, then expiry
+        return username.equals(extractClaim(token, Claims::getSubject))
+                && !extractClaim(token, Claims::getExpiration).before(new Date());
+    }
+
+    @Benchmark
+    public boolean verifyOnce() {
+        return jwtService.verify(token)
+                .map(verified -> verified.isValidFor(userDetails))
+                .orElse(false);
+    }
+
+    // The verification path as it was: a new parser and signing key for every claim read
+    private <T> T extractClaim(String jwt, Function<Claims, T> resolver) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(signInKey())
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+        return resolver.apply(claims);
+    }
+
+    private Key signInKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
@@ -0,0 +1,122 @@
+package com.elevate.consultingplatform.security;
+
+import com.elevate.consultingplatform.config.ApplicationConfig;
+import com.elevate.consultingplatform.exception.RateLimitExceededException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a cheap, non-auth request while a login storm runs on the same request threads. A fixed pool
+ * with a FIFO queue stands in for Tomcat; {@code clients} users keep logging in, each trying again
+ * {@code thinkMs} after an answer (a 429 included). With {@code inline} BCrypt runs on the request threads
+ * as before; with {@code offloaded} it goes through {@link PasswordHashingService} sized the way
+ * {@link ApplicationConfig} sizes it. Sample mode reports the p99 next to the mean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginStormBenchmark {
+
+    private static final int REQUEST_THREADS = 16;
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"inline", "offloaded"})
+    public String hashing;
+
+    @Param({"64"})
+    public int clients;
+
+    @Param({"10"})
+    public long thinkMs;
+
+    @Param({"10"})
+    public int strength;
+
+    private ThreadPoolExecutor requestThreads;
+    private ScheduledExecutorService storm;
+    private PasswordEncoder encoder;
+    private String hash;
+    private volatile boolean running;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        hash = bcrypt.encode(PASSWORD);
+        encoder = "offloaded".equals(hashing)
+                ? new ApplicationConfig(null).passwordEncoder(strength, 0, 0, 2000, REQUEST_THREADS)
+                : bcrypt;
+        requestThreads = new ThreadPoolExecutor(REQUEST_THREADS, REQUEST_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemon("request"));
+        storm = Executors.newSingleThreadScheduledExecutor(daemon("login-storm"));
+        running = true;
+        for (int i = 0; i < clients; i++) {
+            login();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        // Queued logins are dropped, running ones finish and see running == false before the storm thread goes away
+        requestThreads.getQueue().clear();
+        requestThreads.shutdown();
+        requestThreads.awaitTermination(30, TimeUnit.SECONDS);
+        storm.shutdownNow();
+        if (encoder instanceof PasswordHashingService service) {
+            service.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long nonAuthRequest() throws ExecutionException, InterruptedException {
+        return requestThreads.submit(() -> System.identityHashCode(new Object()) * 31L).get();
+    }
+
+    private void login() {
+        if (!running) {
+            return;
+        }
+        requestThreads.execute(() -> {
+            try {
+                encoder.matches(PASSWORD, hash);
+            } catch (RateLimitExceededException e) {
+                // 429; the client backs off like any other answer
+            } finally {
+                if (running) {
+                    storm.schedule(this::login, thinkMs, TimeUnit.MILLISECONDS);
+                }
+            }
+        });
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
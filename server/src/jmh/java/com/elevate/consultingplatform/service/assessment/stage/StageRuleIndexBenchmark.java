@@ -0,0 +1,92 @@
+package com.elevate.consultingplatform.service.assessment.stage;
+
+import com.elevate.consultingplatform.repository.assessment.projection.StageRuleRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage lookup for one score: the compiled {@link StageRuleIndex} against the scan it replaced, which
+ * re-sorted the questionnaire's rules by priority with a stream and took the first range containing the
+ * score. The rule query the old path also ran on every call is left out, so the gap measured here is a
+ * lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StageRuleIndexBenchmark {
+
+    private static final int SCORES = 1024;
+
+    @Param({"4", "32", "256"})
+    public int ruleCount;
+
+    private List<StageRuleRow> rows;
+    private StageRuleIndex index;
+    private double[] scores;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        // Back-to-back ranges over [0, 100] with the seeded 0.000001 boundaries, in shuffled priority order
+        rows = new ArrayList<>(ruleCount);
+        double width = 100.0 / ruleCount;
+        for (int i = 0; i < ruleCount; i++) {
+            double min = i == 0 ? 0.0 : i * width + 0.000001;
+            rows.add(new StageRuleRow((long) i + 1, min, (i + 1) * width, random.nextInt(ruleCount), (long) i + 1));
+        }
+        index = StageRuleIndex.compile(rows);
+        scores = new double[SCORES];
+        for (int i = 0; i < SCORES; i++) {
+            scores[i] = random.nextDouble() * 100.0;
+        }
+    }
+
+    @Benchmark
+    public long linearScan() {
+        double score = nextScore();
+        return rows.stream()
+                .sorted(Comparator.comparing(r -> r.getPriority() == null ? Integer.MAX_VALUE : r.getPriority()))
+                .filter(r -> score >= r.getMinScore() && score <= r.getMaxScore())
+                .map(StageRuleRow::getTargetStageId)
+                .findFirst()
+                .orElse(StageRuleIndex.NO_STAGE);
+    }
+
+    @Benchmark
+    public long indexedLookup() {
+        return index.stageIdFor(nextScore());
+    }
+
+    /**
+     * Paid once per rule change, when the cache drops the index.
+     */
+    @Benchmark
+    public StageRuleIndex compile() {
+        return StageRuleIndex.compile(rows);
+    }
+
+    private double nextScore() {
+        double score = scores[next];
+        next = (next + 1) & (SCORES - 1);
+        return score;
+    }
+}
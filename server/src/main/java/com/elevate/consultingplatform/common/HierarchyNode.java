@@ -26,4 +26,7 @@ public abstract class HierarchyNode extends BaseEntity {
 
     @Column(name = "order_index")
     private Integer orderIndex;
+
+    @Column(name = "order_key", length = 64)
+    private String orderKey; // fractional sort key among siblings, see OrderKeys
 }
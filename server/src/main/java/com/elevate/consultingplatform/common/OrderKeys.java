@@ -0,0 +1,134 @@
+package com.elevate.consultingplatform.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Fractional ordering keys: base-62 digit strings compared byte-wise ({@code ascii_bin} in MySQL), read as
+ * fractions {@code 0.d1d2d3...}. A key can always be generated between any two others, so moving one item
+ * rewrites only that item's key. Keys never end in the lowest digit, which keeps room below every key.
+ * Repeated inserts at the same spot make keys grow by about one digit per six moves; the rebalancer
+ * respaces a sibling list once a key exceeds {@link #REBALANCE_LENGTH}.
+ */
+public final class OrderKeys {
+
+    public static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    public static final int MAX_LENGTH = 64;
+    public static final int REBALANCE_LENGTH = 24;
+
+    // Same order as the column: digits sort in ASCII order, rows without a key come last
+    public static final Comparator<String> ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private static final int BASE = DIGITS.length();
+
+    private OrderKeys() {
+    }
+
+    /**
+     * A key strictly between {@code before} and {@code after}; null means open-ended on that side.
+     *
+     * @throws IllegalArgumentException when the bounds are not in ascending order
+     */
+    public static String between(String before, String after) {
+        String a = before != null ? before : "";
+        if (after != null && a.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Order keys out of order: " + before + " >= " + after);
+        }
+        return midpoint(a, after);
+    }
+
+    /**
+     * {@code count} ascending keys strictly between {@code before} and {@code after}, placed by repeated
+     * bisection so that their length grows with log(count) rather than with count.
+     */
+    public static List<String> between(String before, String after, int count) {
+        List<String> keys = new ArrayList<>(Math.max(count, 0));
+        fill(before, after, count, keys);
+        return keys;
+    }
+
+    /**
+     * {@code count} ascending keys spread evenly over the whole key space, all of the same short length.
+     */
+    public static List<String> spaced(int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count <= 0) {
+            return keys;
+        }
+        int width = 1;
+        long space = BASE;
+        while (space < 2L * (count + 1)) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(step * i, width));
+        }
+        return keys;
+    }
+
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.length() > MAX_LENGTH || key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void fill(String before, String after, int count, List<String> keys) {
+        if (count <= 0) {
+            return;
+        }
+        String mid = between(before, after);
+        int left = (count - 1) / 2;
+        fill(before, mid, left, keys);
+        keys.add(mid);
+        fill(mid, after, count - 1 - left, keys);
+    }
+
+    // a < b, b == null means 1.0; neither ends in the lowest digit
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int n = 0;
+            while (n < b.length() && digitAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB) / 2));
+        }
+        // Adjacent first digits: either b's first digit alone fits, or extend a by one digit
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.length() > 1 ? a.substring(1) : "", null);
+    }
+
+    private static char digitAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private static String encode(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (length > 1 && digits[length - 1] == DIGITS.charAt(0)) {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+}
@@ -1,7 +1,10 @@
 package com.elevate.consultingplatform.config;
 
+import com.elevate.consultingplatform.security.PasswordHashingService;
 import com.elevate.consultingplatform.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,8 +12,8 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
@@ -18,10 +21,12 @@ public class ApplicationConfig {
     private final UserDetailsServiceImpl userDetailsService;
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordHashingService passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Re-encodes the password on successful login when the configured BCrypt cost changes
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -30,8 +35,27 @@ public class ApplicationConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * Callers wait on the hashing pool from request threads, so at most pool size + queue capacity of them can
+     * be held by hashing. Both are capped to a quarter of the servlet threads; everything past that is refused
+     * with 429 straight away and the other endpoints keep their threads during a login storm.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordHashingService passwordEncoder(
+            @Value("${app.security.bcrypt.strength:10}") int strength,
+            @Value("${app.security.bcrypt.pool-size:0}") int poolSize,
+            @Value("${app.security.bcrypt.queue-capacity:0}") int queueCapacity,
+            @Value("${app.security.bcrypt.wait-timeout-ms:2000}") long waitTimeoutMs,
+            @Value("${server.tomcat.threads.max:200}") int requestThreads
+    ) {
+        int maxHeld = Math.max(2, requestThreads / 4);
+        int threads = Math.min(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(), maxHeld - 1);
+        int queue = queueCapacity > 0 ? queueCapacity : threads * 2;
+        if (threads + queue > maxHeld) {
+            log.warn("BCrypt pool of {} with queue {} could hold too many of {} request threads; capping the queue at {}",
+                    threads, queue, requestThreads, maxHeld - threads);
+            queue = maxHeld - threads;
+        }
+        return new PasswordHashingService(new BCryptPasswordEncoder(strength), threads, queue, waitTimeoutMs);
     }
 }
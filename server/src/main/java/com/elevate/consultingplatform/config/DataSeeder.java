@@ -2,6 +2,7 @@ package com.elevate.consultingplatform.config;
 
 import com.elevate.consultingplatform.entity.assessment.Question;
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
+import com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus;
 import com.elevate.consultingplatform.entity.catalog.Module;
 import com.elevate.consultingplatform.entity.catalog.Segment;
 import com.elevate.consultingplatform.repository.assessment.QuestionRepository;
@@ -17,6 +18,8 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
     @Component
     @Profile("seed")
     @RequiredArgsConstructor
@@ -68,7 +71,11 @@ import org.springframework.transaction.annotation.Transactional;
         Questionnaire questionnaire = questionnaireRepository.save(Questionnaire.builder()
                 .name("MVP Assessment")
                 .version("v1")
+                .status(QuestionnaireStatus.PUBLISHED)
+                .publishedAt(LocalDateTime.now())
                 .build());
+        questionnaire.setFamilyId(questionnaire.getId());
+        questionnaireRepository.save(questionnaire);
 
         // Questions
         questionRepository.save(Question.builder()
@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
@@ -110,7 +111,11 @@ public class DemoContentSeeder {
         Questionnaire questionnaire = questionnaireRepository.save(Questionnaire.builder()
                 .name("Demo Questionnaire")
                 .version("v1")
+                .status(QuestionnaireStatus.PUBLISHED)
+                .publishedAt(LocalDateTime.now())
                 .build());
+        questionnaire.setFamilyId(questionnaire.getId());
+        questionnaireRepository.save(questionnaire);
 
         // Questions of different types
         // MCQ (single select)
@@ -172,6 +177,7 @@ public class DemoContentSeeder {
                     ClientAssessment ca = ClientAssessment.builder()
                             .client(client)
                             .assessment(assessment)
+                            .questionnaire(assessment.getQuestionnaire())
                             .status(AssessmentStatus.ASSIGNED)
                             .dueDate(LocalDate.now().plusDays(7))
                             .build();
@@ -0,0 +1,68 @@
+package com.elevate.consultingplatform.config;
+
+import com.elevate.consultingplatform.service.lms.CircuitBreaker;
+import com.elevate.consultingplatform.service.lms.LmsClient;
+import com.elevate.consultingplatform.service.lms.impl.DispatchingLmsGateway;
+import com.elevate.consultingplatform.service.lms.impl.HttpLmsClient;
+import com.elevate.consultingplatform.service.lms.impl.InMemoryLmsClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * LMS wiring by {@code app.lms.mode}:
+ * <ul>
+ *     <li>{@code stub} (default): the logging {@code LmsGatewayStub} only</li>
+ *     <li>{@code memory}: dispatching gateway over {@link InMemoryLmsClient}, for local runs</li>
+ *     <li>{@code http}: dispatching gateway over {@link HttpLmsClient} at {@code app.lms.base-url}</li>
+ * </ul>
+ * A deployment that sets nothing keeps the stub rather than silently dropping enrollments into memory.
+ */
+@Configuration
+@ConditionalOnExpression("'${app.lms.mode:stub}' != 'stub'")
+public class LmsConfig {
+
+    @Bean
+    public LmsClient lmsClient(@Value("${app.lms.mode}") String mode,
+                               @Value("${app.lms.base-url:}") String baseUrl,
+                               @Value("${app.lms.api-key:}") String apiKey,
+                               @Value("${app.lms.connect-timeout-ms:2000}") long connectTimeoutMs,
+                               @Value("${app.lms.request-timeout-ms:5000}") long requestTimeoutMs,
+                               ObjectMapper objectMapper) {
+        Duration connectTimeout = Duration.ofMillis(connectTimeoutMs);
+        Duration requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        return switch (mode) {
+            case "memory" -> new InMemoryLmsClient();
+            case "http" -> {
+                if (baseUrl.isBlank()) {
+                    throw new IllegalStateException("app.lms.base-url is required when app.lms.mode=http");
+                }
+                yield new HttpLmsClient(baseUrl, apiKey, connectTimeout, requestTimeout, objectMapper);
+            }
+            default -> throw new IllegalStateException("Unknown app.lms.mode: " + mode);
+        };
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public DispatchingLmsGateway lmsGateway(LmsClient lmsClient,
+                                            @Value("${app.lms.queue-capacity:10000}") int queueCapacity,
+                                            @Value("${app.lms.max-batch-size:500}") int maxBatchSize,
+                                            @Value("${app.lms.max-attempts:6}") int maxAttempts,
+                                            @Value("${app.lms.backoff-ms:2000}") long backoffMs,
+                                            @Value("${app.lms.max-backoff-ms:300000}") long maxBackoffMs,
+                                            @Value("${app.lms.flush-interval-ms:1000}") long flushIntervalMs,
+                                            @Value("${app.lms.breaker.failure-threshold:5}") int failureThreshold,
+                                            @Value("${app.lms.breaker.open-ms:30000}") long openMs,
+                                            @Value("${app.lms.launch-url.ttl-seconds:600}") long launchUrlTtlSeconds,
+                                            @Value("${app.lms.launch-url.max-size:50000}") long launchUrlMaxSize) {
+        return new DispatchingLmsGateway(lmsClient,
+                new CircuitBreaker(failureThreshold, Duration.ofMillis(openMs)),
+                queueCapacity, maxBatchSize, maxAttempts,
+                Duration.ofMillis(backoffMs), Duration.ofMillis(maxBackoffMs), Duration.ofMillis(flushIntervalMs),
+                Duration.ofSeconds(launchUrlTtlSeconds), launchUrlMaxSize);
+    }
+}
@@ -0,0 +1,40 @@
+package com.elevate.consultingplatform.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Runs the {@code @Scheduled} jobs (write-behind flushes, reconcilers, rebalancing, bucket sweeps) on their
+ * own small pool, so a slow reconcile no longer holds up the last-login flush queued behind it on the
+ * single default scheduler thread. The pool is kept out of the context so it does not stand in for the
+ * application task executor.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    @Value("${app.scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduled-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        taskScheduler.setAwaitTerminationSeconds(30);
+        taskScheduler.initialize();
+        registrar.setTaskScheduler(taskScheduler);
+    }
+
+    @Override
+    public void destroy() {
+        taskScheduler.shutdown();
+    }
+}
@@ -1,15 +1,20 @@
 package com.elevate.consultingplatform.controller;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
 import com.elevate.consultingplatform.dto.user.UserResponse;
 import com.elevate.consultingplatform.service.AdminClientService;
+import com.elevate.consultingplatform.service.assessment.transfer.TransferFormat;
+import com.elevate.consultingplatform.service.client.ClientExporter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,12 +27,30 @@ import org.springframework.data.domain.Sort;
 public class AdminClientController {
 
     private final AdminClientService adminClientService;
+    private final ClientExporter clientExporter;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "List all clients")
-    public ResponseEntity<List<UserResponse>> list() {
-        return ResponseEntity.ok(adminClientService.getAllClients());
+    @Operation(summary = "List clients, one keyset page at a time")
+    public ResponseEntity<KeysetPageResponse<UserResponse>> list(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(adminClientService.pageClients(cursor, limit));
+    }
+
+    // Every client in one response, streamed as it is read
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export all clients as CSV or JSON Lines")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "jsonl") String format) {
+        TransferFormat transferFormat = TransferFormat.resolve(format, null);
+        StreamingResponseBody body = out -> clientExporter.export(transferFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(transferFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"clients." + transferFormat.extension() + "\"")
+                .body(body);
     }
 
     @GetMapping("/search")
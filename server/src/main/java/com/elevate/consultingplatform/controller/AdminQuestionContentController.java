@@ -1,5 +1,6 @@
 package com.elevate.consultingplatform.controller;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
 import com.elevate.consultingplatform.dto.questionnaire.admin.OptionSummaryDto;
 import com.elevate.consultingplatform.dto.questionnaire.admin.QuestionSummaryDto;
 import com.elevate.consultingplatform.dto.questionnaire.admin.SegmentUpsertRequest;
@@ -11,6 +12,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/admin/questionnaire")
@@ -26,6 +28,20 @@ public class AdminQuestionContentController {
         return ResponseEntity.ok(adminService.listQuestions(segmentId));
     }
 
+    @GetMapping("/segments/{segmentId}/questions/page")
+    public ResponseEntity<KeysetPageResponse<QuestionSummaryDto>> pageQuestions(@PathVariable Long segmentId,
+                                                                               @RequestParam(required = false) String q,
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(adminService.pageQuestions(segmentId, q, cursor, limit));
+    }
+
+    @GetMapping("/segments/{segmentId}/questions/count")
+    public ResponseEntity<Map<String, Long>> countQuestions(@PathVariable Long segmentId,
+                                                            @RequestParam(required = false) String q) {
+        return ResponseEntity.ok(Map.of("count", adminService.countQuestions(segmentId, q)));
+    }
+
     @PostMapping("/segments/{segmentId}/questions")
     public ResponseEntity<QuestionSummaryDto> createQuestion(@PathVariable Long segmentId, @RequestBody QuestionSummaryDto req) {
         return ResponseEntity.ok(adminService.createQuestion(segmentId, req.getText(), req.getWeight(), req.getOrder()));
@@ -9,6 +9,9 @@ import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.exception.EmailAlreadyExistsException;
 import com.elevate.consultingplatform.repository.UserRepository;
 import com.elevate.consultingplatform.security.JwtService;
+import com.elevate.consultingplatform.security.ratelimit.AuthEndpoint;
+import com.elevate.consultingplatform.security.ratelimit.AuthRateLimiter;
+import com.elevate.consultingplatform.security.ratelimit.ClientAddressResolver;
 import com.elevate.consultingplatform.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,21 +36,33 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final AuthRateLimiter authRateLimiter;
+    private final ClientAddressResolver clientAddressResolver;
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user")
     public ResponseEntity<AuthenticationResponse> register(
-            @Valid @RequestBody RegisterRequest request
+            @Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest
     ) {
+        authRateLimiter.check(AuthEndpoint.REGISTER, clientAddressResolver.resolve(httpRequest), request.getEmail());
         return ResponseEntity.ok(authService.register(request));
     }
 
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and get JWT token")
     public ResponseEntity<AuthenticationResponse> authenticate(
-            @Valid @RequestBody AuthenticationRequest request
+            @Valid @RequestBody AuthenticationRequest request,
+            HttpServletRequest httpRequest
     ) {
-        return ResponseEntity.ok(authService.authenticate(request));
+        // Shed credential-stuffing traffic before it costs a BCrypt verification
+        authRateLimiter.check(AuthEndpoint.LOGIN, clientAddressResolver.resolve(httpRequest), request.getEmail());
+        try {
+            return ResponseEntity.ok(authService.authenticate(request));
+        } catch (AuthenticationException e) {
+            authRateLimiter.recordFailure(AuthEndpoint.LOGIN, request.getEmail());
+            throw e;
+        }
     }
 
     @PostMapping("/admin/register")
@@ -92,6 +108,7 @@ public class AuthController {
     public ResponseEntity<AuthenticationResponse> refreshToken(
             HttpServletRequest request
     ) {
+        authRateLimiter.check(AuthEndpoint.REFRESH_TOKEN, clientAddressResolver.resolve(request), null);
         String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             throw new IllegalArgumentException("Invalid refresh token");
@@ -111,8 +128,10 @@ public class AuthController {
     @PostMapping("/forgot-password")
     @Operation(summary = "Request password reset")
     public ResponseEntity<Void> forgotPassword(
-            @RequestParam String email
+            @RequestParam String email,
+            HttpServletRequest httpRequest
     ) {
+        authRateLimiter.check(AuthEndpoint.FORGOT_PASSWORD, clientAddressResolver.resolve(httpRequest), email);
         authService.forgotPassword(email);
         return ResponseEntity.ok().build();
     }
@@ -1,6 +1,7 @@
 package com.elevate.consultingplatform.controller.admin;
 
 import com.elevate.consultingplatform.dto.assessment.AssignAssessmentRequest;
+import com.elevate.consultingplatform.dto.assessment.AssignmentResultResponse;
 import com.elevate.consultingplatform.dto.assessment.CreateAssessmentRequest;
 import com.elevate.consultingplatform.dto.assessment.UpdateAssessmentRequest;
 import com.elevate.consultingplatform.entity.assessment.Assessment;
@@ -34,9 +35,19 @@ public class AdminAssessmentController {
     }
 
     @PostMapping("/{assessmentId}/assign")
-    public ResponseEntity<Void> assign(@PathVariable Long assessmentId, @RequestBody AssignAssessmentRequest req) {
-        assessmentAdminService.assignToClients(assessmentId, req.getClientIds(), req.getDueDate());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<AssignmentResultResponse> assign(@PathVariable Long assessmentId, @RequestBody AssignAssessmentRequest req) {
+        AssignmentResultResponse result = assessmentAdminService.assignToClients(assessmentId, req.getClientIds(), req.getDueDate());
+        if (result.getJobId() != null) {
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/admin/assessments/assignment-jobs/" + result.getJobId()))
+                    .body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/assignment-jobs/{jobId}")
+    public ResponseEntity<AssignmentResultResponse> assignmentProgress(@PathVariable String jobId) {
+        return ResponseEntity.ok(assessmentAdminService.getAssignmentProgress(jobId));
     }
 
     @PutMapping("/{assessmentId}")
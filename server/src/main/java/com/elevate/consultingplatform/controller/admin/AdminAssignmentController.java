@@ -1,6 +1,8 @@
 package com.elevate.consultingplatform.controller.admin;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
 import com.elevate.consultingplatform.dto.training.CreateAssignmentRequest;
+import com.elevate.consultingplatform.dto.training.ModuleAssignmentProgressResponse;
 import com.elevate.consultingplatform.service.training.AssignmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,4 +22,19 @@ public class AdminAssignmentController {
         Long id = assignmentService.createAssignment(req);
         return ResponseEntity.created(URI.create("/api/v1/admin/assignments/" + id)).build();
     }
+
+    // e.g. who has finished module X: ?status=COMPLETED (the default)
+    @GetMapping("/modules/{moduleId}/assignments")
+    public ResponseEntity<KeysetPageResponse<ModuleAssignmentProgressResponse>> moduleProgress(
+            @PathVariable Long moduleId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(assignmentService.listModuleProgress(moduleId, status, cursor, limit));
+    }
+
+    @PostMapping("/assignments/reconcile")
+    public ResponseEntity<Integer> reconcileProgress() {
+        return ResponseEntity.ok(assignmentService.reconcileProgress());
+    }
 }
@@ -4,8 +4,13 @@ import com.elevate.consultingplatform.dto.catalog.CreateModuleRequest;
 import com.elevate.consultingplatform.dto.catalog.CreateSegmentRequest;
 import com.elevate.consultingplatform.dto.catalog.CreateStageRequest;
 import com.elevate.consultingplatform.dto.catalog.ModuleTreeResponse;
+import com.elevate.consultingplatform.dto.catalog.MoveRequest;
 import com.elevate.consultingplatform.dto.catalog.ReorderRequest;
+import com.elevate.consultingplatform.repository.OrderedTable;
+import com.elevate.consultingplatform.service.assessment.version.QuestionnaireVersionService;
 import com.elevate.consultingplatform.service.catalog.CatalogService;
+import com.elevate.consultingplatform.service.ordering.OrderMove;
+import com.elevate.consultingplatform.service.ordering.OrderingService;
 import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +18,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -22,6 +29,8 @@ import java.util.List;
 public class AdminCatalogController {
 
     private final CatalogService catalogService;
+    private final OrderingService orderingService;
+    private final QuestionnaireVersionService versionService;
 
     @GetMapping("/modules/tree")
     public ResponseEntity<List<ModuleTreeResponse>> getModuleTree() {
@@ -52,6 +61,28 @@ public class AdminCatalogController {
         return ResponseEntity.accepted().build();
     }
 
+    // Drag-and-drop moves of any ordered item (catalog or questionnaire), applied in order in one transaction
+    @PostMapping("/moves")
+    public ResponseEntity<Void> move(@Valid @RequestBody MoveRequest req) {
+        List<OrderMove> moves = req.getItems().stream()
+                .map(it -> new OrderMove(OrderedTable.fromType(it.getType()), it.getId(), it.getAfterId()))
+                .toList();
+        // Published questionnaire versions are frozen, their order included
+        Set<Long> questionIds = new HashSet<>();
+        Set<Long> optionIds = new HashSet<>();
+        for (OrderMove move : moves) {
+            if (move.getTable() == OrderedTable.QUESTIONS) {
+                questionIds.add(move.getId());
+            } else if (move.getTable() == OrderedTable.OPTIONS) {
+                optionIds.add(move.getId());
+            }
+        }
+        versionService.requireDraftQuestions(questionIds);
+        versionService.requireDraftOptions(optionIds);
+        orderingService.moveAll(moves);
+        return ResponseEntity.noContent().build();
+    }
+
     @PutMapping("/modules/{id}")
     public ResponseEntity<Void> updateModule(@PathVariable Long id, @Valid @RequestBody CreateModuleRequest req) {
         catalogService.updateModule(id, req);
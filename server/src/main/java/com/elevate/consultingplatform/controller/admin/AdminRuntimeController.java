@@ -0,0 +1,70 @@
+package com.elevate.consultingplatform.controller.admin;
+
+import com.elevate.consultingplatform.dto.admin.CacheStatsResponse;
+import com.elevate.consultingplatform.dto.admin.RateLimitStatsResponse;
+import com.elevate.consultingplatform.dto.admin.ReconciliationStatsResponse;
+import com.elevate.consultingplatform.dto.admin.WorkerPoolStatsResponse;
+import com.elevate.consultingplatform.dto.admin.WriteBehindStatsResponse;
+import com.elevate.consultingplatform.security.LastLoginWriteBehind;
+import com.elevate.consultingplatform.security.PasswordHashingService;
+import com.elevate.consultingplatform.security.UserDetailsCache;
+import com.elevate.consultingplatform.security.ratelimit.AuthRateLimiter;
+import com.elevate.consultingplatform.service.assessment.impl.RunningScoreReconciler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/runtime")
+@Tag(name = "Admin - Runtime", description = "In-process cache and worker statistics")
+@RequiredArgsConstructor
+public class AdminRuntimeController {
+
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordHashingService passwordHashingService;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
+    private final AuthRateLimiter authRateLimiter;
+    private final RunningScoreReconciler runningScoreReconciler;
+
+    @GetMapping("/user-cache")
+    @Operation(summary = "User details cache hit/miss/eviction counters")
+    public ResponseEntity<CacheStatsResponse> userCache() {
+        return ResponseEntity.ok(userDetailsCache.stats());
+    }
+
+    @GetMapping("/password-hashing")
+    @Operation(summary = "BCrypt worker pool queue depth and rejection counters")
+    public ResponseEntity<WorkerPoolStatsResponse> passwordHashing() {
+        return ResponseEntity.ok(passwordHashingService.stats());
+    }
+
+    @GetMapping("/last-login")
+    @Operation(summary = "Last-login write-behind buffer size and flush lag")
+    public ResponseEntity<WriteBehindStatsResponse> lastLogin() {
+        return ResponseEntity.ok(lastLoginWriteBehind.stats());
+    }
+
+    @GetMapping("/auth-rate-limits")
+    @Operation(summary = "Rejected request counters of the auth endpoint rate limiter")
+    public ResponseEntity<RateLimitStatsResponse> authRateLimits() {
+        return ResponseEntity.ok(authRateLimiter.stats());
+    }
+
+    @GetMapping("/running-scores")
+    @Operation(summary = "Running score reconciliation counters")
+    public ResponseEntity<ReconciliationStatsResponse> runningScores() {
+        return ResponseEntity.ok(runningScoreReconciler.stats());
+    }
+
+    @PostMapping("/running-scores/reconcile")
+    @Operation(summary = "Verify every running score against a full recompute now")
+    public ResponseEntity<ReconciliationStatsResponse> reconcileRunningScores() {
+        runningScoreReconciler.reconcile();
+        return ResponseEntity.ok(runningScoreReconciler.stats());
+    }
+}
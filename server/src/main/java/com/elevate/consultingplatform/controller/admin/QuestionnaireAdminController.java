@@ -2,18 +2,31 @@ package com.elevate.consultingplatform.controller.admin;
 
 import com.elevate.consultingplatform.dto.assessment.CreateQuestionRequest;
 import com.elevate.consultingplatform.dto.assessment.CreateQuestionnaireRequest;
+import com.elevate.consultingplatform.dto.assessment.QuestionnaireImportResponse;
+import com.elevate.consultingplatform.dto.assessment.QuestionnaireVersionResponse;
 import com.elevate.consultingplatform.entity.assessment.Question;
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
 import com.elevate.consultingplatform.repository.assessment.QuestionRepository;
 import com.elevate.consultingplatform.repository.assessment.QuestionnaireRepository;
 import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireContentChangedEvent;
+import com.elevate.consultingplatform.service.assessment.transfer.QuestionnaireExporter;
+import com.elevate.consultingplatform.service.assessment.transfer.QuestionnaireImporter;
+import com.elevate.consultingplatform.service.assessment.transfer.TransferFormat;
+import com.elevate.consultingplatform.service.assessment.version.QuestionnaireVersionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 
@@ -25,6 +38,10 @@ public class QuestionnaireAdminController {
 
     private final QuestionnaireRepository questionnaireRepository;
     private final QuestionRepository questionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuestionnaireImporter questionnaireImporter;
+    private final QuestionnaireExporter questionnaireExporter;
+    private final QuestionnaireVersionService versionService;
 
     // List all questionnaires
     @GetMapping
@@ -51,18 +68,35 @@ public class QuestionnaireAdminController {
         return ResponseEntity.ok(questionRepository.findByQuestionnaireOrderByIdAsc(q));
     }
 
-    // Create questionnaire
+    // Create questionnaire (first version, as a draft)
     @PostMapping
     @Operation(summary = "Create questionnaire")
     public ResponseEntity<Long> createQuestionnaire(@Valid @RequestBody CreateQuestionnaireRequest req) {
-        Questionnaire q = Questionnaire.builder()
-                .name(req.getName())
-                .version(req.getVersion())
-                .build();
-        Long id = questionnaireRepository.save(q).getId();
+        Long id = versionService.create(req.getName(), req.getVersion()).getId();
         return ResponseEntity.created(URI.create("/api/v1/admin/questionnaire/" + id)).body(id);
     }
 
+    // Versions
+    @GetMapping("/{id}/versions")
+    @Operation(summary = "List all versions of the questionnaire")
+    public ResponseEntity<List<QuestionnaireVersionResponse>> listVersions(@PathVariable Long id) {
+        return ResponseEntity.ok(versionService.versions(id));
+    }
+
+    @PostMapping("/{id}/publish")
+    @Operation(summary = "Publish a draft version; it becomes read-only and is used for new assignments")
+    public ResponseEntity<QuestionnaireVersionResponse> publish(@PathVariable Long id) {
+        return ResponseEntity.ok(versionService.publish(id));
+    }
+
+    @PostMapping("/{id}/drafts")
+    @Operation(summary = "Start a new draft version copied from this version")
+    public ResponseEntity<QuestionnaireVersionResponse> newDraft(@PathVariable Long id,
+                                                                 @RequestParam(required = false) String version) {
+        QuestionnaireVersionResponse draft = versionService.newDraft(id, version);
+        return ResponseEntity.created(URI.create("/api/v1/admin/questionnaire/" + draft.getId())).body(draft);
+    }
+
     // Update questionnaire
     @PutMapping("/{id}")
     @Operation(summary = "Update questionnaire")
@@ -70,6 +104,7 @@ public class QuestionnaireAdminController {
                                                     @Valid @RequestBody CreateQuestionnaireRequest req) {
         Questionnaire q = questionnaireRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Questionnaire not found"));
+        versionService.requireDraft(id);
         if (req.getName() != null) q.setName(req.getName());
         if (req.getVersion() != null) q.setVersion(req.getVersion());
         questionnaireRepository.save(q);
@@ -80,7 +115,9 @@ public class QuestionnaireAdminController {
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete questionnaire")
     public ResponseEntity<Void> deleteQuestionnaire(@PathVariable Long id) {
+        versionService.requireDraft(id);
         questionnaireRepository.deleteById(id);
+        eventPublisher.publishEvent(QuestionnaireContentChangedEvent.removed(id));
         return ResponseEntity.noContent().build();
     }
 
@@ -90,6 +127,7 @@ public class QuestionnaireAdminController {
     public ResponseEntity<Long> createQuestion(@Valid @RequestBody CreateQuestionRequest req) {
         Questionnaire q = questionnaireRepository.findById(req.getQuestionnaireId())
                 .orElseThrow(() -> new ResourceNotFoundException("Questionnaire not found"));
+        versionService.requireDraft(q.getId());
         Question question = Question.builder()
                 .questionnaire(q)
                 .text(req.getText())
@@ -104,6 +142,7 @@ public class QuestionnaireAdminController {
             question.setSegment(seg);
         }
         Long id = questionRepository.save(question).getId();
+        eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(q.getId()));
         return ResponseEntity.created(URI.create("/api/v1/admin/questionnaire/questions/" + id)).body(id);
     }
 
@@ -114,9 +153,12 @@ public class QuestionnaireAdminController {
                                                @Valid @RequestBody CreateQuestionRequest req) {
         Question question = questionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Question not found"));
+        Long previousQuestionnaireId = question.getQuestionnaire().getId();
+        versionService.requireDraft(previousQuestionnaireId);
         if (req.getQuestionnaireId() != null) {
             Questionnaire q = questionnaireRepository.findById(req.getQuestionnaireId())
                     .orElseThrow(() -> new ResourceNotFoundException("Questionnaire not found"));
+            versionService.requireDraft(q.getId());
             question.setQuestionnaire(q);
         }
         if (req.getSegmentId() != null) {
@@ -130,6 +172,10 @@ public class QuestionnaireAdminController {
         if (req.getType() != null) question.setType(req.getType());
         if (req.getOptionsJson() != null) question.setOptionsJson(req.getOptionsJson());
         questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(previousQuestionnaireId));
+        if (!previousQuestionnaireId.equals(question.getQuestionnaire().getId())) {
+            eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(question.getQuestionnaire().getId()));
+        }
         return ResponseEntity.noContent().build();
     }
 
@@ -137,7 +183,36 @@ public class QuestionnaireAdminController {
     @DeleteMapping("/questions/{id}")
     @Operation(summary = "Delete question")
     public ResponseEntity<Void> deleteQuestion(@PathVariable Long id) {
+        versionService.requireDraftQuestion(id);
+        var questionnaireId = questionRepository.findQuestionnaireIdById(id);
         questionRepository.deleteById(id);
+        questionnaireId.ifPresent(qid -> eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(qid)));
         return ResponseEntity.noContent().build();
     }
+
+    // Bulk import: request body is CSV or JSON Lines, parsed and written incrementally
+    @PostMapping("/{id}/import")
+    @Operation(summary = "Append questions from CSV or JSON Lines")
+    public ResponseEntity<QuestionnaireImportResponse> importQuestions(@PathVariable Long id,
+                                                                       @RequestParam(required = false) String format,
+                                                                       @RequestParam(defaultValue = "false") boolean dryRun,
+                                                                       HttpServletRequest request) throws IOException {
+        TransferFormat transferFormat = TransferFormat.resolve(format, request.getContentType());
+        return ResponseEntity.ok(questionnaireImporter.importQuestions(id, request.getInputStream(), transferFormat, dryRun));
+    }
+
+    // Bulk export in the import format, streamed as it is read
+    @GetMapping("/{id}/export")
+    @Operation(summary = "Export questions as CSV or JSON Lines")
+    public ResponseEntity<StreamingResponseBody> exportQuestions(@PathVariable Long id,
+                                                                 @RequestParam(defaultValue = "jsonl") String format) {
+        TransferFormat transferFormat = TransferFormat.resolve(format, null);
+        questionnaireExporter.checkExists(id);
+        StreamingResponseBody body = out -> questionnaireExporter.export(id, transferFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(transferFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"questionnaire-" + id + "." + transferFormat.extension() + "\"")
+                .body(body);
+    }
 }
@@ -0,0 +1,46 @@
+package com.elevate.consultingplatform.controller.admin;
+
+import com.elevate.consultingplatform.dto.admin.RescoreJobResponse;
+import com.elevate.consultingplatform.service.assessment.rescore.RescoreJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/rescore-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Admin - Re-scoring", description = "Recompute stored attempt and client assessment scores in the background")
+public class RescoreJobAdminController {
+
+    private final RescoreJobService rescoreJobService;
+
+    @PostMapping
+    @Operation(summary = "Start re-scoring stored results, for one questionnaire or all")
+    public ResponseEntity<RescoreJobResponse> start(@RequestParam(name = "questionnaireId", required = false) Long questionnaireId) {
+        RescoreJobResponse job = rescoreJobService.start(questionnaireId);
+        return ResponseEntity.accepted().location(URI.create("/api/v1/admin/rescore-jobs/" + job.getId())).body(job);
+    }
+
+    @GetMapping
+    @Operation(summary = "Most recent re-scoring jobs")
+    public ResponseEntity<List<RescoreJobResponse>> list(@RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(rescoreJobService.recent(limit));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Progress and throughput of a re-scoring job")
+    public ResponseEntity<RescoreJobResponse> get(@PathVariable Long id) {
+        return ResponseEntity.ok(rescoreJobService.get(id));
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Stop a re-scoring job after its current chunk")
+    public ResponseEntity<RescoreJobResponse> cancel(@PathVariable Long id) {
+        return ResponseEntity.ok(rescoreJobService.cancel(id));
+    }
+}
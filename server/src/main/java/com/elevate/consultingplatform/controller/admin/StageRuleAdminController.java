@@ -1,6 +1,7 @@
 package com.elevate.consultingplatform.controller.admin;
 
 import com.elevate.consultingplatform.dto.assessment.CreateStageRuleRequest;
+import com.elevate.consultingplatform.dto.assessment.StageRuleDiagnosticsResponse;
 import com.elevate.consultingplatform.dto.assessment.UpdateStageRuleRequest;
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
 import com.elevate.consultingplatform.entity.assessment.StageRule;
@@ -9,6 +10,8 @@ import com.elevate.consultingplatform.exception.ResourceNotFoundException;
 import com.elevate.consultingplatform.repository.assessment.QuestionnaireRepository;
 import com.elevate.consultingplatform.repository.assessment.StageRuleRepository;
 import com.elevate.consultingplatform.repository.catalog.StageRepository;
+import com.elevate.consultingplatform.service.assessment.StageDeterminationService;
+import com.elevate.consultingplatform.service.assessment.stage.StageRuleIndexCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,8 @@ public class StageRuleAdminController {
     private final StageRuleRepository stageRuleRepository;
     private final QuestionnaireRepository questionnaireRepository;
     private final StageRepository stageRepository;
+    private final StageRuleIndexCache stageRuleIndexCache;
+    private final StageDeterminationService stageDeterminationService;
 
     @GetMapping
     @Operation(summary = "List stage rules for a questionnaire or global")
@@ -41,6 +46,12 @@ public class StageRuleAdminController {
         }
     }
 
+    @GetMapping("/diagnostics")
+    @Operation(summary = "Report overlapping, gapped or invalid score ranges of a questionnaire's (or the global) rules")
+    public ResponseEntity<StageRuleDiagnosticsResponse> diagnostics(@RequestParam(name = "questionnaireId", required = false) Long questionnaireId) {
+        return ResponseEntity.ok(stageDeterminationService.diagnose(questionnaireId));
+    }
+
     @PostMapping
     @Operation(summary = "Create stage rule")
     public ResponseEntity<Long> create(@RequestBody CreateStageRuleRequest req) {
@@ -59,6 +70,7 @@ public class StageRuleAdminController {
                 .priority(req.getPriority())
                 .build();
         Long id = stageRuleRepository.save(rule).getId();
+        stageRuleIndexCache.evictAll();
         return ResponseEntity.created(URI.create("/api/v1/admin/stage-rules/" + id)).body(id);
     }
 
@@ -80,6 +92,7 @@ public class StageRuleAdminController {
         rule.setTargetStage(target);
         rule.setPriority(req.getPriority());
         stageRuleRepository.save(rule);
+        stageRuleIndexCache.evictAll();
         return ResponseEntity.noContent().build();
     }
 
@@ -87,6 +100,7 @@ public class StageRuleAdminController {
     @Operation(summary = "Delete stage rule")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         stageRuleRepository.deleteById(id);
+        stageRuleIndexCache.evictAll();
         return ResponseEntity.noContent().build();
     }
 }
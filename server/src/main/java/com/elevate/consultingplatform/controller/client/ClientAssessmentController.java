@@ -1,10 +1,13 @@
 package com.elevate.consultingplatform.controller.client;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
+import com.elevate.consultingplatform.dto.assessment.ClientAssessmentListItem;
 import com.elevate.consultingplatform.dto.assessment.SaveAnswersRequest;
 import com.elevate.consultingplatform.security.UserDetailsImpl;
 import com.elevate.consultingplatform.entity.assessment.ClientAssessment;
 import com.elevate.consultingplatform.service.assessment.AssessmentClientService;
 import com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse;
+import com.elevate.consultingplatform.dto.assessment.ProvisionalScoreResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -37,6 +40,15 @@ public class ClientAssessmentController {
         return ResponseEntity.ok(assessmentClientService.listMyAssignments(userId));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPageResponse<ClientAssessmentListItem>> myAssessmentsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication auth) {
+        Long userId = currentUserId(auth);
+        return ResponseEntity.ok(assessmentClientService.listMyAssignmentsPage(userId, cursor, limit));
+    }
+
     @GetMapping("/{clientAssessmentId}")
     public ResponseEntity<ClientAssessment> getForFill(@PathVariable Long clientAssessmentId, Authentication auth) {
         Long userId = currentUserId(auth);
@@ -49,6 +61,12 @@ public class ClientAssessmentController {
         return ResponseEntity.ok(assessmentClientService.getDetails(clientAssessmentId, userId));
     }
 
+    @GetMapping("/{clientAssessmentId}/score")
+    public ResponseEntity<ProvisionalScoreResponse> getProvisionalScore(@PathVariable Long clientAssessmentId, Authentication auth) {
+        Long userId = currentUserId(auth);
+        return ResponseEntity.ok(assessmentClientService.getProvisionalScore(clientAssessmentId, userId));
+    }
+
     @PostMapping("/{clientAssessmentId}/answers")
     public ResponseEntity<Void> saveAnswers(@PathVariable Long clientAssessmentId,
                                             @RequestBody SaveAnswersRequest request,
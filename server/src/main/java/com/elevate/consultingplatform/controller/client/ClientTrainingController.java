@@ -1,6 +1,6 @@
 package com.elevate.consultingplatform.controller.client;
 
-import com.elevate.consultingplatform.dto.catalog.ModuleTreeResponse;
+import com.elevate.consultingplatform.dto.training.AssignedModuleResponse;
 import com.elevate.consultingplatform.dto.training.StageCompleteRequest;
 import com.elevate.consultingplatform.dto.training.StageStartResponse;
 import com.elevate.consultingplatform.service.training.ProgressService;
@@ -21,8 +21,8 @@ public class ClientTrainingController {
     private final ProgressService progressService;
 
     @GetMapping("/assigned")
-    @Operation(summary = "Get assigned training tree for current user")
-    public ResponseEntity<List<ModuleTreeResponse>> getAssigned() {
+    @Operation(summary = "Get assigned training tree for current user, with stage status and completion")
+    public ResponseEntity<List<AssignedModuleResponse>> getAssigned() {
         return ResponseEntity.ok(progressService.getAssignedTreeForCurrentUser());
     }
 
@@ -0,0 +1,19 @@
+package com.elevate.consultingplatform.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStatsResponse {
+    private boolean enabled;
+    private int trackedBuckets;
+    // Keyed by "<endpoint>.<dimension>", e.g. "LOGIN.per-email"
+    private Map<String, Long> rejected;
+}
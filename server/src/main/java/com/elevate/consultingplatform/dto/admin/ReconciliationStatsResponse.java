@@ -0,0 +1,24 @@
+package com.elevate.consultingplatform.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationStatsResponse {
+    private String name;
+    private long runs;
+    private long checked;
+    private long repaired;
+    private long failedRuns;
+    private long lastRunChecked;
+    private long lastRunRepaired;
+    private long lastRunDurationMs;
+    private Instant lastRunAt;
+}
@@ -0,0 +1,31 @@
+package com.elevate.consultingplatform.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoreJobResponse {
+    private Long id;
+    private Long questionnaireId; // null when every questionnaire is re-scored
+    private String status;        // QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    private String phase;         // ATTEMPTS, CLIENT_ASSESSMENTS, DONE
+    private long lastId;          // cursor within the current phase
+    private long attemptsScanned;
+    private long attemptsUpdated;
+    private long clientAssessmentsScanned;
+    private long clientAssessmentsUpdated;
+    private double itemsPerSecond; // scanned rows per second since the job started
+    private String requestedBy;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant updatedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,23 @@
+package com.elevate.consultingplatform.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerPoolStatsResponse {
+    private String name;
+    private int poolSize;
+    private int activeThreads;
+    private int queued;
+    private int queueCapacity;
+    private long submitted;
+    private long completed;
+    private long rejected;
+    // Gave up waiting; queued work is dropped before it runs
+    private long timedOut;
+}
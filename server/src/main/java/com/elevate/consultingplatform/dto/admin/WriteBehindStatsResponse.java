@@ -0,0 +1,27 @@
+package com.elevate.consultingplatform.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteBehindStatsResponse {
+    private String name;
+    private int pending;
+    private long recorded;
+    private long flushedRows;
+    private long failedFlushes;
+    // Age of the oldest record still waiting to be written
+    private long currentLagMs;
+    // Age of the oldest record at the moment the last flush started
+    private long lastFlushLagMs;
+    private long lastFlushRows;
+    private long lastFlushDurationMs;
+    private Instant lastFlushAt;
+}
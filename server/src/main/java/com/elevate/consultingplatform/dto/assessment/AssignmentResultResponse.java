@@ -0,0 +1,26 @@
+package com.elevate.consultingplatform.dto.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentResultResponse {
+    private String jobId;           // set when the assignment runs in the background
+    private Long assessmentId;
+    private String status;          // RUNNING, COMPLETED or FAILED
+    private int requested;          // distinct client ids in the request
+    private int processed;
+    private int assigned;           // new client assessments created
+    private int alreadyAssigned;
+    private int unknownClients;     // ids that match no user
+    private String errorMessage;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Data
@@ -14,6 +15,8 @@ import java.util.List;
 public class ClientAssessmentDetailsResponse {
     private Long clientAssessmentId;
     private String assessmentName;
+    // Sum of the selected option weights so far; becomes the score on submit
+    private BigDecimal provisionalScore;
     private List<QuestionDto> questions;
 
     @Data
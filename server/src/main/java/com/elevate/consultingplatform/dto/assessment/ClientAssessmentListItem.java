@@ -0,0 +1,27 @@
+package com.elevate.consultingplatform.dto.assessment;
+
+import com.elevate.consultingplatform.entity.assessment.AssessmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the client's assessment list; built directly by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientAssessmentListItem {
+    private Long id;
+    private String assessmentName;
+    private AssessmentStatus status;
+    private LocalDate dueDate;
+    private BigDecimal score;
+    private LocalDateTime submittedAt;
+}
@@ -0,0 +1,28 @@
+package com.elevate.consultingplatform.dto.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProvisionalScoreResponse {
+    private Long clientAssessmentId;
+    private BigDecimal total;
+    private List<SegmentScoreDto> segments;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SegmentScoreDto {
+        private Long segmentId; // null for questions without a segment
+        private BigDecimal score;
+    }
+}
@@ -0,0 +1,33 @@
+package com.elevate.consultingplatform.dto.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionnaireImportResponse {
+    private Long questionnaireId;
+    private boolean dryRun;
+    // False when unreadable input stopped the import; questions before it are kept
+    private boolean completed;
+    private int questionsImported;
+    private int optionsImported;
+    private int questionsRejected;
+    // At most the first 100 problems
+    private List<Problem> problems;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Problem {
+        private long line;
+        private String message;
+    }
+}
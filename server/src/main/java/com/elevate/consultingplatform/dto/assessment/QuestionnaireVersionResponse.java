@@ -0,0 +1,23 @@
+package com.elevate.consultingplatform.dto.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionnaireVersionResponse {
+    private Long id;
+    private Long familyId;
+    private Long basedOnId;
+    private String name;
+    private String version;
+    private String status; // DRAFT, PUBLISHED or ARCHIVED
+    private LocalDateTime createdAt;
+    private LocalDateTime publishedAt;
+}
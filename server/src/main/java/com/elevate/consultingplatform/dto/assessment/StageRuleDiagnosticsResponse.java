@@ -0,0 +1,34 @@
+package com.elevate.consultingplatform.dto.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StageRuleDiagnosticsResponse {
+    private Long questionnaireId; // null for the global rule set
+    private int ruleCount;
+    // True when the questionnaire has no rules of its own and the global set applies
+    private boolean fallsBackToGlobal;
+    private Double coveredFrom;
+    private Double coveredTo;
+    private List<Issue> issues;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Issue {
+        private String type; // OVERLAP, GAP or INVALID
+        private Double from;
+        private Double to;
+        private List<Long> ruleIds;
+        private String message;
+    }
+}
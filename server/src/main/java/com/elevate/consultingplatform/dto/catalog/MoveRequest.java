@@ -0,0 +1,31 @@
+package com.elevate.consultingplatform.dto.catalog;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveRequest {
+    @NotEmpty
+    @Valid
+    private List<MoveItem> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MoveItem {
+        @NotBlank
+        private String type; // modules | segments | stages | questions | options
+        @NotNull
+        private Long id;
+        private Long afterId; // sibling to place the item after; null places it first
+    }
+}
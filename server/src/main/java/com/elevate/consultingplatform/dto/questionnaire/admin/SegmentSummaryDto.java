@@ -11,4 +11,6 @@ public class SegmentSummaryDto {
     private Long id;
     private String name;
     private Integer order;
+    // Only filled in by the segment list
+    private Long questionCount;
 }
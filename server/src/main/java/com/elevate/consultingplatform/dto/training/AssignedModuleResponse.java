@@ -0,0 +1,63 @@
+package com.elevate.consultingplatform.dto.training;
+
+import com.elevate.consultingplatform.dto.catalog.ModuleTreeResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An assigned module: the shared catalog subtree plus the current user's progress on it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignedModuleResponse {
+    private ModuleTreeResponse module;
+    private String assignmentStatus;
+    private LocalDateTime assignedAt;
+    private LocalDateTime dueAt;
+    private ModuleProgress progress;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ModuleProgress {
+        private int completedStages;
+        private int totalStages; // active stages only
+        private int completionPercent;
+        @Builder.Default
+        private List<SegmentProgress> segments = new ArrayList<>();
+        @Builder.Default
+        private List<StageProgress> stages = new ArrayList<>();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SegmentProgress {
+        private Long segmentId;
+        private int completedStages;
+        private int totalStages;
+        private int completionPercent;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StageProgress {
+        private Long stageId;
+        private String status; // NOT_STARTED when the user has no progress on the stage
+        private Double score;
+        private LocalDateTime startedAt;
+        private LocalDateTime completedAt;
+    }
+}
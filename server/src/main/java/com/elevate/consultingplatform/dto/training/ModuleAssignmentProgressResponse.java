@@ -0,0 +1,24 @@
+package com.elevate.consultingplatform.dto.training;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModuleAssignmentProgressResponse {
+    private Long assignmentId;
+    private Long userId;
+    private String email;
+    private String status;
+    private int stagesTotal;
+    private int stagesStarted;
+    private int stagesCompleted;
+    private LocalDateTime lastActivityAt;
+    private LocalDateTime completedAt;
+}
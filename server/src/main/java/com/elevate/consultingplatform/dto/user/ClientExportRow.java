@@ -0,0 +1,43 @@
+package com.elevate.consultingplatform.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One client in the admin export, as a JSON Lines object or a CSV line. Leaves out credentials and
+ * free-text columns such as the bio.
+ */
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "first_name", "last_name", "email", "phone_number", "active", "email_verified",
+        "account_status", "city", "state", "country", "postal_code", "last_login", "created_at", "updated_at"})
+public class ClientExportRow {
+    private final long id;
+    @JsonProperty("first_name")
+    private final String firstName;
+    @JsonProperty("last_name")
+    private final String lastName;
+    private final String email;
+    @JsonProperty("phone_number")
+    private final String phoneNumber;
+    private final boolean active;
+    @JsonProperty("email_verified")
+    private final boolean emailVerified;
+    @JsonProperty("account_status")
+    private final String accountStatus;
+    private final String city;
+    private final String state;
+    private final String country;
+    @JsonProperty("postal_code")
+    private final String postalCode;
+    @JsonProperty("last_login")
+    private final LocalDateTime lastLogin;
+    @JsonProperty("created_at")
+    private final LocalDateTime createdAt;
+    @JsonProperty("updated_at")
+    private final LocalDateTime updatedAt;
+}
@@ -4,7 +4,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -45,6 +47,15 @@ public enum Role {
 
     private final Set<Permission> permissions;
 
+    // Resolved once per role so per-request principals can share the same immutable list
+    private static final Map<Role, List<SimpleGrantedAuthority>> GRANTED_AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : values()) {
+            GRANTED_AUTHORITIES.put(role, List.copyOf(role.getAuthorities()));
+        }
+    }
+
     public List<SimpleGrantedAuthority> getAuthorities() {
         var authorities = getPermissions()
                 .stream()
@@ -53,4 +64,8 @@ public enum Role {
         authorities.add(new SimpleGrantedAuthority("ROLE_" + this.name()));
         return authorities;
     }
+
+    public List<SimpleGrantedAuthority> getGrantedAuthorities() {
+        return GRANTED_AUTHORITIES.get(this);
+    }
 }
@@ -95,6 +95,10 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "account_status")
     private AccountStatus accountStatus = AccountStatus.PENDING_VERIFICATION;
 
+    // Copied into access tokens; bumping it makes every token issued earlier stale
+    @Column(name = "security_version", nullable = false)
+    private int securityVersion;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // Use Role.getAuthorities() which already includes permission authorities
@@ -127,6 +131,10 @@ public class User extends BaseEntity implements UserDetails {
         return isActive && isEmailVerified;
     }
 
+    public void bumpSecurityVersion() {
+        this.securityVersion++;
+    }
+
     public String getFullName() {
         return String.format("%s %s", firstName, lastName).trim();
     }
@@ -30,6 +30,12 @@ public class ClientAssessment extends BaseEntity {
     @JoinColumn(name = "assessment_id", nullable = false)
     private Assessment assessment;
 
+    // Questionnaire version current when assigned; later versions of the assessment's questionnaire do not affect it
+    @ManyToOne
+    @JoinColumn(name = "questionnaire_id")
+    @JsonIgnore
+    private Questionnaire questionnaire;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private AssessmentStatus status = AssessmentStatus.ASSIGNED;
@@ -45,4 +51,8 @@ public class ClientAssessment extends BaseEntity {
 
     @Column(name = "score", precision = 10, scale = 2)
     private BigDecimal score;
+
+    // Maintained in SQL on every answer save (see ClientAssessmentScoreRepository); never written through JPA
+    @Column(name = "running_score", precision = 14, scale = 4, insertable = false, updatable = false)
+    private BigDecimal runningScore;
 }
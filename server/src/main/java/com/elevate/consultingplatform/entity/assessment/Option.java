@@ -27,4 +27,7 @@ public class Option extends BaseEntity {
 
     @Column(name = "order_index")
     private Integer orderIndex;
+
+    @Column(name = "order_key", length = 64)
+    private String orderKey; // fractional sort key among siblings, see OrderKeys
 }
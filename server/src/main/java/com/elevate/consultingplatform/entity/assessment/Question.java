@@ -37,4 +37,10 @@ package com.elevate.consultingplatform.entity.assessment;
 
     @Column(name = "order_index")
     private Integer orderIndex;
+
+    @Column(name = "order_key", length = 64)
+    private String orderKey; // fractional sort key among siblings, see OrderKeys
+
+    @Column(name = "source_question_id", updatable = false)
+    private Long sourceQuestionId; // question of the previous version this one was cloned from
 }
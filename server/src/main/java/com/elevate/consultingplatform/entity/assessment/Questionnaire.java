@@ -4,6 +4,8 @@ import com.elevate.consultingplatform.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "questionnaires")
 @Getter
@@ -19,4 +21,20 @@ public class Questionnaire extends BaseEntity {
 
     @Column(name = "version", nullable = false)
     private String version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private QuestionnaireStatus status = QuestionnaireStatus.DRAFT;
+
+    // Id of the first version; shared by every version of the same questionnaire
+    @Column(name = "family_id")
+    private Long familyId;
+
+    // Version this one was cloned from, null for a first version
+    @Column(name = "based_on_id")
+    private Long basedOnId;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
 }
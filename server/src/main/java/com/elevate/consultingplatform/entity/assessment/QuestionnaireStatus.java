@@ -0,0 +1,7 @@
+package com.elevate.consultingplatform.entity.assessment;
+
+public enum QuestionnaireStatus {
+    DRAFT,      // editable, not assignable
+    PUBLISHED,  // frozen; the version new assignments get
+    ARCHIVED    // frozen; superseded, still read by assessments pinned to it
+}
@@ -9,7 +9,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_module_assignments")
+@Table(name = "user_module_assignments",
+        indexes = @Index(name = "idx_uma_module_status", columnList = "module_id, status"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,4 +36,23 @@ public class UserModuleAssignment extends BaseEntity {
 
     @Column(name = "due_at")
     private LocalDateTime dueAt;
+
+    // Roll-up of the user's stage progress in this module, maintained by AssignmentProgressUpdater
+    @Builder.Default
+    @Column(name = "stages_total", nullable = false, columnDefinition = "int default 0")
+    private Integer stagesTotal = 0;
+
+    @Builder.Default
+    @Column(name = "stages_started", nullable = false, columnDefinition = "int default 0")
+    private Integer stagesStarted = 0;
+
+    @Builder.Default
+    @Column(name = "stages_completed", nullable = false, columnDefinition = "int default 0")
+    private Integer stagesCompleted = 0;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
 }
@@ -0,0 +1,57 @@
+package com.elevate.consultingplatform.repository;
+
+import com.elevate.consultingplatform.dto.user.ClientExportRow;
+import com.elevate.consultingplatform.entity.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Streams client accounts for the admin export without going through the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClientExportRepository {
+
+    private static final String CLIENTS =
+            "SELECT id, first_name, last_name, email, phone_number, is_active, is_email_verified, account_status, "
+                    + "city, state, country, postal_code, last_login, created_at, updated_at "
+                    + "FROM users WHERE role = ? ORDER BY id";
+
+    private final StreamingQueries streamingQueries;
+
+    /**
+     * @return number of clients streamed
+     */
+    public long streamClients(Consumer<ClientExportRow> consumer) {
+        return streamingQueries.stream(CLIENTS, ClientExportRepository::map, consumer, Role.CLIENT.name());
+    }
+
+    private static ClientExportRow map(ResultSet rs, int rowNum) throws SQLException {
+        return new ClientExportRow(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getBoolean(6),
+                rs.getBoolean(7),
+                rs.getString(8),
+                rs.getString(9),
+                rs.getString(10),
+                rs.getString(11),
+                rs.getString(12),
+                toLocal(rs.getTimestamp(13)),
+                toLocal(rs.getTimestamp(14)),
+                toLocal(rs.getTimestamp(15)));
+    }
+
+    private static LocalDateTime toLocal(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+}
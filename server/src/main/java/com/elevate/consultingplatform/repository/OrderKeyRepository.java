@@ -0,0 +1,165 @@
+package com.elevate.consultingplatform.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes {@code order_key} for every {@link OrderedTable}. Sibling lists are small, so ordering
+ * logic runs in memory and only the changed keys are written back, all of them in one statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderKeyRepository {
+
+    // Keys first, then rows that have none yet in their legacy order
+    private static final String SIBLING_ORDER = " ORDER BY order_key IS NULL, order_key, order_index IS NULL, order_index, id";
+    private static final int WRITE_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public List<Sibling> findByIds(OrderedTable t, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query("SELECT " + columns(t) + " FROM " + t.table() + " WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), SIBLING_MAPPER);
+    }
+
+    /**
+     * Rows of the sibling list in display order; for {@link OrderedTable#MODULES} the group is ignored.
+     */
+    public List<Sibling> findSiblings(OrderedTable t, SiblingGroup group) {
+        return jdbcTemplate.query("SELECT " + columns(t) + " FROM " + t.table() + " WHERE " + groupFilter(t)
+                + SIBLING_ORDER, SIBLING_MAPPER, groupArgs(t, group));
+    }
+
+    public String findLastKey(OrderedTable t, SiblingGroup group) {
+        return jdbcTemplate.queryForObject("SELECT MAX(order_key) FROM " + t.table() + " WHERE " + groupFilter(t),
+                String.class, groupArgs(t, group));
+    }
+
+    /**
+     * Sibling lists that need new keys: some rows have none, some are too long, or two share one.
+     */
+    public List<SiblingGroup> findGroupsToRebalance(OrderedTable t, int maxKeyLength, int limit) {
+        String group = groupColumns(t);
+        return jdbcTemplate.query(
+                "SELECT scope_id, parent_id FROM ("
+                        + "SELECT " + group + " FROM " + t.table() + " WHERE order_key IS NULL OR LENGTH(order_key) > ? "
+                        + "UNION SELECT " + group + " FROM " + t.table() + " WHERE order_key IS NOT NULL "
+                        + "GROUP BY scope_id, parent_id, order_key HAVING COUNT(*) > 1"
+                        + ") candidates LIMIT ?",
+                (rs, i) -> SiblingGroup.of(rs.getObject("scope_id", Long.class), rs.getObject("parent_id", Long.class)),
+                maxKeyLength, limit);
+    }
+
+    /**
+     * Writes the given keys, and order indexes where given, with one {@code UPDATE ... CASE} per chunk.
+     */
+    public int assign(OrderedTable t, Map<Long, String> keys, Map<Long, Integer> orderIndexes) {
+        List<Long> ids = new ArrayList<>(keys.keySet());
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += WRITE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + WRITE_CHUNK));
+            StringBuilder sql = new StringBuilder("UPDATE ").append(t.table()).append(" SET order_key = CASE id");
+            List<Object> args = new ArrayList<>(chunk.size() * 5);
+            for (Long id : chunk) {
+                sql.append(" WHEN ? THEN ?");
+                args.add(id);
+                args.add(keys.get(id));
+            }
+            sql.append(" END");
+            if (chunk.stream().anyMatch(orderIndexes::containsKey)) {
+                sql.append(", order_index = CASE id");
+                for (Long id : chunk) {
+                    if (orderIndexes.containsKey(id)) {
+                        sql.append(" WHEN ? THEN ?");
+                        args.add(id);
+                        args.add(orderIndexes.get(id));
+                    }
+                }
+                sql.append(" ELSE order_index END");
+            }
+            sql.append(" WHERE id IN (").append(String.join(",", Collections.nCopies(chunk.size(), "?"))).append(')');
+            args.addAll(chunk);
+            updated += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return updated;
+    }
+
+    /**
+     * Questionnaires that own the given questions or options.
+     */
+    public List<Long> findQuestionnaireIds(OrderedTable t, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = switch (t) {
+            case QUESTIONS -> "SELECT DISTINCT questionnaire_id FROM assessment_questions WHERE id IN (:ids) AND questionnaire_id IS NOT NULL";
+            case OPTIONS -> "SELECT DISTINCT q.questionnaire_id FROM question_options o JOIN assessment_questions q ON q.id = o.question_id "
+                    + "WHERE o.id IN (:ids) AND q.questionnaire_id IS NOT NULL";
+            default -> throw new IllegalArgumentException(t + " rows do not belong to a questionnaire");
+        };
+        return namedJdbcTemplate.queryForList(sql, new MapSqlParameterSource("ids", ids), Long.class);
+    }
+
+    private static String columns(OrderedTable t) {
+        return "id, " + groupColumns(t) + ", order_key, order_index";
+    }
+
+    private static String groupColumns(OrderedTable t) {
+        return (t.scopeColumn() != null ? t.scopeColumn() : "NULL") + " AS scope_id, "
+                + (t.parentColumn() != null ? t.parentColumn() : "NULL") + " AS parent_id";
+    }
+
+    // <=> so that rows without a parent or scope form a list of their own
+    private static String groupFilter(OrderedTable t) {
+        List<String> parts = new ArrayList<>(2);
+        if (t.scopeColumn() != null) {
+            parts.add(t.scopeColumn() + " <=> ?");
+        }
+        if (t.parentColumn() != null) {
+            parts.add(t.parentColumn() + " <=> ?");
+        }
+        return parts.isEmpty() ? "TRUE" : String.join(" AND ", parts);
+    }
+
+    private static Object[] groupArgs(OrderedTable t, SiblingGroup group) {
+        List<Object> args = new ArrayList<>(2);
+        if (t.scopeColumn() != null) {
+            args.add(group.getScopeId());
+        }
+        if (t.parentColumn() != null) {
+            args.add(group.getParentId());
+        }
+        return args.toArray();
+    }
+
+    private static final RowMapper<Sibling> SIBLING_MAPPER = (rs, i) -> new Sibling(
+            rs.getLong("id"),
+            SiblingGroup.of(rs.getObject("scope_id", Long.class), rs.getObject("parent_id", Long.class)),
+            rs.getString("order_key"),
+            rs.getObject("order_index", Integer.class));
+
+    @Getter
+    @AllArgsConstructor
+    public static class Sibling {
+        private final long id;
+        private final SiblingGroup group;
+        private final String orderKey;
+        private final Integer orderIndex;
+    }
+}
@@ -0,0 +1,53 @@
+package com.elevate.consultingplatform.repository;
+
+/**
+ * Tables whose rows are ordered among their siblings by {@code order_key}. Siblings share the parent column
+ * and, where there is one, the scope column: questions of a segment are ordered per questionnaire version.
+ */
+public enum OrderedTable {
+    MODULES("modules", null, null),
+    SEGMENTS("segments", "module_id", null),
+    STAGES("stages", "segment_id", null),
+    QUESTIONS("assessment_questions", "segment_id", "questionnaire_id"),
+    OPTIONS("question_options", "question_id", null);
+
+    private final String table;
+    // null when all rows are siblings
+    private final String parentColumn;
+    // null when the parent alone defines the sibling list
+    private final String scopeColumn;
+
+    OrderedTable(String table, String parentColumn, String scopeColumn) {
+        this.table = table;
+        this.parentColumn = parentColumn;
+        this.scopeColumn = scopeColumn;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String parentColumn() {
+        return parentColumn;
+    }
+
+    public String scopeColumn() {
+        return scopeColumn;
+    }
+
+    /**
+     * Table for the API type name: {@code modules | segments | stages | questions | options}.
+     */
+    public static OrderedTable fromType(String type) {
+        for (OrderedTable t : values()) {
+            if (t.name().equalsIgnoreCase(type)) {
+                return t;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+
+    public boolean isCatalog() {
+        return this == MODULES || this == SEGMENTS || this == STAGES;
+    }
+}
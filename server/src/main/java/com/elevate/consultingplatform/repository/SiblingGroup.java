@@ -0,0 +1,28 @@
+package com.elevate.consultingplatform.repository;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One sibling list of an {@link OrderedTable}: the rows sharing a parent and, for tables that have one,
+ * a scope. Either part may be null (rows without a parent, tables without a parent or scope column).
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SiblingGroup {
+    private final Long scopeId;
+    private final Long parentId;
+
+    public static SiblingGroup of(Long parentId) {
+        return new SiblingGroup(null, parentId);
+    }
+
+    public static SiblingGroup of(Long scopeId, Long parentId) {
+        return new SiblingGroup(scopeId, parentId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.elevate.consultingplatform.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+/**
+ * Runs read queries whose rows are handed to a consumer as the driver reads them, so exports never hold a
+ * whole result in memory. The default fetch size {@code Integer.MIN_VALUE} makes MySQL Connector/J stream row
+ * by row; a positive {@code app.export.fetch-size} needs {@code useCursorFetch=true} on the URL instead.
+ * The connection is busy until the last row is consumed, so consumers must not run queries of their own.
+ */
+@Component
+public class StreamingQueries {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public StreamingQueries(JdbcTemplate jdbcTemplate,
+                            @Value("${app.export.fetch-size:-2147483648}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return number of rows consumed
+     */
+    public <T> long stream(String sql, RowMapper<T> mapper, Consumer<? super T> consumer, Object... args) {
+        Long rows = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, new ArgumentPreparedStatementSetter(args), rs -> {
+            int rowNum = 0;
+            while (rs.next()) {
+                consumer.accept(mapper.mapRow(rs, rowNum++));
+            }
+            return (long) rowNum;
+        });
+        return rows != null ? rows : 0L;
+    }
+}
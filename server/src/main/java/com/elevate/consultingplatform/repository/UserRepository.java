@@ -2,11 +2,14 @@ package com.elevate.consultingplatform.repository;
 
 import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.entity.Role;
+import com.elevate.consultingplatform.repository.projection.UserSecurityState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +18,13 @@ import org.springframework.data.domain.Pageable;
 public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.projection.UserSecurityState(u.securityVersion, u.isActive, u.isEmailVerified) "
+            + "FROM User u WHERE u.id = :id")
+    Optional<UserSecurityState> findSecurityStateById(@Param("id") Long id);
     
     Boolean existsByEmail(String email);
     
@@ -24,9 +34,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.isActive = true")
     Optional<User> findActiveById(@Param("id") Long id);
 
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
     @Query("SELECT u FROM User u WHERE u.role = :role AND (lower(u.email) LIKE lower(concat('%', :q, '%')) OR lower(u.firstName) LIKE lower(concat('%', :q, '%')) OR lower(u.lastName) LIKE lower(concat('%', :q, '%'))) ")
     Page<User> searchClients(@Param("role") Role role, @Param("q") String query, Pageable pageable);
 
+    // Keyset page by id; pass the last id of the previous page, or 0 for the first
+    @Query("SELECT u FROM User u WHERE u.role = :role AND u.id > :afterId ORDER BY u.id")
+    List<User> findPageByRole(@Param("role") Role role, @Param("afterId") long afterId, Pageable pageable);
+
     // Dashboard counts
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
     long countByRole(@Param("role") Role role);
@@ -2,7 +2,10 @@ package com.elevate.consultingplatform.repository.assessment;
 
 import com.elevate.consultingplatform.entity.assessment.Answer;
 import com.elevate.consultingplatform.entity.assessment.AssessmentAttempt;
+import com.elevate.consultingplatform.repository.assessment.projection.AttemptAnswerRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +13,8 @@ import java.util.List;
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByAttempt(AssessmentAttempt attempt);
+
+    @Query("select new com.elevate.consultingplatform.repository.assessment.projection.AttemptAnswerRow(a.question.id, a.value, a.score) " +
+            "from Answer a where a.attempt.id = :attemptId")
+    List<AttemptAnswerRow> findScoringRows(@Param("attemptId") Long attemptId);
 }
@@ -0,0 +1,140 @@
+package com.elevate.consultingplatform.repository.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based writes for client answers. Runs on the JDBC connection of the surrounding JPA transaction,
+ * so a whole autosave costs a constant number of statements regardless of question and option counts.
+ * Enable {@code rewriteBatchedStatements=true} on the MySQL URL to turn batches into multi-row statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssessmentAnswerBatchRepository {
+
+    private static final String UPSERT_ANSWER =
+            "INSERT INTO assessment_answers "
+                    + "(client_assessment_id, question_id, answer_text, created_at, updated_at, created_by, updated_by, is_active) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, TRUE) "
+                    + "ON DUPLICATE KEY UPDATE answer_text = VALUES(answer_text), "
+                    + "updated_at = VALUES(updated_at), updated_by = VALUES(updated_by)";
+
+    private static final String UPDATE_ANSWER =
+            "UPDATE assessment_answers SET answer_text = ?, updated_at = ?, updated_by = ? WHERE id = ?";
+
+    private static final String INSERT_OPTION_LINK =
+            "INSERT INTO assessment_answer_options (answer_id, option_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * questionId -> answerId for every answer already stored on the client assessment.
+     */
+    public Map<Long, Long> findAnswerIdsByQuestion(long clientAssessmentId) {
+        Map<Long, Long> answerIds = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT question_id, id FROM assessment_answers WHERE client_assessment_id = ?",
+                (RowCallbackHandler) rs -> answerIds.put(rs.getLong(1), rs.getLong(2)),
+                clientAssessmentId);
+        return answerIds;
+    }
+
+    /**
+     * questionId -> answerId restricted to the given questions (used to pick up ids of freshly inserted rows).
+     */
+    public Map<Long, Long> findAnswerIdsByQuestion(long clientAssessmentId, Collection<Long> questionIds) {
+        Map<Long, Long> answerIds = new HashMap<>();
+        if (questionIds.isEmpty()) {
+            return answerIds;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("caId", clientAssessmentId)
+                .addValue("questionIds", questionIds);
+        namedJdbcTemplate.query(
+                "SELECT question_id, id FROM assessment_answers "
+                        + "WHERE client_assessment_id = :caId AND question_id IN (:questionIds)",
+                params,
+                (RowCallbackHandler) rs -> answerIds.put(rs.getLong(1), rs.getLong(2)));
+        return answerIds;
+    }
+
+    /**
+     * Inserts new answers; a concurrent insert of the same question is folded into an update by uq_client_q.
+     */
+    public void insertAnswers(long clientAssessmentId, List<AnswerWrite> answers, String actor, Timestamp now) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(answers.size());
+        for (AnswerWrite answer : answers) {
+            args.add(new Object[]{clientAssessmentId, answer.getQuestionId(), answer.getAnswerText(), now, now, actor, actor});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ANSWER, args);
+    }
+
+    public void updateAnswers(List<AnswerWrite> answers, String actor, Timestamp now) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(answers.size());
+        for (AnswerWrite answer : answers) {
+            args.add(new Object[]{answer.getAnswerText(), now, actor, answer.getAnswerId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_ANSWER, args);
+    }
+
+    /**
+     * Option ids currently selected on the given answers, one entry per selection.
+     */
+    public List<Long> findSelectedOptionIds(Collection<Long> answerIds) {
+        if (answerIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.queryForList(
+                "SELECT option_id FROM assessment_answer_options WHERE answer_id IN (:answerIds)",
+                new MapSqlParameterSource("answerIds", answerIds),
+                Long.class);
+    }
+
+    /**
+     * Replaces the option selections of the given answers: one delete, one batched insert.
+     */
+    public void replaceOptionLinks(Collection<Long> answerIds, List<long[]> answerOptionPairs) {
+        if (answerIds.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update(
+                "DELETE FROM assessment_answer_options WHERE answer_id IN (:answerIds)",
+                new MapSqlParameterSource("answerIds", answerIds));
+        if (answerOptionPairs.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(answerOptionPairs.size());
+        for (long[] pair : answerOptionPairs) {
+            args.add(new Object[]{pair[0], pair[1]});
+        }
+        jdbcTemplate.batchUpdate(INSERT_OPTION_LINK, args);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AnswerWrite {
+        private final Long answerId;
+        private final Long questionId;
+        private final String answerText;
+    }
+}
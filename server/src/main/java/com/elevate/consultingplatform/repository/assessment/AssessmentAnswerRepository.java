@@ -3,7 +3,10 @@ package com.elevate.consultingplatform.repository.assessment;
 import com.elevate.consultingplatform.entity.assessment.AssessmentAnswer;
 import com.elevate.consultingplatform.entity.assessment.ClientAssessment;
 import com.elevate.consultingplatform.entity.assessment.Question;
+import com.elevate.consultingplatform.repository.assessment.projection.AnswerSelectionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,10 @@ import java.util.Optional;
 public interface AssessmentAnswerRepository extends JpaRepository<AssessmentAnswer, Long> {
     List<AssessmentAnswer> findByClientAssessment(ClientAssessment clientAssessment);
     Optional<AssessmentAnswer> findByClientAssessmentAndQuestion(ClientAssessment clientAssessment, Question question);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.AnswerSelectionRow("
+            + "a.question.id, a.answerText, l.id.optionId) "
+            + "FROM AssessmentAnswer a LEFT JOIN AssessmentAnswerOption l ON l.answer = a "
+            + "WHERE a.clientAssessment.id = :clientAssessmentId ORDER BY a.id, l.id.optionId")
+    List<AnswerSelectionRow> findSelectionRows(@Param("clientAssessmentId") Long clientAssessmentId);
 }
@@ -3,6 +3,8 @@ package com.elevate.consultingplatform.repository.assessment;
 import com.elevate.consultingplatform.entity.assessment.Assessment;
 import com.elevate.consultingplatform.entity.catalog.Stage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,10 @@ import java.util.List;
 @Repository
 public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
     List<Assessment> findByStageOrderByIdAsc(Stage stage);
+
+    // Any version of the questionnaire: assessments follow the published version, older versions keep scoring
+    @Query("select s.assessmentConfig from Assessment a join a.stage s " +
+            "where a.questionnaire.familyId = (select q.familyId from Questionnaire q where q.id = :questionnaireId) " +
+            "and s.assessmentConfig is not null order by a.id")
+    List<String> findStageConfigsByQuestionnaireId(@Param("questionnaireId") Long questionnaireId);
 }
@@ -0,0 +1,70 @@
+package com.elevate.consultingplatform.repository.assessment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based creation of client assessments for bulk assignment. Clients that already have the assessment are
+ * filtered out in the same statement rather than checked row by row; the unique {@code (client_id, assessment_id)}
+ * key only catches a concurrent assignment of the same pair.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClientAssessmentAssignmentRepository {
+
+    // Not INSERT IGNORE: that would also turn foreign-key and data errors into silently skipped rows
+    private static final String INSERT_MISSING =
+            "INSERT INTO client_assessments "
+                    + "(client_id, assessment_id, questionnaire_id, status, due_date, is_active, created_at, created_by) "
+                    + "SELECT u.id, a.id, a.questionnaire_id, 'ASSIGNED', :dueDate, TRUE, :now, :actor "
+                    + "FROM users u JOIN assessments a ON a.id = :assessmentId WHERE u.id IN (:clientIds) "
+                    + "AND NOT EXISTS (SELECT 1 FROM client_assessments ca "
+                    + "WHERE ca.client_id = u.id AND ca.assessment_id = a.id)";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * The given ids that belong to existing users.
+     */
+    public List<Long> findExistingUserIds(Collection<Long> userIds) {
+        return namedJdbcTemplate.queryForList("SELECT id FROM users WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", userIds), Long.class);
+    }
+
+    /**
+     * Assigns the assessment to every given client that does not have it yet, in one statement, pinning the
+     * questionnaire version the assessment points at.
+     *
+     * @return number of client assessments created
+     */
+    public int insertMissing(long assessmentId, Collection<Long> clientIds, LocalDate dueDate, String actor, Timestamp now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("assessmentId", assessmentId)
+                .addValue("dueDate", dueDate != null ? Date.valueOf(dueDate) : null)
+                .addValue("now", now)
+                .addValue("actor", actor)
+                .addValue("clientIds", clientIds);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return namedJdbcTemplate.update(INSERT_MISSING, params);
+            } catch (DuplicateKeyException e) {
+                // Another assignment inserted one of the pairs between our check and insert; the statement was
+                // rolled back on its own, so run it again against the rows that are there now
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -1,16 +1,36 @@
 package com.elevate.consultingplatform.repository.assessment;
 
+import com.elevate.consultingplatform.dto.assessment.ClientAssessmentListItem;
 import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.entity.assessment.Assessment;
 import com.elevate.consultingplatform.entity.assessment.ClientAssessment;
+import com.elevate.consultingplatform.repository.assessment.projection.ClientAssessmentHeader;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ClientAssessmentRepository extends JpaRepository<ClientAssessment, Long> {
     List<ClientAssessment> findByClientOrderByIdDesc(User client);
     List<ClientAssessment> findByAssessment(Assessment assessment);
     List<ClientAssessment> findByClientAndAssessment(User client, Assessment assessment);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.ClientAssessmentHeader("
+            + "ca.id, ca.client.id, a.name, qn.id, ca.runningScore) "
+            + "FROM ClientAssessment ca JOIN ca.assessment a LEFT JOIN a.questionnaire qn WHERE ca.id = :id")
+    Optional<ClientAssessmentHeader> findHeaderById(@Param("id") Long id);
+
+    // Newest first, strictly older than beforeId; the page size comes from the Pageable (no count query)
+    @Query("SELECT new com.elevate.consultingplatform.dto.assessment.ClientAssessmentListItem("
+            + "ca.id, a.name, ca.status, ca.dueDate, ca.score, ca.submittedAt) "
+            + "FROM ClientAssessment ca JOIN ca.assessment a "
+            + "WHERE ca.client.id = :clientId AND ca.id < :beforeId ORDER BY ca.id DESC")
+    List<ClientAssessmentListItem> findListItemsBefore(@Param("clientId") Long clientId,
+                                                       @Param("beforeId") Long beforeId,
+                                                       Pageable pageable);
 }
@@ -0,0 +1,196 @@
+package com.elevate.consultingplatform.repository.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Running score of a client assessment: {@code client_assessments.running_score} plus per-segment subtotals in
+ * {@code client_assessment_segment_scores} (segment 0 collects questions without a segment).
+ * Writers adjust both by the weight delta of the option selections they changed; the reconciler compares them
+ * against a full recompute and rebuilds any that drifted.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClientAssessmentScoreRepository {
+
+    public static final long UNSEGMENTED = 0L;
+
+    private static final String UPSERT_SEGMENT_DELTA =
+            "INSERT INTO client_assessment_segment_scores (client_assessment_id, segment_id, score) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE score = score + VALUES(score)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Row lock on the client assessment so concurrent saves of the same assessment apply their deltas in turn.
+     */
+    public void lockForScoring(long clientAssessmentId) {
+        jdbcTemplate.queryForList("SELECT id FROM client_assessments WHERE id = ? FOR UPDATE", Long.class, clientAssessmentId);
+    }
+
+    /**
+     * Adds the per-segment deltas to the subtotals and their sum to the running total.
+     */
+    public void applyDeltas(long clientAssessmentId, Map<Long, Double> deltaBySegment) {
+        double total = 0d;
+        List<Object[]> args = new ArrayList<>(deltaBySegment.size());
+        for (Map.Entry<Long, Double> delta : deltaBySegment.entrySet()) {
+            if (delta.getValue() == 0d) {
+                continue;
+            }
+            total += delta.getValue();
+            args.add(new Object[]{clientAssessmentId, delta.getKey(), delta.getValue()});
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SEGMENT_DELTA, args);
+        jdbcTemplate.update("UPDATE client_assessments SET running_score = running_score + ? WHERE id = ?",
+                total, clientAssessmentId);
+    }
+
+    public BigDecimal findRunningScore(long clientAssessmentId) {
+        List<BigDecimal> rows = jdbcTemplate.queryForList(
+                "SELECT running_score FROM client_assessments WHERE id = ?", BigDecimal.class, clientAssessmentId);
+        return rows.isEmpty() || rows.get(0) == null ? BigDecimal.ZERO : rows.get(0);
+    }
+
+    public List<SegmentScore> findSegmentScores(long clientAssessmentId) {
+        return jdbcTemplate.query(
+                "SELECT segment_id, score FROM client_assessment_segment_scores "
+                        + "WHERE client_assessment_id = ? ORDER BY segment_id",
+                (rs, i) -> new SegmentScore(rs.getLong(1), rs.getBigDecimal(2)),
+                clientAssessmentId);
+    }
+
+    // ---- reconciliation ----
+
+    /**
+     * Next page of client assessment ids (keyset on id) together with their stored running totals.
+     */
+    public Map<Long, BigDecimal> findRunningScoresAfter(long afterId, int limit) {
+        Map<Long, BigDecimal> scores = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, running_score FROM client_assessments WHERE id > ? ORDER BY id LIMIT ?",
+                (RowCallbackHandler) rs -> scores.put(rs.getLong(1), rs.getBigDecimal(2)),
+                afterId, limit);
+        return scores;
+    }
+
+    /**
+     * Same as {@link #findRunningScoresAfter(long, int)}, restricted to client assessments answering the
+     * questionnaire (pinned to it, or assigned before versioning through an assessment that points at it).
+     */
+    public Map<Long, BigDecimal> findRunningScoresAfter(long questionnaireId, long afterId, int limit) {
+        Map<Long, BigDecimal> scores = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT ca.id, ca.running_score FROM client_assessments ca "
+                        + "WHERE ca.id > ? AND (ca.questionnaire_id = ? OR (ca.questionnaire_id IS NULL "
+                        + "AND ca.assessment_id IN (SELECT id FROM assessments WHERE questionnaire_id = ?))) "
+                        + "ORDER BY ca.id LIMIT ?",
+                (RowCallbackHandler) rs -> scores.put(rs.getLong(1), rs.getBigDecimal(2)),
+                afterId, questionnaireId, questionnaireId, limit);
+        return scores;
+    }
+
+    /**
+     * clientAssessmentId -> segmentId -> stored subtotal.
+     */
+    public Map<Long, Map<Long, Double>> findSegmentScores(Collection<Long> clientAssessmentIds) {
+        Map<Long, Map<Long, Double>> scores = new HashMap<>();
+        if (clientAssessmentIds.isEmpty()) {
+            return scores;
+        }
+        namedJdbcTemplate.query(
+                "SELECT client_assessment_id, segment_id, score FROM client_assessment_segment_scores "
+                        + "WHERE client_assessment_id IN (:ids)",
+                new MapSqlParameterSource("ids", clientAssessmentIds),
+                (RowCallbackHandler) rs -> scores.computeIfAbsent(rs.getLong(1), id -> new HashMap<>())
+                        .put(rs.getLong(2), rs.getDouble(3)));
+        return scores;
+    }
+
+    /**
+     * clientAssessmentId -> segmentId -> full recompute of the selected option weights; assessments without
+     * selections are absent.
+     */
+    public Map<Long, Map<Long, Double>> recomputeSegmentScores(Collection<Long> clientAssessmentIds) {
+        Map<Long, Map<Long, Double>> scores = new HashMap<>();
+        if (clientAssessmentIds.isEmpty()) {
+            return scores;
+        }
+        namedJdbcTemplate.query(
+                "SELECT a.client_assessment_id, COALESCE(q.segment_id, 0), SUM(COALESCE(o.weight, 0)) "
+                        + "FROM assessment_answer_options l "
+                        + "JOIN assessment_answers a ON a.id = l.answer_id "
+                        + "JOIN assessment_questions q ON q.id = a.question_id "
+                        + "JOIN question_options o ON o.id = l.option_id "
+                        + "WHERE a.client_assessment_id IN (:ids) "
+                        + "GROUP BY a.client_assessment_id, COALESCE(q.segment_id, 0)",
+                new MapSqlParameterSource("ids", clientAssessmentIds),
+                (RowCallbackHandler) rs -> scores.computeIfAbsent(rs.getLong(1), id -> new HashMap<>())
+                        .put(rs.getLong(2), rs.getDouble(3)));
+        return scores;
+    }
+
+    /**
+     * clientAssessmentId -> full recompute of the selected option weights; assessments without selections are absent.
+     */
+    public Map<Long, Double> recomputeTotals(Collection<Long> clientAssessmentIds) {
+        Map<Long, Double> totals = new HashMap<>();
+        if (clientAssessmentIds.isEmpty()) {
+            return totals;
+        }
+        namedJdbcTemplate.query(
+                "SELECT a.client_assessment_id, SUM(COALESCE(o.weight, 0)) FROM assessment_answer_options l "
+                        + "JOIN assessment_answers a ON a.id = l.answer_id "
+                        + "JOIN question_options o ON o.id = l.option_id "
+                        + "WHERE a.client_assessment_id IN (:ids) GROUP BY a.client_assessment_id",
+                new MapSqlParameterSource("ids", clientAssessmentIds),
+                (RowCallbackHandler) rs -> totals.put(rs.getLong(1), rs.getDouble(2)));
+        return totals;
+    }
+
+    /**
+     * Replaces subtotals and total of one client assessment with a full recompute.
+     */
+    public void rebuild(long clientAssessmentId) {
+        lockForScoring(clientAssessmentId);
+        jdbcTemplate.update("DELETE FROM client_assessment_segment_scores WHERE client_assessment_id = ?", clientAssessmentId);
+        jdbcTemplate.update(
+                "INSERT INTO client_assessment_segment_scores (client_assessment_id, segment_id, score) "
+                        + "SELECT a.client_assessment_id, COALESCE(q.segment_id, 0), SUM(COALESCE(o.weight, 0)) "
+                        + "FROM assessment_answer_options l "
+                        + "JOIN assessment_answers a ON a.id = l.answer_id "
+                        + "JOIN assessment_questions q ON q.id = a.question_id "
+                        + "JOIN question_options o ON o.id = l.option_id "
+                        + "WHERE a.client_assessment_id = ? GROUP BY a.client_assessment_id, COALESCE(q.segment_id, 0)",
+                clientAssessmentId);
+        jdbcTemplate.update(
+                "UPDATE client_assessments SET running_score = (SELECT COALESCE(SUM(score), 0) "
+                        + "FROM client_assessment_segment_scores WHERE client_assessment_id = ?) WHERE id = ?",
+                clientAssessmentId, clientAssessmentId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SegmentScore {
+        private final long segmentId;
+        private final BigDecimal score;
+    }
+}
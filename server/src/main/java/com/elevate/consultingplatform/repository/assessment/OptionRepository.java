@@ -1,13 +1,20 @@
 package com.elevate.consultingplatform.repository.assessment;
 
 import com.elevate.consultingplatform.entity.assessment.Option;
-import com.elevate.consultingplatform.entity.assessment.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OptionRepository extends JpaRepository<Option, Long> {
-    List<Option> findByQuestionOrderByOrderIndexAscIdAsc(Question question);
+    @Query("SELECT o FROM Option o WHERE o.question.id = :questionId "
+            + "ORDER BY o.orderKey ASC NULLS LAST, o.orderIndex ASC NULLS LAST, o.id")
+    List<Option> findByQuestionIdInOrder(@Param("questionId") Long questionId);
+
+    @Query("SELECT o.question.questionnaire.id FROM Option o WHERE o.id = :id")
+    Optional<Long> findQuestionnaireIdById(@Param("id") Long id);
 }
@@ -0,0 +1,176 @@
+package com.elevate.consultingplatform.repository.assessment;
+
+import com.elevate.consultingplatform.repository.StreamingQueries;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Batched writes and streaming reads of questionnaire content for bulk import and export.
+ * Inserts run on the connection of the surrounding transaction; enable {@code rewriteBatchedStatements=true}
+ * on the MySQL URL to turn each batch into multi-row statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionBulkRepository {
+
+    private static final String INSERT_QUESTION =
+            "INSERT INTO assessment_questions "
+                    + "(questionnaire_id, segment_id, text, type, weight, options_json, order_key, "
+                    + "created_at, updated_at, created_by, updated_by, is_active) "
+                    + "VALUES (:questionnaireId, :segmentId, :text, :type, :weight, :optionsJson, :orderKey, "
+                    + ":now, :now, :actor, :actor, TRUE)";
+
+    private static final String INSERT_OPTION =
+            "INSERT INTO question_options "
+                    + "(question_id, label, value, weight, order_key, created_at, updated_at, created_by, updated_by, is_active) "
+                    + "VALUES (:questionId, :label, :value, :weight, :orderKey, :now, :now, :actor, :actor, TRUE)";
+
+    // Questions in questionnaire order, each followed by its options; questions without options appear once
+    private static final String CONTENT =
+            "SELECT q.id, q.segment_id, q.text, q.type, q.weight, q.options_json, o.label, o.value, o.weight "
+                    + "FROM assessment_questions q LEFT JOIN question_options o ON o.question_id = q.id "
+                    + "WHERE q.questionnaire_id = ? "
+                    + "ORDER BY q.order_key IS NULL, q.order_key, q.order_index IS NULL, q.order_index, q.id, "
+                    + "o.order_key IS NULL, o.order_key, o.order_index IS NULL, o.order_index, o.id";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final StreamingQueries streamingQueries;
+
+    public Set<Long> findExistingSegmentIds(Collection<Long> segmentIds) {
+        if (segmentIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList("SELECT id FROM segments WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", segmentIds), Long.class));
+    }
+
+    /**
+     * Inserts the questions as one batch.
+     *
+     * @return generated ids, in the order of {@code questions}
+     */
+    public List<Long> insertQuestions(long questionnaireId, List<QuestionInsert> questions, String actor, Timestamp now) {
+        if (questions.isEmpty()) {
+            return List.of();
+        }
+        SqlParameterSource[] args = new SqlParameterSource[questions.size()];
+        for (int i = 0; i < questions.size(); i++) {
+            QuestionInsert q = questions.get(i);
+            args[i] = new MapSqlParameterSource()
+                    .addValue("questionnaireId", questionnaireId)
+                    .addValue("segmentId", q.getSegmentId())
+                    .addValue("text", q.getText())
+                    .addValue("type", q.getType())
+                    .addValue("weight", q.getWeight())
+                    .addValue("optionsJson", q.getOptionsJson())
+                    .addValue("orderKey", q.getOrderKey())
+                    .addValue("now", now)
+                    .addValue("actor", actor);
+        }
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        namedJdbcTemplate.batchUpdate(INSERT_QUESTION, args, keys, new String[]{"id"});
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        if (keyList.size() != questions.size()) {
+            throw new IllegalStateException("Expected " + questions.size() + " generated keys, got " + keyList.size());
+        }
+        List<Long> ids = new ArrayList<>(keyList.size());
+        for (Map<String, Object> key : keyList) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public void insertOptions(List<OptionInsert> options, String actor, Timestamp now) {
+        if (options.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] args = new SqlParameterSource[options.size()];
+        for (int i = 0; i < options.size(); i++) {
+            OptionInsert o = options.get(i);
+            args[i] = new MapSqlParameterSource()
+                    .addValue("questionId", o.getQuestionId())
+                    .addValue("label", o.getLabel())
+                    .addValue("value", o.getValue())
+                    .addValue("weight", o.getWeight())
+                    .addValue("orderKey", o.getOrderKey())
+                    .addValue("now", now)
+                    .addValue("actor", actor);
+        }
+        namedJdbcTemplate.batchUpdate(INSERT_OPTION, args);
+    }
+
+    /**
+     * Streams the questionnaire's questions joined with their options in display order, one row per option.
+     *
+     * @return number of rows streamed
+     */
+    public long streamContent(long questionnaireId, Consumer<ContentRow> consumer) {
+        return streamingQueries.stream(CONTENT, QuestionBulkRepository::mapContent, consumer, questionnaireId);
+    }
+
+    private static ContentRow mapContent(ResultSet rs, int rowNum) throws SQLException {
+        return new ContentRow(
+                rs.getLong(1),
+                rs.getObject(2, Long.class),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getObject(5, Double.class),
+                rs.getString(6),
+                rs.getString(7),
+                rs.getString(8),
+                rs.getObject(9, Double.class));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class QuestionInsert {
+        private final Long segmentId;
+        private final String text;
+        private final String type;
+        private final Double weight;
+        private final String optionsJson;
+        private final String orderKey;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class OptionInsert {
+        private final long questionId;
+        private final String label;
+        private final String value;
+        private final Double weight;
+        private final String orderKey;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ContentRow {
+        private final long questionId;
+        private final Long segmentId;
+        private final String text;
+        private final String type;
+        private final Double weight;
+        private final String optionsJson;
+        // null when the question has no options
+        private final String optionLabel;
+        private final String optionValue;
+        private final Double optionWeight;
+    }
+}
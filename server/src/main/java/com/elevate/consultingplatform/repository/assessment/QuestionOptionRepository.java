@@ -2,7 +2,10 @@ package com.elevate.consultingplatform.repository.assessment;
 
 import com.elevate.consultingplatform.entity.assessment.Question;
 import com.elevate.consultingplatform.entity.assessment.QuestionOption;
+import com.elevate.consultingplatform.repository.assessment.projection.OptionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +13,16 @@ import java.util.List;
 @Repository
 public interface QuestionOptionRepository extends JpaRepository<QuestionOption, Long> {
     List<QuestionOption> findByQuestionOrderByOrderIndexAsc(Question question);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.OptionRow("
+            + "o.id, o.question.id, o.label, o.value, o.weight, o.orderIndex, o.orderKey) "
+            + "FROM QuestionOption o WHERE o.question.questionnaire.id = :questionnaireId")
+    List<OptionRow> findRowsByQuestionnaireId(@Param("questionnaireId") Long questionnaireId);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.OptionRow("
+            + "o.id, o.question.id, o.label, o.value, o.weight, o.orderIndex, o.orderKey) "
+            + "FROM QuestionOption o WHERE o.question.questionnaire.status = "
+            + "com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus.PUBLISHED "
+            + "ORDER BY o.orderKey ASC NULLS LAST, o.orderIndex ASC NULLS LAST, o.id")
+    List<OptionRow> findAllRowsInOrder();
 }
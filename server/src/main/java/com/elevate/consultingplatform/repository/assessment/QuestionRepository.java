@@ -2,12 +2,81 @@ package com.elevate.consultingplatform.repository.assessment;
 
 import com.elevate.consultingplatform.entity.assessment.Question;
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
+import com.elevate.consultingplatform.repository.assessment.projection.QuestionRow;
+import com.elevate.consultingplatform.repository.assessment.projection.SegmentQuestionCount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+    /**
+     * Admin question-bank filter on {@code q} joined to its questionnaire as {@code qn}: one version per
+     * questionnaire, the draft while there is one and the published version otherwise, plus questions
+     * that belong to no questionnaire.
+     */
+    String WORKING_VERSION = "(qn IS NULL "
+            + "OR qn.status = com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus.DRAFT "
+            + "OR (qn.status = com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus.PUBLISHED "
+            + "AND NOT EXISTS (SELECT d.id FROM Questionnaire d WHERE d.familyId = qn.familyId "
+            + "AND d.status = com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus.DRAFT)))";
     List<Question> findByQuestionnaireOrderByIdAsc(Questionnaire questionnaire);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.QuestionRow("
+            + "q.id, q.segment.id, q.text, q.type, q.weight, q.orderIndex, q.orderKey) "
+            + "FROM AssessmentQuestion q WHERE q.questionnaire.id = :questionnaireId")
+    List<QuestionRow> findRowsByQuestionnaireId(@Param("questionnaireId") Long questionnaireId);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.QuestionRow("
+            + "q.id, q.segment.id, q.text, q.type, q.weight, q.orderIndex, q.orderKey) "
+            + "FROM AssessmentQuestion q WHERE q.questionnaire.status = "
+            + "com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus.PUBLISHED "
+            + "ORDER BY q.orderKey ASC NULLS LAST, q.orderIndex ASC NULLS LAST, q.id")
+    List<QuestionRow> findAllRowsInOrder();
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.QuestionRow("
+            + "q.id, q.segment.id, q.text, q.type, q.weight, q.orderIndex, q.orderKey) "
+            + "FROM AssessmentQuestion q LEFT JOIN q.questionnaire qn WHERE q.segment.id = :segmentId AND "
+            + WORKING_VERSION + " "
+            + "ORDER BY q.orderKey ASC NULLS LAST, q.orderIndex ASC NULLS LAST, q.id")
+    List<QuestionRow> findRowsBySegmentIdInOrder(@Param("segmentId") Long segmentId);
+
+    /**
+     * Keyset page of a segment's questions after {@code (afterKey, afterId)}, on the (segment_id, order_key) index.
+     * Questions without an order key (not yet backfilled by the rebalancer) come last, by id; a null
+     * {@code afterKey} means the previous page ended among them. {@code text} is a LIKE pattern escaped with '!'.
+     */
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.QuestionRow("
+            + "q.id, q.segment.id, q.text, q.type, q.weight, q.orderIndex, q.orderKey) "
+            + "FROM AssessmentQuestion q LEFT JOIN q.questionnaire qn WHERE q.segment.id = :segmentId AND "
+            + WORKING_VERSION + " "
+            + "AND ((:afterKey IS NOT NULL AND (q.orderKey IS NULL OR q.orderKey > :afterKey "
+            + "OR (q.orderKey = :afterKey AND q.id > :afterId))) "
+            + "OR (:afterKey IS NULL AND q.orderKey IS NULL AND q.id > :afterId)) "
+            + "AND (:text IS NULL OR q.text LIKE :text ESCAPE '!') "
+            + "ORDER BY q.orderKey ASC NULLS LAST, q.id")
+    List<QuestionRow> findPageInSegment(@Param("segmentId") Long segmentId,
+                                        @Param("afterKey") String afterKey,
+                                        @Param("afterId") Long afterId,
+                                        @Param("text") String text,
+                                        Pageable pageable);
+
+    @Query("SELECT COUNT(q) FROM AssessmentQuestion q LEFT JOIN q.questionnaire qn WHERE q.segment.id = :segmentId AND "
+            + WORKING_VERSION + " "
+            + "AND (:text IS NULL OR q.text LIKE :text ESCAPE '!')")
+    long countInSegment(@Param("segmentId") Long segmentId, @Param("text") String text);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.SegmentQuestionCount("
+            + "q.segment.id, COUNT(q)) FROM AssessmentQuestion q LEFT JOIN q.questionnaire qn "
+            + "WHERE q.segment IS NOT NULL AND " + WORKING_VERSION + " GROUP BY q.segment.id")
+    List<SegmentQuestionCount> countBySegment();
+
+    @Query("SELECT q.questionnaire.id FROM AssessmentQuestion q WHERE q.id = :id")
+    Optional<Long> findQuestionnaireIdById(@Param("id") Long id);
 }
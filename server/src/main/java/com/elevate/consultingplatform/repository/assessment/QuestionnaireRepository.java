@@ -1,9 +1,49 @@
 package com.elevate.consultingplatform.repository.assessment;
 
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
+import com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface QuestionnaireRepository extends JpaRepository<Questionnaire, Long> {
+
+    @Query("SELECT q.id FROM Questionnaire q ORDER BY q.id")
+    List<Long> findAllIds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM Questionnaire q WHERE q.id = :id")
+    Optional<Questionnaire> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT q.familyId FROM Questionnaire q WHERE q.id = :id")
+    Optional<Long> findFamilyIdById(@Param("id") Long id);
+
+    List<Questionnaire> findByFamilyIdOrderByIdAsc(Long familyId);
+
+    Optional<Questionnaire> findFirstByFamilyIdAndStatus(Long familyId, QuestionnaireStatus status);
+
+    @Query("SELECT q.status FROM Questionnaire q WHERE q.id = :id")
+    Optional<QuestionnaireStatus> findStatusById(@Param("id") Long id);
+
+    @Query("SELECT q.questionnaire.status FROM AssessmentQuestion q WHERE q.id = :questionId")
+    Optional<QuestionnaireStatus> findStatusByQuestionId(@Param("questionId") Long questionId);
+
+    @Query("SELECT o.question.questionnaire.status FROM QuestionOption o WHERE o.id = :optionId")
+    Optional<QuestionnaireStatus> findStatusByOptionId(@Param("optionId") Long optionId);
+
+    @Query("SELECT COUNT(q) FROM AssessmentQuestion q WHERE q.id IN :questionIds "
+            + "AND q.questionnaire.status <> com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus.DRAFT")
+    long countFrozenQuestions(@Param("questionIds") Collection<Long> questionIds);
+
+    @Query("SELECT COUNT(o) FROM QuestionOption o WHERE o.id IN :optionIds "
+            + "AND o.question.questionnaire.status <> com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus.DRAFT")
+    long countFrozenOptions(@Param("optionIds") Collection<Long> optionIds);
 }
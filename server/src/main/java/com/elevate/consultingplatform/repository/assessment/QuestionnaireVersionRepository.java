@@ -0,0 +1,79 @@
+package com.elevate.consultingplatform.repository.assessment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+
+/**
+ * Set-based statements behind questionnaire versioning. A new draft copies its source's questions, options
+ * and stage rules with one {@code INSERT ... SELECT} each, whatever the questionnaire size; cloned questions
+ * remember their source in {@code source_question_id}, which the option copy joins on.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionnaireVersionRepository {
+
+    // Keys are copied verbatim: question siblings are scoped per questionnaire (OrderedTable.QUESTIONS), so the
+    // draft's keys never collide with its source's, and ordering the draft never touches the frozen version
+    private static final String CLONE_QUESTIONS =
+            "INSERT INTO assessment_questions "
+                    + "(questionnaire_id, segment_id, text, weight, options_json, type, order_index, order_key, "
+                    + "source_question_id, created_at, updated_at, created_by, updated_by, is_active) "
+                    + "SELECT ?, segment_id, text, weight, options_json, type, order_index, order_key, "
+                    + "id, ?, ?, ?, ?, is_active "
+                    + "FROM assessment_questions WHERE questionnaire_id = ? ORDER BY id";
+
+    private static final String CLONE_OPTIONS =
+            "INSERT INTO question_options "
+                    + "(question_id, label, value, weight, order_index, order_key, "
+                    + "created_at, updated_at, created_by, updated_by, is_active) "
+                    + "SELECT q.id, o.label, o.value, o.weight, o.order_index, o.order_key, ?, ?, ?, ?, o.is_active "
+                    + "FROM assessment_questions q JOIN question_options o ON o.question_id = q.source_question_id "
+                    + "WHERE q.questionnaire_id = ? ORDER BY o.id";
+
+    private static final String CLONE_STAGE_RULES =
+            "INSERT INTO stage_rules "
+                    + "(questionnaire_id, min_score, max_score, target_stage_id, priority, "
+                    + "created_at, updated_at, created_by, updated_by, is_active) "
+                    + "SELECT ?, min_score, max_score, target_stage_id, priority, ?, ?, ?, ?, is_active "
+                    + "FROM stage_rules WHERE questionnaire_id = ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int cloneQuestions(long sourceId, long draftId, String actor, Timestamp now) {
+        return jdbcTemplate.update(CLONE_QUESTIONS, draftId, now, now, actor, actor, sourceId);
+    }
+
+    /**
+     * Copies the options of every question cloned into the draft; run after {@link #cloneQuestions}.
+     */
+    public int cloneOptions(long draftId, String actor, Timestamp now) {
+        return jdbcTemplate.update(CLONE_OPTIONS, now, now, actor, actor, draftId);
+    }
+
+    public int cloneStageRules(long sourceId, long draftId, String actor, Timestamp now) {
+        return jdbcTemplate.update(CLONE_STAGE_RULES, draftId, now, now, actor, actor, sourceId);
+    }
+
+    /**
+     * Archives the family's other published version(s) once {@code publishedId} becomes the current one.
+     */
+    public int archiveOthers(long familyId, long publishedId) {
+        return jdbcTemplate.update(
+                "UPDATE questionnaires SET status = 'ARCHIVED' WHERE family_id = ? AND id <> ? AND status = 'PUBLISHED'",
+                familyId, publishedId);
+    }
+
+    /**
+     * Points assessments at the newly published version so later assignments get it; existing client
+     * assessments keep the version they pinned.
+     */
+    public int repointAssessments(long familyId, long publishedId) {
+        return jdbcTemplate.update(
+                "UPDATE assessments a JOIN questionnaires q ON q.id = a.questionnaire_id "
+                        + "SET a.questionnaire_id = ? WHERE q.family_id = ? AND a.questionnaire_id <> ?",
+                publishedId, familyId, publishedId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.elevate.consultingplatform.repository.assessment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Checkpoint rows of bulk re-scoring jobs ({@code rescore_jobs}). Every write after the claim is conditional
+ * on the caller still owning the job, so a runner that lost its lease stops instead of racing the new owner.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RescoreJobRepository {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_CANCELLED = "CANCELLED";
+
+    public static final String PHASE_ATTEMPTS = "ATTEMPTS";
+    public static final String PHASE_CLIENT_ASSESSMENTS = "CLIENT_ASSESSMENTS";
+    public static final String PHASE_DONE = "DONE";
+
+    private static final String COLUMNS = "id, questionnaire_id, status, phase, last_id, attempts_scanned, attempts_updated, "
+            + "client_assessments_scanned, client_assessments_updated, requested_by, error_message, "
+            + "created_at, started_at, updated_at, finished_at";
+
+    private static final RowMapper<JobRow> ROW_MAPPER = (rs, i) -> new JobRow(
+            rs.getLong("id"),
+            rs.getObject("questionnaire_id") != null ? rs.getLong("questionnaire_id") : null,
+            rs.getString("status"),
+            rs.getString("phase"),
+            rs.getLong("last_id"),
+            rs.getLong("attempts_scanned"),
+            rs.getLong("attempts_updated"),
+            rs.getLong("client_assessments_scanned"),
+            rs.getLong("client_assessments_updated"),
+            rs.getString("requested_by"),
+            rs.getString("error_message"),
+            instant(rs.getTimestamp("created_at")),
+            instant(rs.getTimestamp("started_at")),
+            instant(rs.getTimestamp("updated_at")),
+            instant(rs.getTimestamp("finished_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long insert(Long questionnaireId, String requestedBy, Instant now) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO rescore_jobs (questionnaire_id, status, phase, requested_by, created_at) VALUES (?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setObject(1, questionnaireId);
+            ps.setString(2, STATUS_QUEUED);
+            ps.setString(3, PHASE_ATTEMPTS);
+            ps.setString(4, requestedBy);
+            ps.setTimestamp(5, Timestamp.from(now));
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+
+    public Optional<JobRow> findById(long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM rescore_jobs WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    public List<JobRow> findRecent(int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM rescore_jobs ORDER BY id DESC LIMIT ?", ROW_MAPPER, limit);
+    }
+
+    /**
+     * Queued or running jobs nobody holds a live lease on, oldest first.
+     */
+    public List<Long> findResumable(Instant now) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM rescore_jobs WHERE status IN (?, ?) AND (lease_until IS NULL OR lease_until < ?) ORDER BY id",
+                Long.class, STATUS_QUEUED, STATUS_RUNNING, Timestamp.from(now));
+    }
+
+    /**
+     * Takes (or re-takes) a queued or running job whose lease is free or expired.
+     */
+    public boolean claim(long id, String owner, Instant now, Instant leaseUntil) {
+        return jdbcTemplate.update(
+                "UPDATE rescore_jobs SET status = ?, owner = ?, lease_until = ?, started_at = COALESCE(started_at, ?), "
+                        + "updated_at = ? WHERE id = ? AND status IN (?, ?) AND (lease_until IS NULL OR lease_until < ?)",
+                STATUS_RUNNING, owner, Timestamp.from(leaseUntil), Timestamp.from(now), Timestamp.from(now), id,
+                STATUS_QUEUED, STATUS_RUNNING, Timestamp.from(now)) == 1;
+    }
+
+    /**
+     * Records a finished chunk and extends the lease. False when the job was cancelled or taken over.
+     */
+    public boolean checkpoint(long id, String owner, String phase, long lastId, long scanned, long updated,
+                              Instant now, Instant leaseUntil) {
+        String counters = PHASE_ATTEMPTS.equals(phase)
+                ? "attempts_scanned = attempts_scanned + ?, attempts_updated = attempts_updated + ?"
+                : "client_assessments_scanned = client_assessments_scanned + ?, client_assessments_updated = client_assessments_updated + ?";
+        return jdbcTemplate.update(
+                "UPDATE rescore_jobs SET last_id = ?, " + counters + ", updated_at = ?, lease_until = ? "
+                        + "WHERE id = ? AND owner = ? AND status = ? AND phase = ?",
+                lastId, scanned, updated, Timestamp.from(now), Timestamp.from(leaseUntil), id, owner, STATUS_RUNNING,
+                phase) == 1;
+    }
+
+    public boolean advancePhase(long id, String owner, String from, String to, Instant now) {
+        return jdbcTemplate.update(
+                "UPDATE rescore_jobs SET phase = ?, last_id = 0, updated_at = ? WHERE id = ? AND owner = ? AND status = ? AND phase = ?",
+                to, Timestamp.from(now), id, owner, STATUS_RUNNING, from) == 1;
+    }
+
+    public void finish(long id, String owner, String status, String errorMessage, Instant now) {
+        jdbcTemplate.update(
+                "UPDATE rescore_jobs SET status = ?, error_message = ?, lease_until = NULL, updated_at = ?, finished_at = ? "
+                        + "WHERE id = ? AND owner = ? AND status = ?",
+                status, errorMessage, Timestamp.from(now), Timestamp.from(now), id, owner, STATUS_RUNNING);
+    }
+
+    public boolean cancel(long id, Instant now) {
+        return jdbcTemplate.update(
+                "UPDATE rescore_jobs SET status = ?, lease_until = NULL, updated_at = ?, finished_at = ? "
+                        + "WHERE id = ? AND status IN (?, ?)",
+                STATUS_CANCELLED, Timestamp.from(now), Timestamp.from(now), id, STATUS_QUEUED, STATUS_RUNNING) == 1;
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class JobRow {
+        private final long id;
+        private final Long questionnaireId;
+        private final String status;
+        private final String phase;
+        private final long lastId;
+        private final long attemptsScanned;
+        private final long attemptsUpdated;
+        private final long clientAssessmentsScanned;
+        private final long clientAssessmentsUpdated;
+        private final String requestedBy;
+        private final String errorMessage;
+        private final Instant createdAt;
+        private final Instant startedAt;
+        private final Instant updatedAt;
+        private final Instant finishedAt;
+    }
+}
@@ -0,0 +1,107 @@
+package com.elevate.consultingplatform.repository.assessment;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.repository.assessment.projection.AttemptAnswerRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chunked reads and batched score writes for bulk re-scoring. Reads are keyset pages on the primary key,
+ * so a chunk costs the same at the start and at the end of a large table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RescoreRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Next page of completed attempts, optionally limited to one questionnaire.
+     */
+    public List<AttemptRef> findCompletedAttemptsAfter(long afterId, Long questionnaireId, int limit) {
+        String sql = "SELECT id, questionnaire_id, total_score FROM assessment_attempts "
+                + "WHERE id > ? AND completed_at IS NOT NULL"
+                + (questionnaireId != null ? " AND questionnaire_id = ?" : "")
+                + " ORDER BY id LIMIT ?";
+        Object[] args = questionnaireId != null
+                ? new Object[]{afterId, questionnaireId, limit}
+                : new Object[]{afterId, limit};
+        return jdbcTemplate.query(sql, (rs, i) -> new AttemptRef(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getObject(3) != null ? rs.getDouble(3) : null), args);
+    }
+
+    /**
+     * attemptId -> its answers as scoring rows; attempts without answers are absent.
+     */
+    public LongObjectMap<List<AttemptAnswerRow>> findAnswerRows(Collection<Long> attemptIds) {
+        LongObjectMap<List<AttemptAnswerRow>> rows = new LongObjectMap<>(attemptIds.size());
+        if (attemptIds.isEmpty()) {
+            return rows;
+        }
+        namedJdbcTemplate.query(
+                "SELECT attempt_id, question_id, value, score FROM answers WHERE attempt_id IN (:ids)",
+                new MapSqlParameterSource("ids", attemptIds),
+                (RowCallbackHandler) rs -> rows.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>())
+                        .add(new AttemptAnswerRow(rs.getLong(2), rs.getString(3),
+                                rs.getObject(4) != null ? rs.getDouble(4) : null)));
+        return rows;
+    }
+
+    /**
+     * @param scores pairs of {totalScore, attemptId}
+     */
+    public void updateAttemptScores(List<Object[]> scores) {
+        if (!scores.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE assessment_attempts SET total_score = ? WHERE id = ?", scores);
+        }
+    }
+
+    /**
+     * Next page of submitted (or scored) client assessments with their stored final score.
+     */
+    public Map<Long, BigDecimal> findSubmittedScoresAfter(long afterId, Long questionnaireId, int limit) {
+        String sql = "SELECT ca.id, ca.score FROM client_assessments ca "
+                + "WHERE ca.id > ? AND ca.status IN ('SUBMITTED', 'SCORED')"
+                + (questionnaireId != null ? " AND ca.questionnaire_id = ?" : "")
+                + " ORDER BY ca.id LIMIT ?";
+        Object[] args = questionnaireId != null
+                ? new Object[]{afterId, questionnaireId, limit}
+                : new Object[]{afterId, limit};
+        Map<Long, BigDecimal> scores = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> scores.put(rs.getLong(1), rs.getBigDecimal(2)), args);
+        return scores;
+    }
+
+    /**
+     * @param scores pairs of {score, clientAssessmentId}
+     */
+    public void updateClientAssessmentScores(List<Object[]> scores) {
+        if (!scores.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE client_assessments SET score = ? WHERE id = ?", scores);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AttemptRef {
+        private final long id;
+        private final long questionnaireId;
+        private final Double totalScore;
+    }
+}
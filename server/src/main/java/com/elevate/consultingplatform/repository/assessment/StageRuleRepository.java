@@ -2,7 +2,10 @@ package com.elevate.consultingplatform.repository.assessment;
 
 import com.elevate.consultingplatform.entity.assessment.StageRule;
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
+import com.elevate.consultingplatform.repository.assessment.projection.StageRuleRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,14 @@ import java.util.List;
 public interface StageRuleRepository extends JpaRepository<StageRule, Long> {
     List<StageRule> findByQuestionnaireOrderByPriorityAsc(Questionnaire questionnaire);
     List<StageRule> findByQuestionnaireIsNullOrderByPriorityAsc();
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.StageRuleRow("
+            + "r.id, r.minScore, r.maxScore, r.priority, r.targetStage.id) "
+            + "FROM StageRule r WHERE r.questionnaire.id = :questionnaireId")
+    List<StageRuleRow> findRowsByQuestionnaireId(@Param("questionnaireId") Long questionnaireId);
+
+    @Query("SELECT new com.elevate.consultingplatform.repository.assessment.projection.StageRuleRow("
+            + "r.id, r.minScore, r.maxScore, r.priority, r.targetStage.id) "
+            + "FROM StageRule r WHERE r.questionnaire IS NULL")
+    List<StageRuleRow> findGlobalRows();
 }
@@ -0,0 +1,15 @@
+package com.elevate.consultingplatform.repository.assessment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One row per selected option of an answer; answers without a selection appear once with a null option id.
+ */
+@Getter
+@AllArgsConstructor
+public class AnswerSelectionRow {
+    private final Long questionId;
+    private final String answerText;
+    private final Long optionId;
+}
@@ -0,0 +1,12 @@
+package com.elevate.consultingplatform.repository.assessment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AttemptAnswerRow {
+    private final Long questionId;
+    private final String value;
+    private final Double score;
+}
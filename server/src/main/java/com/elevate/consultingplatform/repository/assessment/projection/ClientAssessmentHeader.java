@@ -0,0 +1,19 @@
+package com.elevate.consultingplatform.repository.assessment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Client assessment with just what the details page needs to authorize and title itself.
+ */
+@Getter
+@AllArgsConstructor
+public class ClientAssessmentHeader {
+    private final Long clientAssessmentId;
+    private final Long clientId;
+    private final String assessmentName;
+    private final Long questionnaireId; // null when the assessment has no questionnaire
+    private final BigDecimal runningScore;
+}
@@ -0,0 +1,16 @@
+package com.elevate.consultingplatform.repository.assessment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OptionRow {
+    private final Long id;
+    private final Long questionId;
+    private final String label;
+    private final String value;
+    private final Double weight;
+    private final Integer orderIndex;
+    private final String orderKey;
+}
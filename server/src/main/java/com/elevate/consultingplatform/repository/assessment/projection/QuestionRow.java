@@ -0,0 +1,16 @@
+package com.elevate.consultingplatform.repository.assessment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QuestionRow {
+    private final Long id;
+    private final Long segmentId;
+    private final String text;
+    private final String type;
+    private final Double weight;
+    private final Integer orderIndex;
+    private final String orderKey;
+}
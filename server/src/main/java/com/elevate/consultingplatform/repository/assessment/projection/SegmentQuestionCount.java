@@ -0,0 +1,11 @@
+package com.elevate.consultingplatform.repository.assessment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SegmentQuestionCount {
+    private final Long segmentId;
+    private final Long count;
+}
@@ -0,0 +1,14 @@
+package com.elevate.consultingplatform.repository.assessment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StageRuleRow {
+    private final Long id;
+    private final Double minScore;
+    private final Double maxScore;
+    private final Integer priority;
+    private final Long targetStageId;
+}
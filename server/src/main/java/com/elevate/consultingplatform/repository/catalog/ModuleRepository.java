@@ -1,9 +1,17 @@
 package com.elevate.consultingplatform.repository.catalog;
 
 import com.elevate.consultingplatform.entity.catalog.Module;
+import com.elevate.consultingplatform.repository.catalog.projection.ModuleNodeRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ModuleRepository extends JpaRepository<Module, Long> {
+
+    @Query("select new com.elevate.consultingplatform.repository.catalog.projection.ModuleNodeRow(m.id, m.name, m.description, m.orderIndex, m.isActive) " +
+            "from Module m order by m.orderKey asc nulls last, m.orderIndex asc nulls last, m.id")
+    List<ModuleNodeRow> findTreeRows();
 }
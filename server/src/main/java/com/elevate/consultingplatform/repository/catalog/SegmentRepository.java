@@ -2,7 +2,9 @@ package com.elevate.consultingplatform.repository.catalog;
 
 import com.elevate.consultingplatform.entity.catalog.Segment;
 import com.elevate.consultingplatform.entity.catalog.Module;
+import com.elevate.consultingplatform.repository.catalog.projection.SegmentNodeRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,8 @@ import java.util.List;
 @Repository
 public interface SegmentRepository extends JpaRepository<Segment, Long> {
     List<Segment> findByModuleOrderByOrderIndexAsc(Module module);
+
+    @Query("select new com.elevate.consultingplatform.repository.catalog.projection.SegmentNodeRow(s.id, s.module.id, s.name, s.description, s.orderIndex, s.isActive) " +
+            "from Segment s order by s.orderKey asc nulls last, s.orderIndex asc nulls last, s.id")
+    List<SegmentNodeRow> findTreeRows();
 }
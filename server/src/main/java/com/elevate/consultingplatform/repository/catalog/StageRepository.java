@@ -2,7 +2,9 @@ package com.elevate.consultingplatform.repository.catalog;
 
 import com.elevate.consultingplatform.entity.catalog.Segment;
 import com.elevate.consultingplatform.entity.catalog.Stage;
+import com.elevate.consultingplatform.repository.catalog.projection.StageNodeRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,9 @@ import java.util.List;
 @Repository
 public interface StageRepository extends JpaRepository<Stage, Long> {
     List<Stage> findBySegmentOrderByOrderIndexAsc(Segment segment);
+
+    @Query("select new com.elevate.consultingplatform.repository.catalog.projection.StageNodeRow(" +
+            "t.id, t.segment.id, t.name, t.description, t.orderIndex, t.isActive, t.type, t.contentUrl, t.lmsCourseId) " +
+            "from Stage t order by t.orderKey asc nulls last, t.orderIndex asc nulls last, t.id")
+    List<StageNodeRow> findTreeRows();
 }
@@ -0,0 +1,14 @@
+package com.elevate.consultingplatform.repository.catalog.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ModuleNodeRow {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Integer orderIndex;
+    private final Boolean isActive;
+}
@@ -0,0 +1,15 @@
+package com.elevate.consultingplatform.repository.catalog.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SegmentNodeRow {
+    private final Long id;
+    private final Long moduleId;
+    private final String name;
+    private final String description;
+    private final Integer orderIndex;
+    private final Boolean isActive;
+}
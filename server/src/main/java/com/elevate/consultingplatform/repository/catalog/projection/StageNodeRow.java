@@ -0,0 +1,19 @@
+package com.elevate.consultingplatform.repository.catalog.projection;
+
+import com.elevate.consultingplatform.entity.catalog.StageType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StageNodeRow {
+    private final Long id;
+    private final Long segmentId;
+    private final String name;
+    private final String description;
+    private final Integer orderIndex;
+    private final Boolean isActive;
+    private final StageType type;
+    private final String contentUrl;
+    private final String lmsCourseId;
+}
@@ -0,0 +1,16 @@
+package com.elevate.consultingplatform.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSecurityState {
+    private final int securityVersion;
+    private final boolean active;
+    private final boolean emailVerified;
+
+    public boolean isEnabled() {
+        return active && emailVerified;
+    }
+}
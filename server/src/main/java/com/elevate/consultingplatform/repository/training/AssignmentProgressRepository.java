@@ -0,0 +1,110 @@
+package com.elevate.consultingplatform.repository.training;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based maintenance of the progress roll-up on {@code user_module_assignments}. Counters are always
+ * recomputed from {@code user_stage_progress} rather than incremented, so replaying or reordering events
+ * cannot make them drift.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssignmentProgressRepository {
+
+    // Per assignment: active stages of its module, and how many of those the user started / completed
+    private static final String RECOMPUTE =
+            "UPDATE user_module_assignments a JOIN ("
+                    + "SELECT x.id, COUNT(s.id) AS total, "
+                    + "COUNT(CASE WHEN p.status IN ('IN_PROGRESS', 'COMPLETED', 'FAILED') THEN 1 END) AS started, "
+                    + "COUNT(CASE WHEN p.status = 'COMPLETED' THEN 1 END) AS completed, "
+                    + "MAX(COALESCE(p.completed_at, p.started_at)) AS last_activity "
+                    + "FROM user_module_assignments x "
+                    + "LEFT JOIN segments g ON g.module_id = x.module_id "
+                    + "LEFT JOIN stages s ON s.segment_id = g.id AND (s.is_active IS NULL OR s.is_active = TRUE) "
+                    + "LEFT JOIN user_stage_progress p ON p.stage_id = s.id AND p.user_id = x.user_id "
+                    + "WHERE %s GROUP BY x.id"
+                    + ") c ON c.id = a.id "
+                    + "SET a.stages_total = c.total, a.stages_started = c.started, a.stages_completed = c.completed, "
+                    + "a.last_activity_at = c.last_activity, "
+                    + "a.status = CASE WHEN c.total > 0 AND c.completed >= c.total THEN 'COMPLETED' "
+                    + "WHEN c.started > 0 THEN 'IN_PROGRESS' ELSE 'ASSIGNED' END, "
+                    + "a.completed_at = CASE WHEN c.total > 0 AND c.completed >= c.total "
+                    + "THEN COALESCE(a.completed_at, c.last_activity, CURRENT_TIMESTAMP) END";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Recomputes the user's assignment of the module, if there is one.
+     */
+    public int recompute(long userId, long moduleId) {
+        return jdbcTemplate.update(String.format(RECOMPUTE, "x.user_id = ? AND x.module_id = ?"), userId, moduleId);
+    }
+
+    /**
+     * Recomputes every assignment with {@code fromId < id <= toId}.
+     */
+    public int recomputeRange(long fromId, long toId) {
+        return jdbcTemplate.update(String.format(RECOMPUTE, "x.id > ? AND x.id <= ?"), fromId, toId);
+    }
+
+    /**
+     * Upper id of the next chunk of at most {@code size} assignments after {@code afterId}, or null when done.
+     */
+    public Long findChunkEnd(long afterId, int size) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT MAX(id) FROM (SELECT id FROM user_module_assignments WHERE id > ? ORDER BY id LIMIT ?) chunk",
+                Long.class, afterId, size);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * Assignments of the module in the given status, by id, after the cursor. Served by the
+     * {@code (module_id, status)} index.
+     */
+    public List<ModuleProgressRow> findByModuleAndStatus(long moduleId, String status, long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT a.id, a.user_id, u.email, a.status, a.stages_total, a.stages_started, a.stages_completed, "
+                        + "a.last_activity_at, a.completed_at FROM user_module_assignments a "
+                        + "JOIN users u ON u.id = a.user_id "
+                        + "WHERE a.module_id = ? AND a.status = ? AND a.id > ? ORDER BY a.id LIMIT ?",
+                MODULE_PROGRESS_MAPPER, moduleId, status, afterId, limit);
+    }
+
+    private static final RowMapper<ModuleProgressRow> MODULE_PROGRESS_MAPPER = (rs, i) -> new ModuleProgressRow(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getString("email"),
+            rs.getString("status"),
+            rs.getInt("stages_total"),
+            rs.getInt("stages_started"),
+            rs.getInt("stages_completed"),
+            toLocal(rs.getTimestamp("last_activity_at")),
+            toLocal(rs.getTimestamp("completed_at")));
+
+    private static LocalDateTime toLocal(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ModuleProgressRow {
+        private final long assignmentId;
+        private final long userId;
+        private final String email;
+        private final String status;
+        private final int stagesTotal;
+        private final int stagesStarted;
+        private final int stagesCompleted;
+        private final LocalDateTime lastActivityAt;
+        private final LocalDateTime completedAt;
+    }
+}
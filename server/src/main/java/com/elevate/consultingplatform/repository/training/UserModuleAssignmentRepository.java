@@ -3,7 +3,10 @@ package com.elevate.consultingplatform.repository.training;
 import com.elevate.consultingplatform.entity.training.UserModuleAssignment;
 import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.entity.catalog.Module;
+import com.elevate.consultingplatform.repository.training.projection.ModuleAssignmentRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,9 @@ import java.util.Optional;
 public interface UserModuleAssignmentRepository extends JpaRepository<UserModuleAssignment, Long> {
     List<UserModuleAssignment> findByUser(User user);
     Optional<UserModuleAssignment> findByUserAndModule(User user, Module module);
+
+    @Query("select new com.elevate.consultingplatform.repository.training.projection.ModuleAssignmentRow("
+            + "a.module.id, a.status, a.assignedAt, a.dueAt) "
+            + "from UserModuleAssignment a where a.user.id = :userId order by a.id")
+    List<ModuleAssignmentRow> findRowsByUserId(@Param("userId") Long userId);
 }
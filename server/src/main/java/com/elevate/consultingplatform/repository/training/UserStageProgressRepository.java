@@ -3,7 +3,10 @@ package com.elevate.consultingplatform.repository.training;
 import com.elevate.consultingplatform.entity.training.UserStageProgress;
 import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.entity.catalog.Stage;
+import com.elevate.consultingplatform.repository.training.projection.StageProgressRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,9 @@ import java.util.Optional;
 public interface UserStageProgressRepository extends JpaRepository<UserStageProgress, Long> {
     List<UserStageProgress> findByUser(User user);
     Optional<UserStageProgress> findByUserAndStage(User user, Stage stage);
+
+    @Query("select new com.elevate.consultingplatform.repository.training.projection.StageProgressRow("
+            + "p.stage.id, p.status, p.score, p.startedAt, p.completedAt) "
+            + "from UserStageProgress p where p.user.id = :userId")
+    List<StageProgressRow> findRowsByUserId(@Param("userId") Long userId);
 }
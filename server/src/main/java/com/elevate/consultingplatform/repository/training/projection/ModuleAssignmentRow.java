@@ -0,0 +1,16 @@
+package com.elevate.consultingplatform.repository.training.projection;
+
+import com.elevate.consultingplatform.entity.training.AssignmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ModuleAssignmentRow {
+    private final Long moduleId;
+    private final AssignmentStatus status;
+    private final LocalDateTime assignedAt;
+    private final LocalDateTime dueAt;
+}
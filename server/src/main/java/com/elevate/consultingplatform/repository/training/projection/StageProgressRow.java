@@ -0,0 +1,17 @@
+package com.elevate.consultingplatform.repository.training.projection;
+
+import com.elevate.consultingplatform.entity.training.ProgressStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class StageProgressRow {
+    private final Long stageId;
+    private final ProgressStatus status;
+    private final Double score;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime completedAt;
+}
@@ -5,11 +5,13 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,6 +24,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final SecurityStampRegistry securityStampRegistry;
+
+    @Value("${app.jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(
@@ -30,21 +36,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // One parse per request: signature, expiry and subject all come from the same verified token
+        VerifiedToken token = jwtService.verify(authHeader.substring(7)).orElse(null);
+
+        if (token != null && token.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(token);
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null && token.isValidFor(userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -58,4 +63,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Builds the principal straight from the token claims while its security stamp is current;
+     * otherwise falls back to the database and rejects tokens whose stamp no longer matches.
+     */
+    private UserDetails resolvePrincipal(VerifiedToken token) {
+        if (statelessPrincipal && token.hasPrincipalClaims()) {
+            SecurityStampRegistry.Stamp stamp = securityStampRegistry.verify(token.getUserId(), token.getSecurityVersion());
+            if (stamp == null) {
+                return null;
+            }
+            try {
+                return UserDetailsImpl.fromToken(token, stamp.isEnabled());
+            } catch (IllegalArgumentException e) {
+                // unknown role name in the token; verify against the database instead
+            }
+        }
+
+        UserDetails userDetails;
+        try {
+            userDetails = this.userDetailsService.loadUserByUsername(token.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+        if (userDetails instanceof UserDetailsImpl user && !token.matchesSecurityVersion(user.getSecurityVersion())) {
+            return null;
+        }
+        return userDetails;
+    }
 }
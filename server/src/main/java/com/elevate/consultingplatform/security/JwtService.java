@@ -1,23 +1,36 @@
 package com.elevate.consultingplatform.security;
 
+import com.elevate.consultingplatform.entity.Role;
+import com.elevate.consultingplatform.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
+@Slf4j
 @Service
 public class JwtService {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_SECURITY_VERSION = "sv";
+
     @Value("${app.jwt.secret}")
     private String secretKey;
 
@@ -27,12 +40,48 @@ public class JwtService {
     @Value("${app.jwt.refresh-expiration-ms}")
     private long refreshExpirationInMillis;
 
+    // Derived once at startup; the parser is immutable and safe to share between request threads
+    private Key signInKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.signInKey = deriveSignInKey(secretKey);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+
+    public long getJwtExpirationMs() {
+        return jwtExpirationInMillis;
+    }
+
+    public long getRefreshExpirationMs() {
+        return refreshExpirationInMillis;
+    }
+
+    /**
+     * Parses and verifies the token exactly once (signature and expiry).
+     * Returns empty for malformed, tampered or expired tokens.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(VerifiedToken.from(parseClaims(token)));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
@@ -58,55 +107,57 @@ public class JwtService {
             UserDetails userDetails,
             long expiration
     ) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
-                .setClaims(extraClaims)
+                .setClaims(withPrincipalClaims(extraClaims, userDetails))
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username != null && 
-                   username.equals(userDetails.getUsername()) && 
-                   !isTokenExpired(token));
-        } catch (Exception e) {
-            return false;
+    /**
+     * Adds user id, role and security stamp so the authentication filter can rebuild the principal from the token.
+     */
+    private Map<String, Object> withPrincipalClaims(Map<String, Object> extraClaims, UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        if (userDetails instanceof User user) {
+            putPrincipalClaims(claims, user.getId(), user.getRole(), user.getSecurityVersion());
+        } else if (userDetails instanceof UserDetailsImpl principal) {
+            putPrincipalClaims(claims, principal.getId(), principal.getRole(), principal.getSecurityVersion());
         }
+        return claims;
     }
 
-    private boolean isTokenExpired(String token) {
-        try {
-            return extractExpiration(token).before(new Date());
-        } catch (Exception e) {
-            return true; // If there's any error, consider token as expired/invalid
+    private static void putPrincipalClaims(Map<String, Object> claims, Long userId, Role role, int securityVersion) {
+        if (userId == null || role == null) {
+            return;
         }
+        claims.put(CLAIM_USER_ID, userId);
+        claims.put(CLAIM_ROLE, role.name());
+        claims.put(CLAIM_SECURITY_VERSION, securityVersion);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return verify(token)
+                .map(verified -> verified.isValidFor(userDetails))
+                .orElse(false);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private Key getSignInKey() {
+    private static Key deriveSignInKey(String secret) {
         try {
             // Try to decode as base64 first
-            byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+            byte[] keyBytes = Decoders.BASE64.decode(secret);
             return Keys.hmacShaKeyFor(keyBytes);
         } catch (Exception e) {
             // If decoding fails, use the secret directly
-            return Keys.hmacShaKeyFor(secretKey.getBytes());
+            return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         }
     }
 }
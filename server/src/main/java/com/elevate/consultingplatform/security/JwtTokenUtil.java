@@ -1,103 +0,0 @@
-package com.elevate.consultingplatform.security;
-
-import com.elevate.consultingplatform.entity.User;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.stereotype.Component;
-
-import java.security.Key;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Function;
-
-@Component
-public class JwtTokenUtil {
-    
-    @Value("${app.jwt.secret}")
-    private String secretKey;
-    
-    @Value("${app.jwt.expiration-ms}")
-    private long jwtExpirationMs;
-    
-    @Value("${app.jwt.refresh-expiration-ms}")
-    private long refreshExpirationMs;
-    
-    public long getJwtExpirationMs() {
-        return jwtExpirationMs;
-    }
-    
-    public long getRefreshExpirationMs() {
-        return refreshExpirationMs;
-    }
-    
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-    
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-    
-    public String generateToken(User user) {
-        return generateToken(new HashMap<>(), user);
-    }
-    
-    public String generateToken(Map<String, Object> extraClaims, User user) {
-        return buildToken(extraClaims, user, jwtExpirationMs);
-    }
-    
-    public String generateRefreshToken(User user) {
-        return buildToken(new HashMap<>(), user, refreshExpirationMs);
-    }
-    
-    private String buildToken(Map<String, Object> extraClaims, User user, long expiration) {
-        return Jwts
-                .builder()
-                .setClaims(extraClaims)
-                .setSubject(user.getEmail())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
-                .compact();
-    }
-    
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-    
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-    
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-    
-    private Key getSignInKey() {
-        try {
-            // Try to decode as base64 first
-            byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-            return Keys.hmacShaKeyFor(keyBytes);
-        } catch (Exception e) {
-            // If decoding fails, use the secret directly
-            return Keys.hmacShaKeyFor(secretKey.getBytes());
-        }
-    }
-}
@@ -0,0 +1,172 @@
+package com.elevate.consultingplatform.security;
+
+import com.elevate.consultingplatform.dto.admin.WriteBehindStatsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers last-login timestamps in memory and writes them in periodic set-based updates,
+ * so a login no longer costs a full {@code User} save. Repeated logins of the same user within
+ * one flush window collapse into a single row update. Until the next flush the row (and anything read
+ * from it, such as {@code GET /auth/me}) still shows the previous login; the login response itself
+ * reports the new one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginWriteBehind {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.security.last-login.max-rows-per-statement:500}")
+    private int maxRowsPerStatement;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    // Epoch millis of the oldest unflushed record, 0 when the buffer is empty
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private volatile long lastFlushLagMs;
+    private volatile long lastFlushRows;
+    private volatile long lastFlushDurationMs;
+    private volatile Instant lastFlushAt;
+
+    public void record(Long userId, LocalDateTime loginAt) {
+        if (userId == null || loginAt == null) {
+            return;
+        }
+        buffer(userId, loginAt);
+        recorded.increment();
+    }
+
+    private void buffer(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (current, incoming) -> incoming.isAfter(current) ? incoming : current);
+        oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.security.last-login.flush-interval-ms:5000}",
+            initialDelayString = "${app.security.last-login.flush-interval-ms:5000}"
+    )
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int rows = flush();
+        log.info("Flushed {} buffered last-login timestamps on shutdown", rows);
+    }
+
+    public synchronized int flush() {
+        long started = System.currentTimeMillis();
+        if (pending.isEmpty()) {
+            takeOldestPending(started);
+            return 0;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Long userId : new ArrayList<>(pending.keySet())) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.add(Map.entry(userId, loginAt));
+            }
+        }
+        long oldest = takeOldestPending(started);
+
+        int written = 0;
+        try {
+            for (int from = 0; from < batch.size(); from += maxRowsPerStatement) {
+                List<Map.Entry<Long, LocalDateTime>> chunk =
+                        batch.subList(from, Math.min(batch.size(), from + maxRowsPerStatement));
+                writeChunk(chunk);
+                written += chunk.size();
+            }
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            log.warn("Last-login flush failed, re-queueing {} entries: {}", batch.size() - written, e.getMessage());
+            for (Map.Entry<Long, LocalDateTime> entry : batch.subList(written, batch.size())) {
+                buffer(entry.getKey(), entry.getValue());
+            }
+            if (oldest > 0) {
+                // The re-queued entries are as old as the batch they came from
+                oldestPendingAt.accumulateAndGet(oldest, (current, batchOldest) ->
+                        current == 0L ? batchOldest : Math.min(current, batchOldest));
+            }
+        }
+
+        flushedRows.add(written);
+        lastFlushRows = written;
+        lastFlushLagMs = oldest > 0 ? started - oldest : 0L;
+        lastFlushDurationMs = System.currentTimeMillis() - started;
+        lastFlushAt = Instant.ofEpochMilli(started);
+        return written;
+    }
+
+    /**
+     * Resets the oldest-record mark after the buffer has been drained. A record that lands between the drain and
+     * the reset may already have tried to set the mark and found it taken, so whatever is still buffered is
+     * stamped with the flush start rather than left unmarked.
+     */
+    private long takeOldestPending(long now) {
+        long oldest = oldestPendingAt.getAndSet(0L);
+        if (!pending.isEmpty()) {
+            oldestPendingAt.compareAndSet(0L, now);
+        }
+        return oldest;
+    }
+
+    public WriteBehindStatsResponse stats() {
+        long oldest = oldestPendingAt.get();
+        return WriteBehindStatsResponse.builder()
+                .name("last-login")
+                .pending(pending.size())
+                .recorded(recorded.sum())
+                .flushedRows(flushedRows.sum())
+                .failedFlushes(failedFlushes.sum())
+                .currentLagMs(oldest > 0 ? System.currentTimeMillis() - oldest : 0L)
+                .lastFlushLagMs(lastFlushLagMs)
+                .lastFlushRows(lastFlushRows)
+                .lastFlushDurationMs(lastFlushDurationMs)
+                .lastFlushAt(lastFlushAt)
+                .build();
+    }
+
+    /**
+     * One statement per chunk: UPDATE users SET last_login = CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+     */
+    private void writeChunk(List<Map.Entry<Long, LocalDateTime>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE users SET last_login = CASE id");
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+        for (Map.Entry<Long, LocalDateTime> entry : chunk) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(Timestamp.valueOf(entry.getValue()));
+        }
+        sql.append(" ELSE last_login END WHERE id IN (")
+                .append(String.join(",", Collections.nCopies(chunk.size(), "?")))
+                .append(')');
+        for (Map.Entry<Long, LocalDateTime> entry : chunk) {
+            args.add(entry.getKey());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,139 @@
+package com.elevate.consultingplatform.security;
+
+import com.elevate.consultingplatform.dto.admin.WorkerPoolStatsResponse;
+import com.elevate.consultingplatform.exception.RateLimitExceededException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Password encoder that runs BCrypt on a dedicated, bounded worker pool instead of on request threads.
+ * Only the hash itself goes to the pool and the caller's thread waits for it, so the pool plus its queue bound
+ * how many request threads can be tied up by hashing at once; keep that well below the servlet thread count
+ * (see ApplicationConfig). Work beyond it is rejected at once with {@link RateLimitExceededException} rather
+ * than piling up, and a caller that gives up waiting takes its task out of the queue.
+ */
+@Slf4j
+public class PasswordHashingService implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long waitTimeoutMs;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public PasswordHashingService(PasswordEncoder delegate, int poolSize, int queueCapacity, long waitTimeoutMs) {
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.waitTimeoutMs = waitTimeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(submit(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * True when the stored hash uses a lower cost factor than configured; the authentication provider
+     * then re-encodes the password on successful login.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public WorkerPoolStatsResponse stats() {
+        return WorkerPoolStatsResponse.builder()
+                .name("password-hashing")
+                .poolSize(executor.getCorePoolSize())
+                .activeThreads(executor.getActiveCount())
+                .queued(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .submitted(submitted.sum())
+                .completed(completed.sum())
+                .rejected(rejected.sum())
+                .timedOut(timedOut.sum())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> FutureTask<T> submit(Callable<T> work) {
+        FutureTask<T> task = new FutureTask<>(() -> {
+            try {
+                return work.call();
+            } finally {
+                completed.increment();
+            }
+        });
+        try {
+            executor.execute(task);
+            submitted.increment();
+            return task;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue full ({} queued), rejecting request", executor.getQueue().size());
+            throw new RateLimitExceededException("Authentication service is busy, please retry shortly", e);
+        }
+    }
+
+    private <T> T await(FutureTask<T> task) {
+        try {
+            return task.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            // Drop it from the queue so an abandoned hash does not take a worker later; one already running finishes
+            task.cancel(false);
+            executor.remove(task);
+            throw new RateLimitExceededException("Password hashing timed out, please retry shortly", e);
+        } catch (InterruptedException e) {
+            task.cancel(false);
+            executor.remove(task);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.elevate.consultingplatform.security;
+
+import com.elevate.consultingplatform.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Security-version stamp and enabled flag per user, read from the database the first time this node sees
+ * the user and kept for a short TTL. A token is accepted only if its stamp equals the current one and the
+ * user is enabled, so a node that has never seen a user (after a restart, or behind a balancer) checks
+ * the database before trusting the token. Changes made on this node take effect at commit; changes made
+ * on another node are picked up within the TTL.
+ */
+@Component
+public class SecurityStampRegistry {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Stamp> stamps;
+
+    public SecurityStampRegistry(
+            UserRepository userRepository,
+            @Value("${app.security.stamp-cache.max-size:100000}") long maxSize,
+            @Value("${app.security.stamp-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.stamps = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Current state of the user if a token carrying {@code tokenStamp} is still good, else null.
+     */
+    public Stamp verify(Long userId, int tokenStamp) {
+        Stamp current = current(userId);
+        if (tokenStamp > current.getVersion()) {
+            // Issued after our copy was read, so the change came from another node; read it again
+            stamps.invalidate(userId);
+            current = current(userId);
+        }
+        return current.isEnabled() && tokenStamp == current.getVersion() ? current : null;
+    }
+
+    /**
+     * Forgets the user once the surrounding transaction commits, so the next request reads the changed row.
+     */
+    public void evictAfterCommit(Long userId) {
+        afterCommit(() -> stamps.invalidate(userId));
+    }
+
+    /**
+     * Marks every token of a removed user as stale.
+     */
+    public void revokeAfterCommit(Long userId) {
+        afterCommit(() -> stamps.put(userId, Stamp.REVOKED));
+    }
+
+    private Stamp current(Long userId) {
+        return stamps.get(userId, id -> userRepository.findSecurityStateById(id)
+                .map(state -> new Stamp(state.getSecurityVersion(), state.isEnabled()))
+                .orElse(Stamp.REVOKED));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Stamp {
+        static final Stamp REVOKED = new Stamp(Integer.MAX_VALUE, false);
+
+        private final int version;
+        private final boolean enabled;
+    }
+}
@@ -0,0 +1,76 @@
+package com.elevate.consultingplatform.security;
+
+import com.elevate.consultingplatform.dto.admin.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded cache of resolved principals, keyed by lowercase email.
+ * Entries are immutable {@link UserDetailsImpl} instances; anything that changes a user's credentials,
+ * role or status must call {@link #evict(String)} so the next lookup goes back to the database.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public UserDetailsCache(
+            @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.user-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public UserDetailsImpl get(String email, Function<String, UserDetailsImpl> loader) {
+        return cache.get(key(email), loader);
+    }
+
+    /**
+     * Evicts now and again after the surrounding transaction commits, so a concurrent lookup cannot
+     * re-cache the pre-change row while the transaction is still open.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = key(email);
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.builder()
+                .name("user-details")
+                .size(cache.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,6 @@
 package com.elevate.consultingplatform.security;
 
+import com.elevate.consultingplatform.entity.Role;
 import com.elevate.consultingplatform.entity.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
@@ -24,21 +25,58 @@ public class UserDetailsImpl implements UserDetails {
     private final String password;
     private final Collection<? extends GrantedAuthority> authorities;
     private final Boolean isActive;
+    private final int securityVersion;
 
     public static UserDetailsImpl build(User user) {
         List<GrantedAuthority> authorities = user.getAuthorities().stream()
                 .map(role -> new SimpleGrantedAuthority(role.getAuthority()))
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
 
         return new UserDetailsImpl(
                 user.getId(),
                 user.getEmail(),
                 user.getPassword(),
                 authorities,
-                user.isEnabled()
+                user.isEnabled(),
+                user.getSecurityVersion()
         );
     }
 
+    /**
+     * Lightweight principal rebuilt from verified access-token claims, without touching the database.
+     * Carries no password; it is only ever used for already-authenticated requests.
+     * {@code enabled} comes from the caller's check of the user's current state.
+     */
+    public static UserDetailsImpl fromToken(VerifiedToken token, boolean enabled) {
+        Role role = Role.valueOf(token.getRole());
+        return new UserDetailsImpl(
+                token.getUserId(),
+                token.getSubject(),
+                null,
+                role.getGrantedAuthorities(),
+                enabled,
+                token.getSecurityVersion()
+        );
+    }
+
+    public UserDetailsImpl withPassword(String encodedPassword) {
+        return new UserDetailsImpl(id, email, encodedPassword, authorities, isActive, securityVersion);
+    }
+
+    public Role getRole() {
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith("ROLE_")) {
+                try {
+                    return Role.valueOf(name.substring(5));
+                } catch (IllegalArgumentException ignored) {
+                    // not one of our roles
+                }
+            }
+        }
+        return null;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -81,4 +119,9 @@ public class UserDetailsImpl implements UserDetails {
         UserDetailsImpl user = (UserDetailsImpl) o;
         return Objects.equals(id, user.id);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
@@ -4,6 +4,7 @@ import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,16 +12,31 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
+        return userDetailsCache.get(email, key -> {
+            User user = userRepository.findByEmail(key)
+                    .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
+            return UserDetailsImpl.build(user);
+        });
+    }
 
-        return UserDetailsImpl.build(user);
+    /**
+     * Called by the authentication provider after a successful login whose stored hash uses an outdated cost.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+        userDetailsCache.evict(user.getUsername());
+        if (user instanceof UserDetailsImpl principal) {
+            return principal.withPassword(newPassword);
+        }
+        return loadUserByUsername(user.getUsername());
     }
 }
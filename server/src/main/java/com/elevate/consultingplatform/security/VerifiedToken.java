@@ -0,0 +1,83 @@
+package com.elevate.consultingplatform.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable result of a single signature + expiry check on a JWT.
+ * Callers read everything they need from here instead of re-parsing the token.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedToken {
+
+    private final String subject;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    private final Map<String, Object> claims;
+
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                Collections.unmodifiableMap(new LinkedHashMap<>(claims))
+        );
+    }
+
+    public Object getClaim(String name) {
+        return claims.get(name);
+    }
+
+    public Long getUserId() {
+        Object value = claims.get(JwtService.CLAIM_USER_ID);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    public String getRole() {
+        Object value = claims.get(JwtService.CLAIM_ROLE);
+        return value != null ? value.toString() : null;
+    }
+
+    public Integer getSecurityVersion() {
+        Object value = claims.get(JwtService.CLAIM_SECURITY_VERSION);
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    /**
+     * True when the token carries everything needed to build a principal without a database lookup.
+     */
+    public boolean hasPrincipalClaims() {
+        return getUserId() != null && getRole() != null && getSecurityVersion() != null;
+    }
+
+    /**
+     * Tokens issued before security stamps existed carry none and are accepted; otherwise the stamp must match.
+     */
+    public boolean matchesSecurityVersion(int currentVersion) {
+        Integer stamp = getSecurityVersion();
+        return stamp == null || stamp == currentVersion;
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+
+    /**
+     * True when the token was issued for the given user and has not expired.
+     */
+    public boolean isValidFor(UserDetails userDetails) {
+        return subject != null
+                && userDetails != null
+                && subject.equals(userDetails.getUsername())
+                && !isExpired();
+    }
+}
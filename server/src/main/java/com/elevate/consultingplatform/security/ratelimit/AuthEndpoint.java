@@ -0,0 +1,11 @@
+package com.elevate.consultingplatform.security.ratelimit;
+
+/**
+ * Authentication endpoints that are rate limited; each has its own per-IP and per-email budget.
+ */
+public enum AuthEndpoint {
+    LOGIN,
+    REGISTER,
+    FORGOT_PASSWORD,
+    REFRESH_TOKEN
+}
@@ -0,0 +1,70 @@
+package com.elevate.consultingplatform.security.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-endpoint budgets, e.g. {@code app.rate-limit.login.per-email.capacity=5}.
+ * A limit with capacity 0 disables that dimension. The per-email budget is per account across all
+ * addresses; for login it counts failed attempts only.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class AuthRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Buckets untouched (and therefore full) for this long are dropped
+    private long idleEvictionMs = 10 * 60 * 1000L;
+
+    // Load balancers and proxies (addresses or CIDR ranges) whose X-Forwarded-For entries are believed,
+    // e.g. app.rate-limit.trusted-proxies=10.0.0.0/8; with none configured the socket address is the client
+    private List<String> trustedProxies = new ArrayList<>();
+
+    private EndpointLimits login = new EndpointLimits(new Limit(30, 30), new Limit(20, 10));
+    private EndpointLimits register = new EndpointLimits(new Limit(10, 5), new Limit(3, 1));
+    private EndpointLimits forgotPassword = new EndpointLimits(new Limit(10, 5), new Limit(3, 1));
+    private EndpointLimits refreshToken = new EndpointLimits(new Limit(60, 60), new Limit(0, 0));
+
+    public EndpointLimits forEndpoint(AuthEndpoint endpoint) {
+        return switch (endpoint) {
+            case LOGIN -> login;
+            case REGISTER -> register;
+            case FORGOT_PASSWORD -> forgotPassword;
+            case REFRESH_TOKEN -> refreshToken;
+        };
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EndpointLimits {
+        private Limit perIp;
+        private Limit perEmail;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        // Maximum burst
+        private int capacity;
+        // Sustained rate
+        private int refillPerMinute;
+
+        boolean isEnabled() {
+            return capacity > 0 && refillPerMinute > 0;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.elevate.consultingplatform.security.ratelimit;
+
+import com.elevate.consultingplatform.dto.admin.RateLimitStatsResponse;
+import com.elevate.consultingplatform.exception.RateLimitExceededException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sheds abusive traffic on the auth endpoints before it reaches the AuthenticationManager (and BCrypt).
+ * Buckets live in ConcurrentHashMaps, one per endpoint and dimension; lookups of existing buckets take
+ * no locks and bucket updates are a single CAS.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthRateLimiter {
+
+    private static final String PER_IP = "per-ip";
+    private static final String PER_EMAIL = "per-email";
+
+    private final AuthRateLimitProperties properties;
+
+    private final Map<AuthEndpoint, Map<String, TokenBucket>> ipBuckets = newBucketMaps();
+    private final Map<AuthEndpoint, Map<String, TokenBucket>> emailBuckets = newBucketMaps();
+    private final Map<AuthEndpoint, LongAdder> ipRejections = newCounters();
+    private final Map<AuthEndpoint, LongAdder> emailRejections = newCounters();
+
+    /**
+     * Per-IP budgets count every request. The per-email budget belongs to the account whatever address the
+     * requests come from, so one account attacked from many addresses is still throttled. For login it counts
+     * only failed attempts (see {@link #recordFailure}), so its owner is not locked out by traffic alone.
+     *
+     * @throws RateLimitExceededException when either the client IP or the target email is over budget
+     */
+    public void check(AuthEndpoint endpoint, String clientIp, String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AuthRateLimitProperties.EndpointLimits limits = properties.forEndpoint(endpoint);
+        long now = System.nanoTime();
+
+        if (clientIp != null && !tryConsume(ipBuckets.get(endpoint), clientIp, limits.getPerIp(), now)) {
+            ipRejections.get(endpoint).increment();
+            log.debug("Rate limit hit for {} from IP {}", endpoint, clientIp);
+            throw new RateLimitExceededException("Too many requests from this address");
+        }
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        boolean allowed = endpoint == AuthEndpoint.LOGIN
+                ? hasToken(emailBuckets.get(endpoint), normalize(email), limits.getPerEmail(), now)
+                : tryConsume(emailBuckets.get(endpoint), normalize(email), limits.getPerEmail(), now);
+        if (!allowed) {
+            emailRejections.get(endpoint).increment();
+            log.debug("Rate limit hit for {} on account {}", endpoint, email);
+            throw new RateLimitExceededException("Too many requests for this account");
+        }
+    }
+
+    /**
+     * Charges a failed attempt to the account's budget.
+     */
+    public void recordFailure(AuthEndpoint endpoint, String email) {
+        if (!properties.isEnabled() || email == null || email.isBlank()) {
+            return;
+        }
+        tryConsume(emailBuckets.get(endpoint), normalize(email), properties.forEndpoint(endpoint).getPerEmail(),
+                System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMs());
+        int before = trackedBuckets();
+        ipBuckets.values().forEach(buckets -> buckets.values().removeIf(bucket -> bucket.isIdleSince(cutoff)));
+        emailBuckets.values().forEach(buckets -> buckets.values().removeIf(bucket -> bucket.isIdleSince(cutoff)));
+        log.debug("Evicted {} idle rate-limit buckets", before - trackedBuckets());
+    }
+
+    public RateLimitStatsResponse stats() {
+        Map<String, Long> rejected = new LinkedHashMap<>();
+        for (AuthEndpoint endpoint : AuthEndpoint.values()) {
+            rejected.put(endpoint.name() + "." + PER_IP, ipRejections.get(endpoint).sum());
+            rejected.put(endpoint.name() + "." + PER_EMAIL, emailRejections.get(endpoint).sum());
+        }
+        return RateLimitStatsResponse.builder()
+                .enabled(properties.isEnabled())
+                .trackedBuckets(trackedBuckets())
+                .rejected(rejected)
+                .build();
+    }
+
+    private static boolean tryConsume(Map<String, TokenBucket> buckets, String key,
+                                      AuthRateLimitProperties.Limit limit, long now) {
+        if (limit == null || !limit.isEnabled()) {
+            return true;
+        }
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+        long emissionInterval = TimeUnit.MINUTES.toNanos(1) / limit.getRefillPerMinute();
+        return bucket.tryConsume(now, emissionInterval, emissionInterval * limit.getCapacity());
+    }
+
+    private static boolean hasToken(Map<String, TokenBucket> buckets, String key,
+                                    AuthRateLimitProperties.Limit limit, long now) {
+        if (limit == null || !limit.isEnabled()) {
+            return true;
+        }
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return true;
+        }
+        long emissionInterval = TimeUnit.MINUTES.toNanos(1) / limit.getRefillPerMinute();
+        return bucket.hasToken(now, emissionInterval, emissionInterval * limit.getCapacity());
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private int trackedBuckets() {
+        int total = 0;
+        for (Map<String, TokenBucket> buckets : ipBuckets.values()) {
+            total += buckets.size();
+        }
+        for (Map<String, TokenBucket> buckets : emailBuckets.values()) {
+            total += buckets.size();
+        }
+        return total;
+    }
+
+    private static Map<AuthEndpoint, Map<String, TokenBucket>> newBucketMaps() {
+        Map<AuthEndpoint, Map<String, TokenBucket>> maps = new EnumMap<>(AuthEndpoint.class);
+        for (AuthEndpoint endpoint : AuthEndpoint.values()) {
+            maps.put(endpoint, new ConcurrentHashMap<>());
+        }
+        return maps;
+    }
+
+    private static Map<AuthEndpoint, LongAdder> newCounters() {
+        Map<AuthEndpoint, LongAdder> counters = new EnumMap<>(AuthEndpoint.class);
+        for (AuthEndpoint endpoint : AuthEndpoint.values()) {
+            counters.put(endpoint, new LongAdder());
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,68 @@
+package com.elevate.consultingplatform.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Resolves the address a request really came from. X-Forwarded-For is only read when the connection comes
+ * from a configured trusted proxy, and is walked from the right so that entries a client wrote into the
+ * header itself are never reached: the first hop that is not a trusted proxy is the client.
+ */
+@Component
+public class ClientAddressResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientAddressResolver(AuthRateLimitProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null || trustedProxies.isEmpty()) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Not an IP literal, so not one of our proxies
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.elevate.consultingplatform.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket using the generic cell rate algorithm: the whole bucket state is a single
+ * "theoretical arrival time" updated with compare-and-set, so concurrent requests never block each other.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @param emissionIntervalNanos time to refill one token
+     * @param burstNanos            capacity * emission interval
+     */
+    boolean tryConsume(long nowNanos, long emissionIntervalNanos, long burstNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            if (next - nowNanos > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Whether {@link #tryConsume} would succeed now, without taking the token.
+     */
+    boolean hasToken(long nowNanos, long emissionIntervalNanos, long burstNanos) {
+        return Math.max(theoreticalArrivalNanos.get(), nowNanos) + emissionIntervalNanos - nowNanos <= burstNanos;
+    }
+
+    /**
+     * A bucket that has been full since the cutoff behaves exactly like a fresh one and can be dropped.
+     */
+    boolean isIdleSince(long cutoffNanos) {
+        return theoreticalArrivalNanos.get() - cutoffNanos <= 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.elevate.consultingplatform.service;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
 import com.elevate.consultingplatform.dto.questionnaire.admin.*;
 
 import java.util.List;
@@ -14,6 +15,13 @@ public interface AdminQuestionnaireService {
 
     // Questions
     List<QuestionSummaryDto> listQuestions(Long segmentId);
+    /**
+     * Keyset page of the segment's questions in display order, optionally filtered by a substring of the text.
+     * Items carry their position in {@code order} only when no filter is given; positions are counted from
+     * the first page and are off by the number of rows moved across the boundary between page requests.
+     */
+    KeysetPageResponse<QuestionSummaryDto> pageQuestions(Long segmentId, String text, String cursor, int limit);
+    long countQuestions(Long segmentId, String text);
     QuestionSummaryDto createQuestion(Long segmentId, String text, Integer weight, Integer order);
     QuestionSummaryDto updateQuestion(Long questionId, String text, Integer weight, Integer order);
     void deleteQuestion(Long questionId);
@@ -1,5 +1,6 @@
 package com.elevate.consultingplatform.service.assessment;
 
+import com.elevate.consultingplatform.dto.assessment.AssignmentResultResponse;
 import com.elevate.consultingplatform.entity.assessment.Assessment;
 
 import java.time.LocalDate;
@@ -8,7 +9,8 @@ import java.util.List;
 public interface AssessmentAdminService {
     Assessment createAssessment(Long stageId, String name, String description, Long questionnaireId);
     List<Assessment> listByStage(Long stageId);
-    void assignToClients(Long assessmentId, List<Long> clientIds, LocalDate dueDate);
+    AssignmentResultResponse assignToClients(Long assessmentId, List<Long> clientIds, LocalDate dueDate);
+    AssignmentResultResponse getAssignmentProgress(String jobId);
     Assessment updateAssessment(Long assessmentId, String name, String description, Long questionnaireId);
     void deleteAssessment(Long assessmentId);
 }
@@ -1,16 +1,21 @@
 package com.elevate.consultingplatform.service.assessment;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
+import com.elevate.consultingplatform.dto.assessment.ClientAssessmentListItem;
 import com.elevate.consultingplatform.entity.assessment.ClientAssessment;
 import com.elevate.consultingplatform.entity.assessment.AssessmentAnswer;
 import com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse;
+import com.elevate.consultingplatform.dto.assessment.ProvisionalScoreResponse;
 
 import java.util.List;
 
 public interface AssessmentClientService {
     List<ClientAssessment> listMyAssignments(Long userId);
+    KeysetPageResponse<ClientAssessmentListItem> listMyAssignmentsPage(Long userId, String cursor, int limit);
     ClientAssessment getForFill(Long clientAssessmentId, Long userId);
     void saveAnswers(Long clientAssessmentId, Long userId, List<AnswerItem> answers, boolean submit);
     ClientAssessmentDetailsResponse getDetails(Long clientAssessmentId, Long userId);
+    ProvisionalScoreResponse getProvisionalScore(Long clientAssessmentId, Long userId);
 
     class AnswerItem {
         public Long questionId;
@@ -1,8 +1,16 @@
 package com.elevate.consultingplatform.service.assessment;
 
+import com.elevate.consultingplatform.dto.assessment.StageRuleDiagnosticsResponse;
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
 import com.elevate.consultingplatform.entity.catalog.Stage;
 
+import java.util.List;
+
 public interface StageDeterminationService {
     Stage determineStage(Questionnaire questionnaire, double totalScore);
+
+    // One entry per score, in order; null where no rule matches
+    List<Stage> determineStages(Questionnaire questionnaire, double[] scores);
+
+    StageRuleDiagnosticsResponse diagnose(Long questionnaireId);
 }
@@ -0,0 +1,208 @@
+package com.elevate.consultingplatform.service.assessment.assignment;
+
+import com.elevate.consultingplatform.dto.assessment.AssignmentResultResponse;
+import com.elevate.consultingplatform.exception.RateLimitExceededException;
+import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import com.elevate.consultingplatform.repository.assessment.ClientAssessmentAssignmentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns an assessment to many clients at once. Client ids are processed in chunks, each in its own
+ * transaction: one query resolves the chunk's ids to users, one insert creates the missing client assessments.
+ * Requests above the async threshold run on a small background pool and report progress by job id;
+ * progress of finished jobs is kept in memory for a while and lost on restart.
+ */
+@Slf4j
+@Component
+public class AssessmentAssignmentEngine {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private static final int MAX_RETAINED_JOBS = 200;
+
+    private final ClientAssessmentAssignmentRepository assignmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditorAware<String> auditorProvider;
+    private final int chunkSize;
+    private final int asyncThreshold;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, Progress> jobs = new ConcurrentHashMap<>();
+
+    public AssessmentAssignmentEngine(ClientAssessmentAssignmentRepository assignmentRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      AuditorAware<String> auditorProvider,
+                                      @Value("${app.assignment.chunk-size:1000}") int chunkSize,
+                                      @Value("${app.assignment.async-threshold:2000}") int asyncThreshold,
+                                      @Value("${app.assignment.max-queued-jobs:10}") int maxQueuedJobs) {
+        this.assignmentRepository = assignmentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.auditorProvider = auditorProvider;
+        this.chunkSize = chunkSize;
+        this.asyncThreshold = asyncThreshold;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "assignment-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Assigns inline for small requests; larger ones are queued and the returned progress carries a job id.
+     * The caller is expected to have checked that the assessment exists.
+     */
+    public AssignmentResultResponse assign(long assessmentId, List<Long> clientIds, LocalDate dueDate) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        if (clientIds != null) {
+            for (Long id : clientIds) {
+                if (id != null) {
+                    distinct.add(id);
+                }
+            }
+        }
+        String actor = auditorProvider.getCurrentAuditor().orElse("system");
+        List<Long> ids = new ArrayList<>(distinct);
+        if (ids.size() <= asyncThreshold) {
+            Progress progress = new Progress(null, assessmentId, ids.size());
+            run(progress, ids, dueDate, actor);
+            if (progress.error != null) {
+                throw new IllegalStateException("Assignment failed: " + progress.error);
+            }
+            return progress.toResponse();
+        }
+
+        Progress progress = new Progress(UUID.randomUUID().toString(), assessmentId, ids.size());
+        try {
+            executor.execute(() -> run(progress, ids, dueDate, actor));
+        } catch (RejectedExecutionException e) {
+            throw new RateLimitExceededException("Too many bulk assignments in progress, please retry shortly", e);
+        }
+        retain(progress);
+        log.info("Bulk assignment {} queued: assessment {} to {} clients", progress.jobId, assessmentId, ids.size());
+        return progress.toResponse();
+    }
+
+    public AssignmentResultResponse progress(String jobId) {
+        Progress progress = jobs.get(jobId);
+        if (progress == null) {
+            throw new ResourceNotFoundException("Assignment job not found: " + jobId);
+        }
+        return progress.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(Progress progress, List<Long> ids, LocalDate dueDate, String actor) {
+        try {
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+                int[] counts = transactionTemplate.execute(status -> {
+                    List<Long> existing = assignmentRepository.findExistingUserIds(chunk);
+                    int inserted = existing.isEmpty() ? 0 : assignmentRepository.insertMissing(progress.assessmentId,
+                            existing, dueDate, actor, Timestamp.valueOf(LocalDateTime.now()));
+                    return new int[]{existing.size(), inserted};
+                });
+                progress.record(chunk.size(), counts[0], counts[1]);
+            }
+            progress.status = COMPLETED;
+        } catch (RuntimeException e) {
+            progress.error = e.getMessage();
+            progress.status = FAILED;
+            log.error("Assignment of assessment {} failed after {} of {} clients",
+                    progress.assessmentId, progress.processed, progress.requested, e);
+        } finally {
+            progress.finishedAt = Instant.now();
+        }
+    }
+
+    private void retain(Progress progress) {
+        jobs.put(progress.jobId, progress);
+        if (jobs.size() > MAX_RETAINED_JOBS) {
+            // Drop finished jobs, oldest first, until back under the limit
+            Iterator<Progress> finished = jobs.values().stream()
+                    .filter(p -> p.finishedAt != null)
+                    .sorted((a, b) -> a.finishedAt.compareTo(b.finishedAt))
+                    .iterator();
+            while (jobs.size() > MAX_RETAINED_JOBS && finished.hasNext()) {
+                jobs.remove(finished.next().jobId);
+            }
+        }
+    }
+
+    private static final class Progress {
+        private final String jobId;
+        private final long assessmentId;
+        private final int requested;
+        private final Instant startedAt = Instant.now();
+        private volatile int processed;
+        private volatile int resolved;
+        private volatile int assigned;
+        private volatile String status = RUNNING;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private Progress(String jobId, long assessmentId, int requested) {
+            this.jobId = jobId;
+            this.assessmentId = assessmentId;
+            this.requested = requested;
+        }
+
+        // Single writer (the thread running the job)
+        private void record(int chunk, int existing, int inserted) {
+            processed += chunk;
+            resolved += existing;
+            assigned += inserted;
+        }
+
+        private AssignmentResultResponse toResponse() {
+            int done = processed;
+            int found = resolved;
+            int created = assigned;
+            return AssignmentResultResponse.builder()
+                    .jobId(jobId)
+                    .assessmentId(assessmentId)
+                    .status(status)
+                    .requested(requested)
+                    .processed(done)
+                    .assigned(created)
+                    .alreadyAssigned(found - created)
+                    .unknownClients(done - found)
+                    .errorMessage(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
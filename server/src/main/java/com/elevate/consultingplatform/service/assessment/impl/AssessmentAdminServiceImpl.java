@@ -1,23 +1,23 @@
 package com.elevate.consultingplatform.service.assessment.impl;
 
-import com.elevate.consultingplatform.entity.User;
+import com.elevate.consultingplatform.dto.assessment.AssignmentResultResponse;
 import com.elevate.consultingplatform.entity.assessment.*;
 import com.elevate.consultingplatform.entity.catalog.Stage;
+import com.elevate.consultingplatform.exception.BusinessRuleViolationException;
 import com.elevate.consultingplatform.repository.assessment.AssessmentRepository;
-import com.elevate.consultingplatform.repository.assessment.ClientAssessmentRepository;
 import com.elevate.consultingplatform.repository.catalog.StageRepository;
-import com.elevate.consultingplatform.repository.UserRepository;
 import com.elevate.consultingplatform.service.assessment.AssessmentAdminService;
+import com.elevate.consultingplatform.service.assessment.assignment.AssessmentAssignmentEngine;
+import com.elevate.consultingplatform.service.assessment.scoring.ScoringConfigChangedEvent;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +25,8 @@ public class AssessmentAdminServiceImpl implements AssessmentAdminService {
 
     private final AssessmentRepository assessmentRepository;
     private final StageRepository stageRepository;
-    private final UserRepository userRepository;
-    private final ClientAssessmentRepository clientAssessmentRepository;
+    private final AssessmentAssignmentEngine assignmentEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PersistenceContext
     private EntityManager em;
@@ -46,6 +46,8 @@ public class AssessmentAdminServiceImpl implements AssessmentAdminService {
         if (questionnaireId != null) {
             Questionnaire ref = em.getReference(Questionnaire.class, questionnaireId);
             assessment.setQuestionnaire(ref);
+            // The questionnaire now scores with this stage's config
+            eventPublisher.publishEvent(new ScoringConfigChangedEvent());
         }
         return assessmentRepository.save(assessment);
     }
@@ -59,32 +61,21 @@ public class AssessmentAdminServiceImpl implements AssessmentAdminService {
     }
 
     @Override
-    @Transactional
-    public void assignToClients(Long assessmentId, List<Long> clientIds, LocalDate dueDate) {
+    public AssignmentResultResponse assignToClients(Long assessmentId, List<Long> clientIds, LocalDate dueDate) {
         Assessment assessment = assessmentRepository.findById(assessmentId)
                 .orElseThrow(() -> new IllegalArgumentException("Assessment not found: " + assessmentId));
-
-        List<ClientAssessment> toSave = new ArrayList<>();
-        for (Long clientId : clientIds) {
-            Optional<User> userOpt = userRepository.findById(clientId);
-            if (userOpt.isEmpty()) continue; // skip invalid ids silently
-            User client = userOpt.get();
-
-            // Avoid duplicate assignment: check if already exists (efficient query)
-            boolean exists = !clientAssessmentRepository.findByClientAndAssessment(client, assessment).isEmpty();
-            if (exists) continue;
-
-            ClientAssessment ca = ClientAssessment.builder()
-                    .client(client)
-                    .assessment(assessment)
-                    .status(AssessmentStatus.ASSIGNED)
-                    .dueDate(dueDate)
-                    .build();
-            toSave.add(ca);
-        }
-        if (!toSave.isEmpty()) {
-            clientAssessmentRepository.saveAll(toSave);
+        Questionnaire questionnaire = assessment.getQuestionnaire();
+        if (questionnaire != null && questionnaire.getStatus() == QuestionnaireStatus.DRAFT) {
+            throw new BusinessRuleViolationException("Questionnaire " + questionnaire.getId()
+                    + " is a draft; publish it before assigning the assessment");
         }
+        // Chunks commit on their own; large requests continue in the background
+        return assignmentEngine.assign(assessmentId, clientIds, dueDate);
+    }
+
+    @Override
+    public AssignmentResultResponse getAssignmentProgress(String jobId) {
+        return assignmentEngine.progress(jobId);
     }
 
     @Override
@@ -98,6 +89,7 @@ public class AssessmentAdminServiceImpl implements AssessmentAdminService {
         if (questionnaireId != null) {
             Questionnaire ref = em.getReference(Questionnaire.class, questionnaireId);
             assessment.setQuestionnaire(ref);
+            eventPublisher.publishEvent(new ScoringConfigChangedEvent());
         }
         return assessmentRepository.save(assessment);
     }
@@ -109,5 +101,8 @@ public class AssessmentAdminServiceImpl implements AssessmentAdminService {
                 .orElseThrow(() -> new IllegalArgumentException("Assessment not found: " + assessmentId));
         // Optionally: check for existing client assignments and handle cascade if needed
         assessmentRepository.delete(assessment);
+        if (assessment.getQuestionnaire() != null) {
+            eventPublisher.publishEvent(new ScoringConfigChangedEvent());
+        }
     }
 }
@@ -1,30 +1,48 @@
 package com.elevate.consultingplatform.service.assessment.impl;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
+import com.elevate.consultingplatform.dto.assessment.ClientAssessmentListItem;
 import com.elevate.consultingplatform.entity.assessment.*;
 import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.repository.UserRepository;
 import com.elevate.consultingplatform.repository.assessment.*;
+import com.elevate.consultingplatform.repository.assessment.projection.ClientAssessmentHeader;
+import com.elevate.consultingplatform.dto.assessment.ProvisionalScoreResponse;
 import com.elevate.consultingplatform.service.assessment.AssessmentClientService;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshot;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshotCache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class AssessmentClientServiceImpl implements AssessmentClientService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ClientAssessmentRepository clientAssessmentRepository;
-    private final AssessmentAnswerRepository assessmentAnswerRepository;
-    private final AssessmentAnswerOptionRepository assessmentAnswerOptionRepository;
-    private final QuestionRepository questionRepository;
-    private final QuestionOptionRepository questionOptionRepository;
     private final UserRepository userRepository;
+    private final AssessmentAnswerBatchRepository answerBatchRepository;
+    private final ClientAssessmentScoreRepository scoreRepository;
+    private final AuditorAware<String> auditorProvider;
+    private final ClientAssessmentDetailsAssembler detailsAssembler;
+    private final QuestionnaireSnapshotCache snapshotCache;
 
     @PersistenceContext
     private EntityManager em;
@@ -37,6 +55,31 @@ public class AssessmentClientServiceImpl implements AssessmentClientService {
         return clientAssessmentRepository.findByClientOrderByIdDesc(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<ClientAssessmentListItem> listMyAssignmentsPage(Long userId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : parseCursor(cursor);
+        // One extra row tells whether another page follows
+        List<ClientAssessmentListItem> rows = clientAssessmentRepository.findListItemsBefore(
+                userId, beforeId, PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        List<ClientAssessmentListItem> items = hasMore ? rows.subList(0, size) : rows;
+        return KeysetPageResponse.<ClientAssessmentListItem>builder()
+                .items(new ArrayList<>(items))
+                .nextCursor(hasMore ? String.valueOf(items.get(items.size() - 1).getId()) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ClientAssessment getForFill(Long clientAssessmentId, Long userId) {
@@ -57,53 +100,19 @@ public class AssessmentClientServiceImpl implements AssessmentClientService {
             throw new IllegalArgumentException("Access denied for this assessment");
         }
 
-        // Upsert each answer
-        for (AnswerItem item : answers) {
-            Question question = questionRepository.findById(item.questionId)
-                    .orElseThrow(() -> new IllegalArgumentException("Question not found: " + item.questionId));
-
-            AssessmentAnswer answer = assessmentAnswerRepository
-                    .findByClientAssessmentAndQuestion(ca, question)
-                    .orElseGet(() -> AssessmentAnswer.builder()
-                            .clientAssessment(ca)
-                            .question(question)
-                            .build());
-            answer.setAnswerText(item.answerText);
-            AssessmentAnswer saved = assessmentAnswerRepository.save(answer);
-
-            // Replace option selections
-            assessmentAnswerOptionRepository.deleteByAnswer(saved);
-            if (item.optionIds != null && !item.optionIds.isEmpty()) {
-                List<AssessmentAnswerOption> links = new ArrayList<>();
-                for (Long optId : item.optionIds) {
-                    QuestionOption opt = questionOptionRepository.findById(optId)
-                            .orElseThrow(() -> new IllegalArgumentException("Option not found: " + optId));
-                    AssessmentAnswerOption link = new AssessmentAnswerOption();
-                    AssessmentAnswerOption.Id id = new AssessmentAnswerOption.Id(saved.getId(), opt.getId());
-                    link.setId(id);
-                    link.setAnswer(saved);
-                    link.setOption(opt);
-                    links.add(link);
-                }
-                assessmentAnswerOptionRepository.saveAll(links);
-            }
+        if (answers != null && !answers.isEmpty()) {
+            // The pinned version; rows assigned before versioning fall back to the assessment's questionnaire
+            Questionnaire questionnaire = ca.getQuestionnaire() != null
+                    ? ca.getQuestionnaire() : ca.getAssessment().getQuestionnaire();
+            QuestionnaireSnapshot snapshot = questionnaire != null ? snapshotCache.get(questionnaire.getId()) : null;
+            upsertAnswers(ca.getId(), snapshot, answers);
         }
 
         if (submit) {
-            // Compute score: sum of selected options' weights
-            BigDecimal total = BigDecimal.ZERO;
-            List<AssessmentAnswer> all = assessmentAnswerRepository.findByClientAssessment(ca);
-            for (AssessmentAnswer ans : all) {
-                var selected = assessmentAnswerOptionRepository.findByAnswer(ans);
-                for (AssessmentAnswerOption link : selected) {
-                    Double w = link.getOption().getWeight();
-                    if (w != null) {
-                        total = total.add(BigDecimal.valueOf(w));
-                    }
-                }
-            }
+            // Score is the running total maintained by every save; no recompute needed
+            BigDecimal total = scoreRepository.findRunningScore(ca.getId());
             ca.setStatus(AssessmentStatus.SUBMITTED);
-            ca.setScore(total);
+            ca.setScore(total.setScale(2, RoundingMode.HALF_UP));
         } else {
             if (ca.getStatus() == AssessmentStatus.ASSIGNED) {
                 ca.setStatus(AssessmentStatus.IN_PROGRESS);
@@ -112,69 +121,117 @@ public class AssessmentClientServiceImpl implements AssessmentClientService {
         clientAssessmentRepository.save(ca);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse getDetails(Long clientAssessmentId, Long userId) {
-        ClientAssessment ca = clientAssessmentRepository.findById(clientAssessmentId)
-                .orElseThrow(() -> new IllegalArgumentException("ClientAssessment not found: " + clientAssessmentId));
-        if (!ca.getClient().getId().equals(userId)) {
-            throw new IllegalArgumentException("Access denied for this assessment");
+    /**
+     * Batched upsert: validates question and option ids against the questionnaire snapshot, reads the existing
+     * answers once, then writes answers and option links in JDBC batches. The running score is moved by
+     * the weight difference of the replaced option selections.
+     */
+    private void upsertAnswers(Long clientAssessmentId, QuestionnaireSnapshot snapshot, List<AnswerItem> answers) {
+        // Last item wins when the same question is sent twice, as with the old per-item upsert
+        Map<Long, AnswerItem> byQuestion = new LinkedHashMap<>();
+        for (AnswerItem item : answers) {
+            if (item.questionId == null) {
+                throw new IllegalArgumentException("Question id is required");
+            }
+            byQuestion.put(item.questionId, item);
+        }
+        for (AnswerItem item : byQuestion.values()) {
+            if (snapshot == null || !snapshot.containsQuestion(item.questionId)) {
+                throw new IllegalArgumentException("Question not found: " + item.questionId);
+            }
+            if (item.optionIds == null) {
+                continue;
+            }
+            for (Long optionId : item.optionIds) {
+                QuestionnaireSnapshot.OptionView option = optionId != null ? snapshot.option(optionId) : null;
+                if (option == null) {
+                    throw new IllegalArgumentException("Option not found: " + optionId);
+                }
+                if (option.getQuestionId() != item.questionId) {
+                    throw new IllegalArgumentException("Option " + optionId + " does not belong to question " + item.questionId);
+                }
+            }
         }
 
-        Assessment assessment = ca.getAssessment();
-        Questionnaire questionnaire = assessment.getQuestionnaire();
-        if (questionnaire == null) {
-            // No questionnaire linked; return empty list
-            return com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.builder()
-                    .clientAssessmentId(ca.getId())
-                    .assessmentName(assessment.getName())
-                    .questions(List.of())
-                    .build();
+        scoreRepository.lockForScoring(clientAssessmentId);
+        Map<Long, Long> answerIds = answerBatchRepository.findAnswerIdsByQuestion(clientAssessmentId);
+        List<AssessmentAnswerBatchRepository.AnswerWrite> inserts = new ArrayList<>();
+        List<AssessmentAnswerBatchRepository.AnswerWrite> updates = new ArrayList<>();
+        for (AnswerItem item : byQuestion.values()) {
+            Long answerId = answerIds.get(item.questionId);
+            var write = new AssessmentAnswerBatchRepository.AnswerWrite(answerId, item.questionId, item.answerText);
+            (answerId == null ? inserts : updates).add(write);
         }
 
-        // Fetch all questions for questionnaire
-        List<Question> questions = questionRepository.findByQuestionnaireOrderByIdAsc(questionnaire);
-        List<com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.QuestionDto> qDtos = new ArrayList<>();
-
-        for (Question q : questions) {
-            // Options
-            var opts = questionOptionRepository.findByQuestionOrderByOrderIndexAsc(q);
-            List<com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.OptionDto> oDtos = new ArrayList<>();
-            for (QuestionOption o : opts) {
-                oDtos.add(com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.OptionDto.builder()
-                        .id(o.getId()).text(o.getLabel()).build());
+        String actor = auditorProvider.getCurrentAuditor().orElse("system");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        answerBatchRepository.insertAnswers(clientAssessmentId, inserts, actor, now);
+        answerBatchRepository.updateAnswers(updates, actor, now);
+        if (!inserts.isEmpty()) {
+            List<Long> insertedQuestions = new ArrayList<>(inserts.size());
+            for (var write : inserts) {
+                insertedQuestions.add(write.getQuestionId());
             }
+            answerIds.putAll(answerBatchRepository.findAnswerIdsByQuestion(clientAssessmentId, insertedQuestions));
+        }
 
-            // Existing answer (if any)
-            var existingOpt = assessmentAnswerRepository.findByClientAssessmentAndQuestion(ca, q);
-            com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.ExistingAnswer ea = null;
-            if (existingOpt.isPresent()) {
-                AssessmentAnswer ans = existingOpt.get();
-                var selected = assessmentAnswerOptionRepository.findByAnswer(ans);
-                List<Long> optionIds = new ArrayList<>();
-                for (AssessmentAnswerOption link : selected) {
-                    optionIds.add(link.getOption().getId());
+        // Replace option selections of every answer in the request; new weights come from the snapshot
+        List<Long> touchedAnswers = new ArrayList<>(byQuestion.size());
+        List<long[]> links = new ArrayList<>();
+        Map<Long, Double> delta = new HashMap<>();
+        for (AnswerItem item : byQuestion.values()) {
+            Long answerId = answerIds.get(item.questionId);
+            touchedAnswers.add(answerId);
+            if (item.optionIds != null) {
+                Long segmentId = snapshot.question(item.questionId).getSegmentId();
+                long segmentKey = segmentId != null ? segmentId : ClientAssessmentScoreRepository.UNSEGMENTED;
+                for (Long optionId : new LinkedHashSet<>(item.optionIds)) {
+                    links.add(new long[]{answerId, optionId});
+                    delta.merge(segmentKey, snapshot.option(optionId).scoreWeight(), Double::sum);
                 }
-                ea = com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.ExistingAnswer.builder()
-                        .answerText(ans.getAnswerText())
-                        .optionIds(optionIds)
-                        .build();
             }
+        }
+        // Adjust the running score by the weight difference of the replaced selections, both sides weighed
+        // from the same snapshot so the delta cannot pick up a weight the snapshot does not have
+        for (Long optionId : answerBatchRepository.findSelectedOptionIds(touchedAnswers)) {
+            QuestionnaireSnapshot.OptionView option = snapshot.option(optionId);
+            if (option == null) {
+                // Selection from before versioning whose option has since gone; the reconciler settles it
+                continue;
+            }
+            Long segmentId = snapshot.question(option.getQuestionId()).getSegmentId();
+            long segmentKey = segmentId != null ? segmentId : ClientAssessmentScoreRepository.UNSEGMENTED;
+            delta.merge(segmentKey, -option.scoreWeight(), Double::sum);
+        }
+        answerBatchRepository.replaceOptionLinks(touchedAnswers, links);
+        scoreRepository.applyDeltas(clientAssessmentId, delta);
+    }
 
-            qDtos.add(com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.QuestionDto.builder()
-                    .id(q.getId())
-                    .text(q.getText())
-                    .type(q.getType())
-                    .weight(q.getWeight())
-                    .options(oDtos)
-                    .existingAnswer(ea)
+    @Override
+    @Transactional(readOnly = true)
+    public com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse getDetails(Long clientAssessmentId, Long userId) {
+        return detailsAssembler.assemble(clientAssessmentId, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProvisionalScoreResponse getProvisionalScore(Long clientAssessmentId, Long userId) {
+        ClientAssessmentHeader header = clientAssessmentRepository.findHeaderById(clientAssessmentId)
+                .orElseThrow(() -> new IllegalArgumentException("ClientAssessment not found: " + clientAssessmentId));
+        if (!header.getClientId().equals(userId)) {
+            throw new IllegalArgumentException("Access denied for this assessment");
+        }
+        List<ProvisionalScoreResponse.SegmentScoreDto> segments = new ArrayList<>();
+        for (ClientAssessmentScoreRepository.SegmentScore row : scoreRepository.findSegmentScores(clientAssessmentId)) {
+            segments.add(ProvisionalScoreResponse.SegmentScoreDto.builder()
+                    .segmentId(row.getSegmentId() == ClientAssessmentScoreRepository.UNSEGMENTED ? null : row.getSegmentId())
+                    .score(row.getScore())
                     .build());
         }
-
-        return com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse.builder()
-                .clientAssessmentId(ca.getId())
-                .assessmentName(assessment.getName())
-                .questions(qDtos)
+        return ProvisionalScoreResponse.builder()
+                .clientAssessmentId(header.getClientAssessmentId())
+                .total(header.getRunningScore())
+                .segments(segments)
                 .build();
     }
 }
@@ -10,7 +10,10 @@ import com.elevate.consultingplatform.repository.assessment.*;
 import com.elevate.consultingplatform.service.assessment.AssessmentService;
 import com.elevate.consultingplatform.service.assessment.ScoringService;
 import com.elevate.consultingplatform.service.assessment.StageDeterminationService;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshot;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshotCache;
 import lombok.RequiredArgsConstructor;
+import com.elevate.consultingplatform.exception.BusinessRuleViolationException;
 import com.elevate.consultingplatform.exception.ResourceNotFoundException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -32,13 +36,14 @@ public class AssessmentServiceImpl implements AssessmentService {
     private final AnswerRepository answerRepository;
     private final ScoringService scoringService;
     private final StageDeterminationService stageDeterminationService;
+    private final QuestionnaireSnapshotCache snapshotCache;
 
     @Override
     @Transactional
     public Long createAttempt(CreateAttemptRequest req) {
         User u = currentUser();
-        Questionnaire q = questionnaireRepository.findById(req.getQuestionnaireId())
-                .orElseThrow(() -> new ResourceNotFoundException("Questionnaire not found"));
+        Questionnaire q = publishedVersion(questionnaireRepository.findById(req.getQuestionnaireId())
+                .orElseThrow(() -> new ResourceNotFoundException("Questionnaire not found")));
         AssessmentAttempt attempt = AssessmentAttempt.builder()
                 .user(u)
                 .questionnaire(q)
@@ -47,6 +52,17 @@ public class AssessmentServiceImpl implements AssessmentService {
         return attemptRepository.save(attempt).getId();
     }
 
+    // Attempts run against frozen content only: drafts and archived ids resolve to the family's published version
+    private Questionnaire publishedVersion(Questionnaire q) {
+        if (q.getStatus() == QuestionnaireStatus.PUBLISHED) {
+            return q;
+        }
+        Optional<Questionnaire> published = q.getFamilyId() == null ? Optional.empty()
+                : questionnaireRepository.findFirstByFamilyIdAndStatus(q.getFamilyId(), QuestionnaireStatus.PUBLISHED);
+        return published.orElseThrow(() -> new BusinessRuleViolationException(
+                "Questionnaire " + q.getId() + " has no published version"));
+    }
+
     @Override
     @Transactional
     public void submitAnswers(Long attemptId, SubmitAnswersRequest req) {
@@ -57,9 +73,12 @@ public class AssessmentServiceImpl implements AssessmentService {
         for (Answer a : attempt.getAnswers()) {
             existing.put(a.getQuestion().getId(), a);
         }
+        QuestionnaireSnapshot snapshot = snapshotCache.get(attempt.getQuestionnaire().getId());
         for (SubmitAnswersRequest.AnswerItem item : req.getAnswers()) {
-            Question q = questionRepository.findById(item.getQuestionId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Question not found: " + item.getQuestionId()));
+            if (item.getQuestionId() == null || !snapshot.containsQuestion(item.getQuestionId())) {
+                throw new ResourceNotFoundException("Question not found: " + item.getQuestionId());
+            }
+            Question q = questionRepository.getReferenceById(item.getQuestionId());
             Answer a = existing.getOrDefault(q.getId(), Answer.builder().attempt(attempt).question(q).build());
             a.setValue(item.getValue());
             a.setScore(item.getScore());
@@ -0,0 +1,90 @@
+package com.elevate.consultingplatform.service.assessment.impl;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.dto.assessment.ClientAssessmentDetailsResponse;
+import com.elevate.consultingplatform.repository.assessment.AssessmentAnswerRepository;
+import com.elevate.consultingplatform.repository.assessment.ClientAssessmentRepository;
+import com.elevate.consultingplatform.repository.assessment.projection.AnswerSelectionRow;
+import com.elevate.consultingplatform.repository.assessment.projection.ClientAssessmentHeader;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshot;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the client-facing details of an assessment with two queries: a header row (also used
+ * for the ownership check) and the answers with their selected option ids. Questions and options
+ * come from the questionnaire snapshot; answers are stitched onto them in memory by question id.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientAssessmentDetailsAssembler {
+
+    private final ClientAssessmentRepository clientAssessmentRepository;
+    private final AssessmentAnswerRepository assessmentAnswerRepository;
+    private final QuestionnaireSnapshotCache snapshotCache;
+
+    @Transactional(readOnly = true)
+    public ClientAssessmentDetailsResponse assemble(Long clientAssessmentId, Long userId) {
+        ClientAssessmentHeader header = clientAssessmentRepository.findHeaderById(clientAssessmentId)
+                .orElseThrow(() -> new IllegalArgumentException("ClientAssessment not found: " + clientAssessmentId));
+        if (!header.getClientId().equals(userId)) {
+            throw new IllegalArgumentException("Access denied for this assessment");
+        }
+
+        if (header.getQuestionnaireId() == null) {
+            // No questionnaire linked; return empty list
+            return ClientAssessmentDetailsResponse.builder()
+                    .clientAssessmentId(header.getClientAssessmentId())
+                    .assessmentName(header.getAssessmentName())
+                    .provisionalScore(header.getRunningScore())
+                    .questions(List.of())
+                    .build();
+        }
+
+        QuestionnaireSnapshot snapshot = snapshotCache.get(header.getQuestionnaireId());
+        List<QuestionnaireSnapshot.QuestionView> questions = snapshot.getQuestions();
+
+        LongObjectMap<ClientAssessmentDetailsResponse.ExistingAnswer> answersByQuestion = new LongObjectMap<>(questions.size());
+        for (AnswerSelectionRow row : assessmentAnswerRepository.findSelectionRows(header.getClientAssessmentId())) {
+            ClientAssessmentDetailsResponse.ExistingAnswer answer = answersByQuestion.computeIfAbsent(row.getQuestionId(),
+                    id -> ClientAssessmentDetailsResponse.ExistingAnswer.builder()
+                            .answerText(row.getAnswerText())
+                            .optionIds(new ArrayList<>())
+                            .build());
+            if (row.getOptionId() != null) {
+                answer.getOptionIds().add(row.getOptionId());
+            }
+        }
+
+        List<ClientAssessmentDetailsResponse.QuestionDto> questionDtos = new ArrayList<>(questions.size());
+        for (QuestionnaireSnapshot.QuestionView q : questions) {
+            List<ClientAssessmentDetailsResponse.OptionDto> optionDtos = new ArrayList<>(q.getOptions().size());
+            for (QuestionnaireSnapshot.OptionView o : q.getOptions()) {
+                optionDtos.add(ClientAssessmentDetailsResponse.OptionDto.builder()
+                        .id(o.getId())
+                        .text(o.getLabel())
+                        .build());
+            }
+            questionDtos.add(ClientAssessmentDetailsResponse.QuestionDto.builder()
+                    .id(q.getId())
+                    .text(q.getText())
+                    .type(q.getType())
+                    .weight(q.getWeight())
+                    .options(optionDtos)
+                    .existingAnswer(answersByQuestion.get(q.getId()))
+                    .build());
+        }
+
+        return ClientAssessmentDetailsResponse.builder()
+                .clientAssessmentId(header.getClientAssessmentId())
+                .assessmentName(header.getAssessmentName())
+                .provisionalScore(header.getRunningScore())
+                .questions(questionDtos)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.elevate.consultingplatform.service.assessment.impl;
+
+import com.elevate.consultingplatform.dto.admin.ReconciliationStatsResponse;
+import com.elevate.consultingplatform.repository.assessment.ClientAssessmentScoreRepository;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireContentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares running scores, total and per-segment subtotals, with a full recompute of the selected option weights
+ * and rebuilds the ones that drifted. A questionnaire content change (an option weight edited, a question moved
+ * to another segment) reconciles that questionnaire's client assessments right after it commits, off the
+ * request thread; the periodic run over everything catches whatever that missed.
+ * Walks client assessments in id order, one chunk per recompute query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunningScoreReconciler {
+
+    // DECIMAL(14,4) storage vs. double arithmetic
+    private static final double TOLERANCE = 0.0001d;
+    // Pending key for a change that may touch every questionnaire
+    private static final long ALL_QUESTIONNAIRES = 0L;
+
+    private final ClientAssessmentScoreRepository scoreRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.assessment.score-reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.assessment.score-reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder repaired = new LongAdder();
+    private final LongAdder failedRuns = new LongAdder();
+    private volatile long lastRunChecked;
+    private volatile long lastRunRepaired;
+    private volatile long lastRunDurationMs;
+    private volatile Instant lastRunAt;
+
+    // Questionnaires with a reconcile queued but not yet started
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100),
+            runnable -> {
+                Thread thread = new Thread(runnable, "score-reconcile");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChanged(QuestionnaireContentChangedEvent event) {
+        if (!enabled || event.isRemoved()) {
+            return;
+        }
+        Long questionnaireId = event.getQuestionnaireId();
+        long key = questionnaireId != null ? questionnaireId : ALL_QUESTIONNAIRES;
+        if (!pending.add(key)) {
+            return; // a queued reconcile will see this change too
+        }
+        try {
+            executor.execute(() -> {
+                pending.remove(key);
+                try {
+                    reconcile(questionnaireId);
+                } catch (RuntimeException e) {
+                    failedRuns.increment();
+                    log.warn("Running score reconciliation for questionnaire {} failed: {}", questionnaireId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            log.warn("Score reconcile queue full; questionnaire {} is left to the periodic run", questionnaireId);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.assessment.score-reconcile.interval-ms:3600000}",
+            initialDelayString = "${app.assessment.score-reconcile.initial-delay-ms:300000}"
+    )
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            failedRuns.increment();
+            log.warn("Running score reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return number of client assessments whose running score had to be rebuilt
+     */
+    public int reconcile() {
+        return reconcile(null);
+    }
+
+    /**
+     * @param questionnaireId only client assessments answering this questionnaire, or null for all
+     * @return number of client assessments whose running score had to be rebuilt
+     */
+    public synchronized int reconcile(Long questionnaireId) {
+        long started = System.currentTimeMillis();
+        long seen = 0;
+        int fixed = 0;
+        long afterId = 0;
+        while (true) {
+            Map<Long, BigDecimal> stored = questionnaireId != null
+                    ? scoreRepository.findRunningScoresAfter(questionnaireId, afterId, chunkSize)
+                    : scoreRepository.findRunningScoresAfter(afterId, chunkSize);
+            if (stored.isEmpty()) {
+                break;
+            }
+            Map<Long, Map<Long, Double>> storedSegments = scoreRepository.findSegmentScores(stored.keySet());
+            Map<Long, Map<Long, Double>> recomputed = scoreRepository.recomputeSegmentScores(stored.keySet());
+            for (Map.Entry<Long, BigDecimal> entry : stored.entrySet()) {
+                long clientAssessmentId = entry.getKey();
+                double actual = entry.getValue() != null ? entry.getValue().doubleValue() : 0d;
+                Map<Long, Double> expectedSegments = recomputed.getOrDefault(clientAssessmentId, Map.of());
+                Map<Long, Double> actualSegments = storedSegments.getOrDefault(clientAssessmentId, Map.of());
+                double expected = expectedSegments.values().stream().mapToDouble(Double::doubleValue).sum();
+                if (Math.abs(expected - actual) > TOLERANCE || !sameSegments(expectedSegments, actualSegments)) {
+                    log.info("Running score of client assessment {} drifted ({} stored, {} recomputed, segments {} vs {}); "
+                            + "rebuilding", clientAssessmentId, actual, expected, actualSegments, expectedSegments);
+                    transactionTemplate.executeWithoutResult(status -> scoreRepository.rebuild(clientAssessmentId));
+                    fixed++;
+                }
+                afterId = clientAssessmentId;
+            }
+            seen += stored.size();
+        }
+
+        runs.increment();
+        checked.add(seen);
+        repaired.add(fixed);
+        lastRunChecked = seen;
+        lastRunRepaired = fixed;
+        lastRunDurationMs = System.currentTimeMillis() - started;
+        lastRunAt = Instant.ofEpochMilli(started);
+        return fixed;
+    }
+
+    // A segment missing on one side counts as 0 on that side
+    private static boolean sameSegments(Map<Long, Double> expected, Map<Long, Double> actual) {
+        Set<Long> segments = new HashSet<>(expected.keySet());
+        segments.addAll(actual.keySet());
+        for (Long segmentId : segments) {
+            if (Math.abs(expected.getOrDefault(segmentId, 0d) - actual.getOrDefault(segmentId, 0d)) > TOLERANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public ReconciliationStatsResponse stats() {
+        return ReconciliationStatsResponse.builder()
+                .name("running-score")
+                .runs(runs.sum())
+                .checked(checked.sum())
+                .repaired(repaired.sum())
+                .failedRuns(failedRuns.sum())
+                .lastRunChecked(lastRunChecked)
+                .lastRunRepaired(lastRunRepaired)
+                .lastRunDurationMs(lastRunDurationMs)
+                .lastRunAt(lastRunAt)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
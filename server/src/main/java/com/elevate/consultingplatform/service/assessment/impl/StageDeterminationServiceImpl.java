@@ -1,36 +1,66 @@
 package com.elevate.consultingplatform.service.assessment.impl;
 
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.dto.assessment.StageRuleDiagnosticsResponse;
 import com.elevate.consultingplatform.entity.assessment.Questionnaire;
-import com.elevate.consultingplatform.entity.assessment.StageRule;
 import com.elevate.consultingplatform.entity.catalog.Stage;
-import com.elevate.consultingplatform.repository.assessment.StageRuleRepository;
+import com.elevate.consultingplatform.repository.catalog.StageRepository;
 import com.elevate.consultingplatform.service.assessment.StageDeterminationService;
+import com.elevate.consultingplatform.service.assessment.stage.StageRuleIndex;
+import com.elevate.consultingplatform.service.assessment.stage.StageRuleIndexCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class StageDeterminationServiceImpl implements StageDeterminationService {
 
-    private final StageRuleRepository stageRuleRepository;
+    private final StageRuleIndexCache stageRuleIndexCache;
+    private final StageRepository stageRepository;
 
     @Override
     public Stage determineStage(Questionnaire questionnaire, double totalScore) {
         // Prefer questionnaire-specific rules; fallback to global
-        List<StageRule> rules = questionnaire != null
-                ? stageRuleRepository.findByQuestionnaireOrderByPriorityAsc(questionnaire)
-                : List.of();
-        if (rules == null || rules.isEmpty()) {
-            rules = stageRuleRepository.findByQuestionnaireIsNullOrderByPriorityAsc();
+        long stageId = indexFor(questionnaire).stageIdFor(totalScore);
+        return stageId == StageRuleIndex.NO_STAGE ? null : stageRepository.getReferenceById(stageId);
+    }
+
+    @Override
+    public List<Stage> determineStages(Questionnaire questionnaire, double[] scores) {
+        StageRuleIndex index = indexFor(questionnaire);
+        LongObjectMap<Stage> stages = new LongObjectMap<>();
+        List<Stage> result = new ArrayList<>(scores.length);
+        for (double score : scores) {
+            long stageId = index.stageIdFor(score);
+            result.add(stageId == StageRuleIndex.NO_STAGE ? null
+                    : stages.computeIfAbsent(stageId, stageRepository::getReferenceById));
         }
-        return rules.stream()
-                .sorted(Comparator.comparing(r -> r.getPriority() == null ? Integer.MAX_VALUE : r.getPriority()))
-                .filter(r -> totalScore >= r.getMinScore() && totalScore <= r.getMaxScore())
-                .map(StageRule::getTargetStage)
-                .findFirst()
-                .orElse(null);
+        return result;
+    }
+
+    @Override
+    public StageRuleDiagnosticsResponse diagnose(Long questionnaireId) {
+        StageRuleIndex index = questionnaireId != null
+                ? stageRuleIndexCache.questionnaireRules(questionnaireId)
+                : stageRuleIndexCache.globalRules();
+        boolean fallsBack = questionnaireId != null && index.isEmpty();
+        if (fallsBack) {
+            index = stageRuleIndexCache.globalRules();
+        }
+        return StageRuleDiagnosticsResponse.builder()
+                .questionnaireId(questionnaireId)
+                .ruleCount(index.getRuleCount())
+                .fallsBackToGlobal(fallsBack)
+                .coveredFrom(index.coveredFrom())
+                .coveredTo(index.coveredTo())
+                .issues(index.getIssues())
+                .build();
+    }
+
+    private StageRuleIndex indexFor(Questionnaire questionnaire) {
+        return stageRuleIndexCache.forQuestionnaire(questionnaire != null ? questionnaire.getId() : null);
     }
 }
@@ -0,0 +1,311 @@
+package com.elevate.consultingplatform.service.assessment.rescore;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.dto.admin.RescoreJobResponse;
+import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import com.elevate.consultingplatform.repository.assessment.ClientAssessmentScoreRepository;
+import com.elevate.consultingplatform.repository.assessment.RescoreJobRepository;
+import com.elevate.consultingplatform.repository.assessment.RescoreRepository;
+import com.elevate.consultingplatform.repository.assessment.projection.AttemptAnswerRow;
+import com.elevate.consultingplatform.service.assessment.scoring.ScoringPlan;
+import com.elevate.consultingplatform.service.assessment.scoring.ScoringPlanCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Background re-scoring of stored results after weights or scoring config changed.
+ * <p>
+ * A job first walks completed attempts and recomputes {@code total_score} with the current scoring plans,
+ * then walks submitted client assessments and resets {@code score} to the recomputed option-weight total.
+ * Each phase reads id-ordered chunks; attempt chunks are scored in parallel on a dedicated fork-join pool,
+ * changed scores are written with one batch update, and the batch plus the job checkpoint commit together.
+ * A restarted (or other) instance picks up any job whose lease expired and continues from its checkpoint.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RescoreJobService {
+
+    // DECIMAL(10,2) / double storage; differences below this are not rewritten
+    private static final double TOLERANCE = 0.000001d;
+
+    private final RescoreJobRepository jobRepository;
+    private final RescoreRepository rescoreRepository;
+    private final ClientAssessmentScoreRepository scoreRepository;
+    private final ScoringPlanCache scoringPlanCache;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditorAware<String> auditorProvider;
+
+    @Value("${app.rescore.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.rescore.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.rescore.lease-ms:300000}")
+    private long leaseMs;
+
+    private final String owner = UUID.randomUUID().toString();
+    // Jobs handed to the coordinator on this instance and not finished yet
+    private final Set<Long> localJobs = ConcurrentHashMap.newKeySet();
+    private ExecutorService coordinator;
+    private ForkJoinPool scoringPool;
+
+    @PostConstruct
+    void init() {
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rescore-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        scoringPool = new ForkJoinPool(threads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        scoringPool.shutdownNow();
+    }
+
+    /**
+     * Queues a job; it runs after any job already running on this instance.
+     */
+    public RescoreJobResponse start(Long questionnaireId) {
+        String actor = auditorProvider.getCurrentAuditor().orElse("system");
+        long id = jobRepository.insert(questionnaireId, actor, Instant.now());
+        log.info("Re-scoring job {} queued by {} (questionnaire {})", id, actor,
+                questionnaireId != null ? questionnaireId : "all");
+        schedule(id);
+        return get(id);
+    }
+
+    public RescoreJobResponse get(long id) {
+        return jobRepository.findById(id)
+                .map(RescoreJobService::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Re-scoring job not found: " + id));
+    }
+
+    public List<RescoreJobResponse> recent(int limit) {
+        return jobRepository.findRecent(Math.max(1, Math.min(limit, 100))).stream()
+                .map(RescoreJobService::toResponse)
+                .toList();
+    }
+
+    /**
+     * Stops a queued or running job after its current chunk.
+     */
+    public RescoreJobResponse cancel(long id) {
+        if (!jobRepository.cancel(id, Instant.now())) {
+            RescoreJobResponse job = get(id);
+            throw new IllegalArgumentException("Re-scoring job " + id + " is already " + job.getStatus());
+        }
+        return get(id);
+    }
+
+    /**
+     * Picks up jobs left behind by a restart or a dead instance.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.rescore.resume-check-ms:60000}",
+            initialDelayString = "${app.rescore.resume-initial-delay-ms:30000}"
+    )
+    public void resumeInterrupted() {
+        try {
+            for (Long id : jobRepository.findResumable(Instant.now())) {
+                if (!localJobs.contains(id)) {
+                    log.info("Resuming re-scoring job {}", id);
+                    schedule(id);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not check for interrupted re-scoring jobs: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(long id) {
+        if (localJobs.add(id)) {
+            coordinator.execute(() -> {
+                try {
+                    run(id);
+                } finally {
+                    localJobs.remove(id);
+                }
+            });
+        }
+    }
+
+    private void run(long id) {
+        Instant now = Instant.now();
+        if (!jobRepository.claim(id, owner, now, now.plusMillis(leaseMs))) {
+            return;
+        }
+        try {
+            while (true) {
+                RescoreJobRepository.JobRow job = jobRepository.findById(id).orElse(null);
+                if (job == null || !RescoreJobRepository.STATUS_RUNNING.equals(job.getStatus())) {
+                    log.info("Re-scoring job {} stopped ({})", id, job != null ? job.getStatus() : "deleted");
+                    return;
+                }
+                boolean owned = switch (job.getPhase()) {
+                    case RescoreJobRepository.PHASE_ATTEMPTS -> rescoreAttempts(job);
+                    case RescoreJobRepository.PHASE_CLIENT_ASSESSMENTS -> rescoreClientAssessments(job);
+                    default -> {
+                        jobRepository.finish(id, owner, RescoreJobRepository.STATUS_COMPLETED, null, Instant.now());
+                        log.info("Re-scoring job {} completed", id);
+                        yield false;
+                    }
+                };
+                if (!owned) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Re-scoring job {} failed", id, e);
+            jobRepository.finish(id, owner, RescoreJobRepository.STATUS_FAILED, truncate(e.toString()), Instant.now());
+        }
+    }
+
+    /**
+     * Scores one chunk of attempts. False when the job is no longer ours to run.
+     */
+    private boolean rescoreAttempts(RescoreJobRepository.JobRow job) {
+        List<RescoreRepository.AttemptRef> attempts =
+                rescoreRepository.findCompletedAttemptsAfter(job.getLastId(), job.getQuestionnaireId(), chunkSize);
+        if (attempts.isEmpty()) {
+            return jobRepository.advancePhase(job.getId(), owner, RescoreJobRepository.PHASE_ATTEMPTS,
+                    RescoreJobRepository.PHASE_CLIENT_ASSESSMENTS, Instant.now());
+        }
+        List<Long> ids = new ArrayList<>(attempts.size());
+        LongObjectMap<ScoringPlan> plans = new LongObjectMap<>();
+        for (RescoreRepository.AttemptRef a : attempts) {
+            ids.add(a.getId());
+            // Plans load from the database, so resolve them here rather than on the scoring threads
+            plans.computeIfAbsent(a.getQuestionnaireId(), scoringPlanCache::get);
+        }
+        LongObjectMap<List<AttemptAnswerRow>> answers = rescoreRepository.findAnswerRows(ids);
+
+        double[] scores = score(attempts, plans, answers);
+        List<Object[]> changed = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            RescoreRepository.AttemptRef a = attempts.get(i);
+            if (a.getTotalScore() == null || Math.abs(a.getTotalScore() - scores[i]) > TOLERANCE) {
+                changed.add(new Object[]{scores[i], a.getId()});
+            }
+        }
+        long lastId = attempts.get(attempts.size() - 1).getId();
+        return commitChunk(job, RescoreJobRepository.PHASE_ATTEMPTS, lastId, attempts.size(), changed,
+                () -> rescoreRepository.updateAttemptScores(changed));
+    }
+
+    private double[] score(List<RescoreRepository.AttemptRef> attempts, LongObjectMap<ScoringPlan> plans,
+                           LongObjectMap<List<AttemptAnswerRow>> answers) {
+        try {
+            return scoringPool.submit(() -> IntStream.range(0, attempts.size())
+                    .parallel()
+                    .mapToDouble(i -> {
+                        RescoreRepository.AttemptRef a = attempts.get(i);
+                        return plans.get(a.getQuestionnaireId()).score(answers.getOrDefault(a.getId(), List.of()));
+                    })
+                    .toArray()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Re-scoring interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scoring failed", e.getCause());
+        }
+    }
+
+    /**
+     * Resets one chunk of submitted client assessments to their recomputed total.
+     */
+    private boolean rescoreClientAssessments(RescoreJobRepository.JobRow job) {
+        Map<Long, BigDecimal> stored =
+                rescoreRepository.findSubmittedScoresAfter(job.getLastId(), job.getQuestionnaireId(), chunkSize);
+        if (stored.isEmpty()) {
+            return jobRepository.advancePhase(job.getId(), owner, RescoreJobRepository.PHASE_CLIENT_ASSESSMENTS,
+                    RescoreJobRepository.PHASE_DONE, Instant.now());
+        }
+        Map<Long, Double> totals = scoreRepository.recomputeTotals(stored.keySet());
+        List<Object[]> changed = new ArrayList<>();
+        long lastId = job.getLastId();
+        for (Map.Entry<Long, BigDecimal> entry : stored.entrySet()) {
+            BigDecimal expected = BigDecimal.valueOf(totals.getOrDefault(entry.getKey(), 0d)).setScale(2, RoundingMode.HALF_UP);
+            if (entry.getValue() == null || entry.getValue().compareTo(expected) != 0) {
+                changed.add(new Object[]{expected, entry.getKey()});
+            }
+            lastId = entry.getKey();
+        }
+        return commitChunk(job, RescoreJobRepository.PHASE_CLIENT_ASSESSMENTS, lastId, stored.size(), changed,
+                () -> rescoreRepository.updateClientAssessmentScores(changed));
+    }
+
+    // Writes the chunk and its checkpoint atomically; rolls the writes back if the job was taken away meanwhile
+    private boolean commitChunk(RescoreJobRepository.JobRow job, String phase, long lastId, int scanned,
+                                List<Object[]> changed, Runnable writes) {
+        Boolean owned = transactionTemplate.execute(status -> {
+            writes.run();
+            Instant now = Instant.now();
+            if (!jobRepository.checkpoint(job.getId(), owner, phase, lastId, scanned, changed.size(), now,
+                    now.plusMillis(leaseMs))) {
+                status.setRollbackOnly();
+                return false;
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(owned);
+    }
+
+    private static RescoreJobResponse toResponse(RescoreJobRepository.JobRow job) {
+        long scanned = job.getAttemptsScanned() + job.getClientAssessmentsScanned();
+        Instant until = job.getFinishedAt() != null ? job.getFinishedAt() : job.getUpdatedAt();
+        double seconds = job.getStartedAt() != null && until != null
+                ? Duration.between(job.getStartedAt(), until).toMillis() / 1000d
+                : 0d;
+        return RescoreJobResponse.builder()
+                .id(job.getId())
+                .questionnaireId(job.getQuestionnaireId())
+                .status(job.getStatus())
+                .phase(job.getPhase())
+                .lastId(job.getLastId())
+                .attemptsScanned(job.getAttemptsScanned())
+                .attemptsUpdated(job.getAttemptsUpdated())
+                .clientAssessmentsScanned(job.getClientAssessmentsScanned())
+                .clientAssessmentsUpdated(job.getClientAssessmentsUpdated())
+                .itemsPerSecond(seconds > 0d ? scanned / seconds : 0d)
+                .requestedBy(job.getRequestedBy())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,93 @@
+package com.elevate.consultingplatform.service.assessment.scoring;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Scoring part of {@code Stage.assessmentConfig}, e.g.
+ * {@code {"strategy":"SECTION_NORMALIZED","sections":[{"id":"vision","weight":0.4}]}}.
+ * Without an explicit strategy, configs with sections score section-normalized and all others weighted-mean.
+ * Writes are checked with {@link #validate}; a stored config that still cannot be read scores weighted-mean.
+ */
+@Slf4j
+@Getter
+public final class ScoringConfig {
+
+    static final ScoringConfig DEFAULT = new ScoringConfig(ScoringStrategy.WEIGHTED_MEAN, List.of());
+
+    private final ScoringStrategy strategy;
+    private final List<Section> sections;
+
+    private ScoringConfig(ScoringStrategy strategy, List<Section> sections) {
+        this.strategy = strategy;
+        this.sections = List.copyOf(sections);
+    }
+
+    /**
+     * @throws IllegalArgumentException when the config is not JSON or names a strategy that does not exist
+     */
+    public static void validate(String json, ObjectMapper objectMapper) {
+        if (json != null && !json.isBlank()) {
+            read(json, objectMapper);
+        }
+    }
+
+    static ScoringConfig parse(String json, ObjectMapper objectMapper) {
+        if (json == null || json.isBlank()) {
+            return DEFAULT;
+        }
+        try {
+            return read(json, objectMapper);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalid assessment config, scoring weighted-mean: {}", e.getMessage());
+            return DEFAULT;
+        }
+    }
+
+    private static ScoringConfig read(String json, ObjectMapper objectMapper) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Assessment config is not valid JSON: " + e.getOriginalMessage());
+        }
+        List<Section> sections = new ArrayList<>();
+        for (JsonNode s : root.path("sections")) {
+            String id = s.path("id").asText(null);
+            if (id != null && !id.isBlank() && s.path("weight").isNumber()) {
+                sections.add(new Section(id.trim().toLowerCase(Locale.ROOT), s.path("weight").asDouble()));
+            }
+        }
+        ScoringStrategy strategy = sections.isEmpty() ? ScoringStrategy.WEIGHTED_MEAN : ScoringStrategy.SECTION_NORMALIZED;
+        if (root.hasNonNull("strategy")) {
+            String name = root.get("strategy").asText().trim();
+            try {
+                strategy = ScoringStrategy.valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown scoring strategy '" + name + "', expected one of "
+                        + Arrays.toString(ScoringStrategy.values()));
+            }
+        }
+        return new ScoringConfig(strategy, sections);
+    }
+
+    @Getter
+    static final class Section {
+        // Matches a segment id, a segment name slug ("vision-strategy") or its leading words ("vision")
+        private final String id;
+        private final double weight;
+
+        Section(String id, double weight) {
+            this.id = id;
+            this.weight = weight;
+        }
+    }
+}
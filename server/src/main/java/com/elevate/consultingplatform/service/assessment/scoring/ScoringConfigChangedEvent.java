@@ -0,0 +1,8 @@
+package com.elevate.consultingplatform.service.assessment.scoring;
+
+/**
+ * Published when a stage's assessment config or the assessment linking a questionnaire to a stage changes.
+ * Compiled scoring plans are dropped once the publishing transaction commits.
+ */
+public class ScoringConfigChangedEvent {
+}
@@ -0,0 +1,225 @@
+package com.elevate.consultingplatform.service.assessment.scoring;
+
+import com.elevate.consultingplatform.repository.assessment.projection.AttemptAnswerRow;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshot;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A questionnaire's scoring rules flattened into parallel arrays, compiled once per snapshot version and
+ * stage config. Scoring an attempt is a binary search per answer plus array reads; no entities are touched.
+ * <p>
+ * Questions are addressed by their position in {@code questionIds}. Answer values are mapped to numbers
+ * through the question's options (the option value when numeric, else the option weight); values that
+ * match no option are read as plain numbers. Answers to questions no longer in the questionnaire keep
+ * counting with weight 1, as before.
+ */
+public final class ScoringPlan {
+
+    @Getter
+    private final long questionnaireId;
+    @Getter
+    private final long snapshotVersion;
+    @Getter
+    private final ScoringStrategy strategy;
+
+    private final long[] questionIds;
+    private final double[] weights;
+    // Bucket per question; the last bucket holds everything outside the configured sections
+    private final int[] sections;
+    private final double[] sectionWeights;
+    // Per question, small enough that a linear scan beats hashing
+    private final String[][] optionValues;
+    private final double[][] optionNumbers;
+    private final double[][] optionWeights;
+
+    private ScoringPlan(long questionnaireId, long snapshotVersion, ScoringStrategy strategy, long[] questionIds,
+                        double[] weights, int[] sections, double[] sectionWeights, String[][] optionValues,
+                        double[][] optionNumbers, double[][] optionWeights) {
+        this.questionnaireId = questionnaireId;
+        this.snapshotVersion = snapshotVersion;
+        this.strategy = strategy;
+        this.questionIds = questionIds;
+        this.weights = weights;
+        this.sections = sections;
+        this.sectionWeights = sectionWeights;
+        this.optionValues = optionValues;
+        this.optionNumbers = optionNumbers;
+        this.optionWeights = optionWeights;
+    }
+
+    /**
+     * @param segmentNames names of the segments the snapshot's questions belong to, used to match config sections
+     */
+    static ScoringPlan compile(QuestionnaireSnapshot snapshot, ScoringConfig config, Map<Long, String> segmentNames) {
+        List<QuestionnaireSnapshot.QuestionView> byId = snapshot.getQuestions().stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList();
+        boolean sectioned = config.getStrategy() == ScoringStrategy.SECTION_NORMALIZED;
+        double[] sectionWeights = sectioned ? sectionWeights(config.getSections()) : new double[]{1d};
+        Map<Long, Integer> bucketBySegment = new HashMap<>();
+
+        int n = byId.size();
+        long[] questionIds = new long[n];
+        double[] weights = new double[n];
+        int[] sections = new int[n];
+        String[][] optionValues = new String[n][];
+        double[][] optionNumbers = new double[n][];
+        double[][] optionWeights = new double[n][];
+        for (int i = 0; i < n; i++) {
+            QuestionnaireSnapshot.QuestionView q = byId.get(i);
+            questionIds[i] = q.getId();
+            weights[i] = q.getWeight() != null ? q.getWeight() : 1d;
+            sections[i] = !sectioned ? 0 : q.getSegmentId() == null ? sectionWeights.length - 1
+                    : bucketBySegment.computeIfAbsent(q.getSegmentId(),
+                            id -> bucketOf(id, segmentNames.get(id), config.getSections()));
+            List<QuestionnaireSnapshot.OptionView> options = q.getOptions();
+            optionValues[i] = new String[options.size()];
+            optionNumbers[i] = new double[options.size()];
+            optionWeights[i] = new double[options.size()];
+            for (int j = 0; j < options.size(); j++) {
+                QuestionnaireSnapshot.OptionView o = options.get(j);
+                optionValues[i][j] = o.getValue() != null ? o.getValue().trim() : null;
+                double numeric = parseNumber(o.getValue());
+                optionNumbers[i][j] = Double.isNaN(numeric) ? o.scoreWeight() : numeric;
+                optionWeights[i][j] = o.scoreWeight();
+            }
+        }
+        return new ScoringPlan(snapshot.getQuestionnaireId(), snapshot.getVersion(), config.getStrategy(), questionIds,
+                weights, sections, sectionWeights, optionValues, optionNumbers, optionWeights);
+    }
+
+    /**
+     * Total score of the answers, clamped to 0..100.
+     */
+    public double score(List<AttemptAnswerRow> answers) {
+        int buckets = sectionWeights.length;
+        double[] weighted = new double[buckets];
+        double[] weightSums = new double[buckets];
+        double optionSum = 0d;
+        for (AttemptAnswerRow a : answers) {
+            int q = a.getQuestionId() != null ? Arrays.binarySearch(questionIds, a.getQuestionId()) : -1;
+            int option = q >= 0 ? optionIndex(q, a.getValue()) : -1;
+            if (strategy == ScoringStrategy.OPTION_WEIGHT_SUM) {
+                if (option >= 0) {
+                    optionSum += optionWeights[q][option];
+                }
+                continue;
+            }
+            double w = q >= 0 ? weights[q] : 1d;
+            double s;
+            if (a.getScore() != null) {
+                s = a.getScore();
+            } else if (option >= 0) {
+                s = optionNumbers[q][option];
+            } else {
+                double parsed = parseNumber(a.getValue());
+                s = Double.isNaN(parsed) ? 0d : parsed;
+            }
+            int bucket = q >= 0 ? sections[q] : buckets - 1;
+            weighted[bucket] += s * w;
+            weightSums[bucket] += w;
+        }
+
+        double result;
+        if (strategy == ScoringStrategy.OPTION_WEIGHT_SUM) {
+            result = optionSum;
+        } else if (strategy == ScoringStrategy.SECTION_NORMALIZED) {
+            // Sections nobody answered drop out, so the remaining section weights are renormalized
+            double total = 0d;
+            double norm = 0d;
+            double allWeighted = 0d;
+            double allWeights = 0d;
+            for (int b = 0; b < buckets; b++) {
+                allWeighted += weighted[b];
+                allWeights += weightSums[b];
+                if (weightSums[b] != 0d && sectionWeights[b] > 0d) {
+                    total += (weighted[b] / weightSums[b]) * sectionWeights[b];
+                    norm += sectionWeights[b];
+                }
+            }
+            // Only zero-weight sections answered: score them weighted-mean rather than reporting 0
+            result = norm != 0d ? total / norm : allWeights == 0d ? 0d : allWeighted / allWeights;
+        } else {
+            result = weightSums[0] == 0d ? 0d : weighted[0] / weightSums[0];
+        }
+        return Math.max(0d, Math.min(100d, result));
+    }
+
+    public int questionCount() {
+        return questionIds.length;
+    }
+
+    private int optionIndex(int question, String value) {
+        if (value == null) {
+            return -1;
+        }
+        String[] values = optionValues[question];
+        for (int j = 0; j < values.length; j++) {
+            if (values[j] != null && (values[j].equals(value) || values[j].equals(value.trim()))) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    // Configured section weights, plus a last bucket sharing whatever weight the config leaves unassigned
+    private static double[] sectionWeights(List<ScoringConfig.Section> configured) {
+        double[] result = new double[configured.size() + 1];
+        double assigned = 0d;
+        for (int i = 0; i < configured.size(); i++) {
+            result[i] = Math.max(0d, configured.get(i).getWeight());
+            assigned += result[i];
+        }
+        result[configured.size()] = Math.max(0d, 1d - assigned);
+        return result;
+    }
+
+    private static int bucketOf(long segmentId, String segmentName, List<ScoringConfig.Section> configured) {
+        String slug = slug(segmentName);
+        for (int i = 0; i < configured.size(); i++) {
+            String id = configured.get(i).getId();
+            if (id.equals(Long.toString(segmentId)) || (!slug.isEmpty() && (slug.equals(id) || slug.startsWith(id + "-")))) {
+                return i;
+            }
+        }
+        return configured.size();
+    }
+
+    private static String slug(String name) {
+        if (name == null) {
+            return "";
+        }
+        String slug = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        return slug.replaceAll("^-+|-+$", "");
+    }
+
+    /**
+     * Plain decimal ({@code -12}, {@code 3.5}) or NaN; checked up front so bad input never throws.
+     */
+    static double parseNumber(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        String s = value.trim();
+        int i = (!s.isEmpty() && (s.charAt(0) == '-' || s.charAt(0) == '+')) ? 1 : 0;
+        boolean digits = false;
+        boolean dot = false;
+        for (; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                return Double.NaN;
+            }
+        }
+        return digits ? Double.parseDouble(s) : Double.NaN;
+    }
+}
@@ -0,0 +1,84 @@
+package com.elevate.consultingplatform.service.assessment.scoring;
+
+import com.elevate.consultingplatform.entity.catalog.Segment;
+import com.elevate.consultingplatform.repository.assessment.AssessmentRepository;
+import com.elevate.consultingplatform.repository.catalog.SegmentRepository;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshot;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireSnapshotCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scoring plans per questionnaire. A plan is reused while the questionnaire's snapshot version is unchanged
+ * and dropped wholesale when any stage scoring config changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoringPlanCache {
+
+    private final QuestionnaireSnapshotCache snapshotCache;
+    private final AssessmentRepository assessmentRepository;
+    private final SegmentRepository segmentRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, ScoringPlan> plans = new ConcurrentHashMap<>();
+    // Bumped on config change so a compile that read the old config is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public ScoringPlan get(long questionnaireId) {
+        QuestionnaireSnapshot snapshot = snapshotCache.get(questionnaireId);
+        ScoringPlan plan = plans.get(questionnaireId);
+        if (plan != null && plan.getSnapshotVersion() == snapshot.getVersion()) {
+            return plan;
+        }
+        long seen = generation.get();
+        ScoringPlan compiled = compile(snapshot);
+        if (generation.get() == seen) {
+            plans.merge(questionnaireId, compiled,
+                    (current, candidate) -> candidate.getSnapshotVersion() >= current.getSnapshotVersion() ? candidate : current);
+        }
+        return compiled;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConfigChanged(ScoringConfigChangedEvent event) {
+        generation.incrementAndGet();
+        plans.clear();
+    }
+
+    private ScoringPlan compile(QuestionnaireSnapshot snapshot) {
+        // The first stage (by assessment) that carries a config wins when several assessments share a questionnaire
+        List<String> configs = assessmentRepository.findStageConfigsByQuestionnaireId(snapshot.getQuestionnaireId());
+        ScoringConfig config = ScoringConfig.parse(configs.isEmpty() ? null : configs.get(0), objectMapper);
+
+        Map<Long, String> segmentNames = new HashMap<>();
+        if (config.getStrategy() == ScoringStrategy.SECTION_NORMALIZED) {
+            Set<Long> segmentIds = new HashSet<>();
+            for (QuestionnaireSnapshot.QuestionView q : snapshot.getQuestions()) {
+                if (q.getSegmentId() != null) {
+                    segmentIds.add(q.getSegmentId());
+                }
+            }
+            for (Segment s : segmentRepository.findAllById(segmentIds)) {
+                segmentNames.put(s.getId(), s.getName());
+            }
+        }
+        ScoringPlan plan = ScoringPlan.compile(snapshot, config, segmentNames);
+        log.debug("Compiled {} scoring plan for questionnaire {} v{} ({} questions)",
+                plan.getStrategy(), plan.getQuestionnaireId(), plan.getSnapshotVersion(), plan.questionCount());
+        return plan;
+    }
+}
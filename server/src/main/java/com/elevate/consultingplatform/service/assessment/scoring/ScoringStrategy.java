@@ -0,0 +1,10 @@
+package com.elevate.consultingplatform.service.assessment.scoring;
+
+public enum ScoringStrategy {
+    // Mean of answer values weighted by question weight (questions without a weight count as 1)
+    WEIGHTED_MEAN,
+    // Weighted mean per configured section, combined by the section weights of the stage config
+    SECTION_NORMALIZED,
+    // Sum of the weights of the options the answers selected
+    OPTION_WEIGHT_SUM
+}
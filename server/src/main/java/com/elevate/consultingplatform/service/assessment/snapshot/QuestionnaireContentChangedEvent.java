@@ -0,0 +1,30 @@
+package com.elevate.consultingplatform.service.assessment.snapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by anything that changes questions or options. Handled after the publishing transaction
+ * commits (or immediately when there is none).
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionnaireContentChangedEvent {
+
+    // null when the change may touch every questionnaire (e.g. a segment was removed)
+    private final Long questionnaireId;
+    // true when the questionnaire itself was deleted
+    private final boolean removed;
+
+    public static QuestionnaireContentChangedEvent of(Long questionnaireId) {
+        return new QuestionnaireContentChangedEvent(questionnaireId, false);
+    }
+
+    public static QuestionnaireContentChangedEvent removed(Long questionnaireId) {
+        return new QuestionnaireContentChangedEvent(questionnaireId, true);
+    }
+
+    public static QuestionnaireContentChangedEvent all() {
+        return new QuestionnaireContentChangedEvent(null, false);
+    }
+}
@@ -0,0 +1,103 @@
+package com.elevate.consultingplatform.service.assessment.snapshot;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable copy of a questionnaire's questions and options as of one build.
+ * Questions are ordered by order key, order index, then id, options likewise within their question; both are
+ * indexed by id. Instances are shared between request threads and replaced wholesale on change,
+ * never modified.
+ */
+@Getter
+public final class QuestionnaireSnapshot {
+
+    private final long questionnaireId;
+    // Increases with every build, across all questionnaires
+    private final long version;
+    private final Instant builtAt;
+    private final List<QuestionView> questions;
+
+    @Getter(AccessLevel.NONE)
+    private final LongObjectMap<QuestionView> questionsById;
+    @Getter(AccessLevel.NONE)
+    private final LongObjectMap<OptionView> optionsById;
+
+    QuestionnaireSnapshot(long questionnaireId, long version, List<QuestionView> questions) {
+        this.questionnaireId = questionnaireId;
+        this.version = version;
+        this.builtAt = Instant.now();
+        this.questions = List.copyOf(questions);
+        this.questionsById = new LongObjectMap<>(questions.size());
+        int optionCount = 0;
+        for (QuestionView q : questions) {
+            optionCount += q.getOptions().size();
+        }
+        this.optionsById = new LongObjectMap<>(optionCount);
+        for (QuestionView q : questions) {
+            questionsById.put(q.getId(), q);
+            for (OptionView o : q.getOptions()) {
+                optionsById.put(o.getId(), o);
+            }
+        }
+    }
+
+    /**
+     * @return the question, or null when it is not part of this questionnaire
+     */
+    public QuestionView question(long questionId) {
+        return questionsById.get(questionId);
+    }
+
+    /**
+     * @return the option, or null when it does not belong to a question of this questionnaire
+     */
+    public OptionView option(long optionId) {
+        return optionsById.get(optionId);
+    }
+
+    public boolean containsQuestion(long questionId) {
+        return questionsById.containsKey(questionId);
+    }
+
+    public int questionCount() {
+        return questions.size();
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static final class QuestionView {
+        private final long id;
+        private final Long segmentId;
+        private final String text;
+        private final String type;
+        private final Double weight;
+        private final Integer orderIndex;
+        private final String orderKey;
+        private final List<OptionView> options;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static final class OptionView {
+        private final long id;
+        private final long questionId;
+        private final String label;
+        private final String value;
+        private final Double weight;
+        private final Integer orderIndex;
+        private final String orderKey;
+
+        /**
+         * Weight used for scoring; options without a weight contribute nothing.
+         */
+        public double scoreWeight() {
+            return weight != null ? weight : 0d;
+        }
+    }
+}
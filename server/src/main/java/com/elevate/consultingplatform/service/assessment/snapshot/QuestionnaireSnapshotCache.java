@@ -0,0 +1,172 @@
+package com.elevate.consultingplatform.service.assessment.snapshot;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.common.OrderKeys;
+import com.elevate.consultingplatform.repository.assessment.QuestionOptionRepository;
+import com.elevate.consultingplatform.repository.assessment.QuestionRepository;
+import com.elevate.consultingplatform.repository.assessment.QuestionnaireRepository;
+import com.elevate.consultingplatform.repository.assessment.projection.OptionRow;
+import com.elevate.consultingplatform.repository.assessment.projection.QuestionRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory questionnaire content. The first read of a questionnaire builds its snapshot with two queries
+ * (questions, options); later reads are a map lookup. When content changes, a fresh snapshot is built after
+ * the change commits and swapped in, so readers always see either the old or the new content as a whole.
+ * Only draft versions change (see QuestionnaireVersionService); snapshots of published versions are never rebuilt.
+ * First reads build outside the map, so a slow build never blocks readers of other questionnaires; concurrent
+ * first reads of the same questionnaire may each build, and the first to finish is kept.
+ */
+@Slf4j
+@Component
+public class QuestionnaireSnapshotCache {
+
+    private static final Comparator<QuestionRow> QUESTION_ORDER = Comparator
+            .comparing(QuestionRow::getOrderKey, OrderKeys.ORDER)
+            .thenComparing((QuestionRow q) -> Objects.requireNonNullElse(q.getOrderIndex(), Integer.MAX_VALUE))
+            .thenComparing(QuestionRow::getId);
+
+    private static final Comparator<OptionRow> OPTION_ORDER = Comparator
+            .comparing(OptionRow::getOrderKey, OrderKeys.ORDER)
+            .thenComparing((OptionRow o) -> Objects.requireNonNullElse(o.getOrderIndex(), Integer.MAX_VALUE))
+            .thenComparing(OptionRow::getId);
+
+    private final QuestionRepository questionRepository;
+    private final QuestionOptionRepository questionOptionRepository;
+    private final QuestionnaireRepository questionnaireRepository;
+    private final TransactionTemplate rebuildTransaction;
+
+    private final Map<Long, QuestionnaireSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    // Bumped on every content change so a first read that raced the change is not cached
+    private final AtomicLong generation = new AtomicLong();
+    // Every questionnaire id, in id order; null until read, and again whenever a questionnaire appears or goes
+    private volatile List<Long> questionnaireIds;
+
+    public QuestionnaireSnapshotCache(QuestionRepository questionRepository,
+                                      QuestionOptionRepository questionOptionRepository,
+                                      QuestionnaireRepository questionnaireRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.questionRepository = questionRepository;
+        this.questionOptionRepository = questionOptionRepository;
+        this.questionnaireRepository = questionnaireRepository;
+        // Rebuilds run after the publisher's commit and must not reuse its finished transaction
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Snapshot of the questionnaire, built on first use.
+     */
+    public QuestionnaireSnapshot get(long questionnaireId) {
+        QuestionnaireSnapshot snapshot = snapshots.get(questionnaireId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long seen = generation.get();
+        QuestionnaireSnapshot built = build(questionnaireId);
+        if (generation.get() != seen) {
+            // Built from data a committed change may have replaced; serve it once, let the next read build again
+            return built;
+        }
+        QuestionnaireSnapshot raced = snapshots.putIfAbsent(questionnaireId, built);
+        return raced != null ? raced : built;
+    }
+
+    /**
+     * Snapshots of every questionnaire, in questionnaire id order.
+     */
+    public List<QuestionnaireSnapshot> getAll() {
+        List<QuestionnaireSnapshot> all = new ArrayList<>();
+        for (Long id : questionnaireIds()) {
+            all.add(get(id));
+        }
+        return all;
+    }
+
+    private List<Long> questionnaireIds() {
+        List<Long> ids = questionnaireIds;
+        if (ids == null) {
+            long seen = generation.get();
+            ids = List.copyOf(questionnaireRepository.findAllIds());
+            if (generation.get() == seen) {
+                questionnaireIds = ids;
+            }
+        }
+        return ids;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChanged(QuestionnaireContentChangedEvent event) {
+        generation.incrementAndGet();
+        List<Long> ids = questionnaireIds;
+        if (ids != null && (event.getQuestionnaireId() == null || event.isRemoved()
+                || !ids.contains(event.getQuestionnaireId()))) {
+            questionnaireIds = null;
+        }
+        if (event.getQuestionnaireId() == null) {
+            for (Long id : new ArrayList<>(snapshots.keySet())) {
+                rebuild(id);
+            }
+        } else if (event.isRemoved()) {
+            snapshots.remove(event.getQuestionnaireId());
+        } else if (snapshots.containsKey(event.getQuestionnaireId())) {
+            rebuild(event.getQuestionnaireId());
+        } else {
+            // Not cached; a first read building it from pre-commit data right now sees the generation move
+            snapshots.remove(event.getQuestionnaireId());
+        }
+    }
+
+    private void rebuild(long questionnaireId) {
+        try {
+            QuestionnaireSnapshot fresh = rebuildTransaction.execute(status -> build(questionnaireId));
+            // A slower rebuild that started earlier must not overwrite a newer one
+            snapshots.merge(questionnaireId, fresh,
+                    (current, candidate) -> candidate.getVersion() > current.getVersion() ? candidate : current);
+        } catch (RuntimeException e) {
+            // Drop it instead; the next reader builds it again
+            snapshots.remove(questionnaireId);
+            log.warn("Failed to rebuild questionnaire snapshot {}: {}", questionnaireId, e.getMessage());
+        }
+    }
+
+    private QuestionnaireSnapshot build(long questionnaireId) {
+        long version = versions.incrementAndGet();
+        List<QuestionRow> questionRows = new ArrayList<>(questionRepository.findRowsByQuestionnaireId(questionnaireId));
+        List<OptionRow> optionRows = new ArrayList<>(questionOptionRepository.findRowsByQuestionnaireId(questionnaireId));
+        questionRows.sort(QUESTION_ORDER);
+        optionRows.sort(OPTION_ORDER);
+
+        LongObjectMap<List<QuestionnaireSnapshot.OptionView>> optionsByQuestion = new LongObjectMap<>(questionRows.size());
+        for (OptionRow o : optionRows) {
+            optionsByQuestion.computeIfAbsent(o.getQuestionId(), id -> new ArrayList<>())
+                    .add(new QuestionnaireSnapshot.OptionView(o.getId(), o.getQuestionId(), o.getLabel(), o.getValue(),
+                            o.getWeight(), o.getOrderIndex(), o.getOrderKey()));
+        }
+
+        List<QuestionnaireSnapshot.QuestionView> questions = new ArrayList<>(questionRows.size());
+        for (QuestionRow q : questionRows) {
+            questions.add(new QuestionnaireSnapshot.QuestionView(q.getId(), q.getSegmentId(), q.getText(), q.getType(),
+                    q.getWeight(), q.getOrderIndex(), q.getOrderKey(), List.copyOf(optionsByQuestion.getOrDefault(q.getId(), List.of()))));
+        }
+        log.debug("Built questionnaire snapshot {} v{} ({} questions, {} options)",
+                questionnaireId, version, questions.size(), optionRows.size());
+        return new QuestionnaireSnapshot(questionnaireId, version, questions);
+    }
+}
@@ -0,0 +1,162 @@
+package com.elevate.consultingplatform.service.assessment.stage;
+
+import com.elevate.consultingplatform.dto.assessment.StageRuleDiagnosticsResponse;
+import com.elevate.consultingplatform.repository.assessment.projection.StageRuleRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * One rule set (a questionnaire's or the global one) compiled for lookup by binary search.
+ * <p>
+ * Every rule is a closed range {@code [minScore, maxScore]}. The distinct range bounds split the score axis
+ * into elementary regions: the bounds themselves and the open gaps between neighbouring bounds. Within one
+ * region the set of matching rules never changes, so the winner (lowest priority value, then lowest id) is
+ * resolved once at build time and a lookup is a single binary search over the bounds.
+ * Uncovered gaps and overlapping rules are recorded while compiling so admins can see them.
+ */
+public final class StageRuleIndex {
+
+    public static final long NO_STAGE = 0L;
+
+    private static final Comparator<StageRuleRow> PRECEDENCE = Comparator
+            .comparing((StageRuleRow r) -> Objects.requireNonNullElse(r.getPriority(), Integer.MAX_VALUE))
+            .thenComparing(StageRuleRow::getId);
+
+    private final double[] bounds;
+    // Winning stage id at score == bounds[i]
+    private final long[] pointStages;
+    // Winning stage id for bounds[i] < score < bounds[i + 1]
+    private final long[] gapStages;
+    private final int ruleCount;
+    private final List<StageRuleDiagnosticsResponse.Issue> issues;
+
+    private StageRuleIndex(double[] bounds, long[] pointStages, long[] gapStages, int ruleCount,
+                           List<StageRuleDiagnosticsResponse.Issue> issues) {
+        this.bounds = bounds;
+        this.pointStages = pointStages;
+        this.gapStages = gapStages;
+        this.ruleCount = ruleCount;
+        this.issues = List.copyOf(issues);
+    }
+
+    public static StageRuleIndex compile(List<StageRuleRow> rows) {
+        List<StageRuleDiagnosticsResponse.Issue> issues = new ArrayList<>();
+        List<StageRuleRow> rules = new ArrayList<>(rows.size());
+        for (StageRuleRow row : rows) {
+            if (row.getMinScore() == null || row.getMaxScore() == null || row.getTargetStageId() == null
+                    || row.getMinScore().isNaN() || row.getMaxScore().isNaN() || row.getMinScore() > row.getMaxScore()) {
+                issues.add(issue("INVALID", row.getMinScore(), row.getMaxScore(), List.of(row.getId()),
+                        "Rule " + row.getId() + " has an empty or undefined range and never matches"));
+                continue;
+            }
+            rules.add(row);
+        }
+        rules.sort(PRECEDENCE);
+
+        double[] bounds = rules.stream()
+                .flatMapToDouble(r -> DoubleStream.of(norm(r.getMinScore()), norm(r.getMaxScore())))
+                .sorted()
+                .distinct()
+                .toArray();
+        long[] pointStages = new long[bounds.length];
+        long[] gapStages = new long[Math.max(0, bounds.length - 1)];
+        for (int i = 0; i < bounds.length; i++) {
+            pointStages[i] = winner(rules, bounds[i], bounds[i]);
+            if (i + 1 < bounds.length) {
+                gapStages[i] = winner(rules, bounds[i], bounds[i + 1]);
+                if (gapStages[i] == NO_STAGE) {
+                    issues.add(issue("GAP", bounds[i], bounds[i + 1], List.of(),
+                            "Scores strictly between " + bounds[i] + " and " + bounds[i + 1] + " match no rule"));
+                }
+            }
+        }
+        collectOverlaps(rules, issues);
+        return new StageRuleIndex(bounds, pointStages, gapStages, rules.size(), issues);
+    }
+
+    /**
+     * Stage id for the score, or {@link #NO_STAGE} when no rule matches.
+     */
+    public long stageIdFor(double score) {
+        if (bounds.length == 0 || Double.isNaN(score)) {
+            return NO_STAGE;
+        }
+        int i = Arrays.binarySearch(bounds, norm(score));
+        if (i >= 0) {
+            return pointStages[i];
+        }
+        int insertion = -i - 1; // bounds[insertion - 1] < score < bounds[insertion]
+        if (insertion == 0 || insertion == bounds.length) {
+            return NO_STAGE;
+        }
+        return gapStages[insertion - 1];
+    }
+
+    public boolean isEmpty() {
+        return ruleCount == 0;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public List<StageRuleDiagnosticsResponse.Issue> getIssues() {
+        return issues;
+    }
+
+    public Double coveredFrom() {
+        return bounds.length > 0 ? bounds[0] : null;
+    }
+
+    public Double coveredTo() {
+        return bounds.length > 0 ? bounds[bounds.length - 1] : null;
+    }
+
+    // First rule (in precedence order) covering the whole closed region [from, to]
+    private static long winner(List<StageRuleRow> rules, double from, double to) {
+        for (StageRuleRow r : rules) {
+            if (norm(r.getMinScore()) <= from && norm(r.getMaxScore()) >= to) {
+                return r.getTargetStageId();
+            }
+        }
+        return NO_STAGE;
+    }
+
+    private static void collectOverlaps(List<StageRuleRow> rules, List<StageRuleDiagnosticsResponse.Issue> issues) {
+        for (int a = 0; a < rules.size(); a++) {
+            StageRuleRow first = rules.get(a);
+            for (int b = a + 1; b < rules.size(); b++) {
+                StageRuleRow second = rules.get(b);
+                double from = Math.max(first.getMinScore(), second.getMinScore());
+                double to = Math.min(first.getMaxScore(), second.getMaxScore());
+                if (from <= to) {
+                    // rules are in precedence order, so the first one wins inside the overlap
+                    issues.add(issue("OVERLAP", from, to, List.of(first.getId(), second.getId()),
+                            "Rules " + first.getId() + " and " + second.getId() + " both match [" + from + ", " + to
+                                    + "]; rule " + first.getId() + " wins by priority"));
+                }
+            }
+        }
+    }
+
+    private static StageRuleDiagnosticsResponse.Issue issue(String type, Double from, Double to, List<Long> ruleIds,
+                                                            String message) {
+        return StageRuleDiagnosticsResponse.Issue.builder()
+                .type(type)
+                .from(from)
+                .to(to)
+                .ruleIds(ruleIds)
+                .message(message)
+                .build();
+    }
+
+    // Folds -0.0 into 0.0, which Arrays.binarySearch would otherwise order below it
+    private static double norm(double value) {
+        return value + 0.0d;
+    }
+}
@@ -0,0 +1,82 @@
+package com.elevate.consultingplatform.service.assessment.stage;
+
+import com.elevate.consultingplatform.repository.assessment.StageRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Compiled stage rules per questionnaire plus the global set, built on first use.
+ * Rule sets are small and change rarely, so every rule change simply drops all compiled indexes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StageRuleIndexCache {
+
+    private final StageRuleRepository stageRuleRepository;
+
+    private final Map<Long, StageRuleIndex> byQuestionnaire = new ConcurrentHashMap<>();
+    private final AtomicReference<StageRuleIndex> global = new AtomicReference<>();
+    // Bumped on eviction so a compile that read the old rules is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Rules of the questionnaire, or the global rules when it has none (or no questionnaire is given).
+     */
+    public StageRuleIndex forQuestionnaire(Long questionnaireId) {
+        if (questionnaireId != null) {
+            StageRuleIndex own = questionnaireRules(questionnaireId);
+            if (!own.isEmpty()) {
+                return own;
+            }
+        }
+        return globalRules();
+    }
+
+    public StageRuleIndex questionnaireRules(long questionnaireId) {
+        StageRuleIndex index = byQuestionnaire.get(questionnaireId);
+        if (index != null) {
+            return index;
+        }
+        long seen = generation.get();
+        index = StageRuleIndex.compile(stageRuleRepository.findRowsByQuestionnaireId(questionnaireId));
+        if (generation.get() == seen) {
+            byQuestionnaire.putIfAbsent(questionnaireId, index);
+        }
+        logIssues("questionnaire " + questionnaireId, index);
+        return index;
+    }
+
+    public StageRuleIndex globalRules() {
+        StageRuleIndex index = global.get();
+        if (index != null) {
+            return index;
+        }
+        long seen = generation.get();
+        index = StageRuleIndex.compile(stageRuleRepository.findGlobalRows());
+        if (generation.get() == seen) {
+            global.compareAndSet(null, index);
+        }
+        logIssues("global", index);
+        return index;
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        byQuestionnaire.clear();
+        global.set(null);
+    }
+
+    private static void logIssues(String ruleSet, StageRuleIndex index) {
+        if (!index.getIssues().isEmpty()) {
+            log.warn("Stage rules ({}) compiled with {} issue(s); see /api/v1/admin/stage-rules/diagnostics",
+                    ruleSet, index.getIssues().size());
+        }
+    }
+}
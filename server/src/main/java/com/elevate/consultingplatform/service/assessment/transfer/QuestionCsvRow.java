@@ -0,0 +1,46 @@
+package com.elevate.consultingplatform.service.assessment.transfer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One CSV line: a question's columns plus at most one option. Consecutive lines with the same {@code ref}
+ * belong to one question; without a ref, a line with an empty {@code text} adds an option to the question above.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({"ref", "segment_id", "text", "type", "weight", "options_json",
+        "option_label", "option_value", "option_weight"})
+public class QuestionCsvRow {
+    private String ref;
+    @JsonProperty("segment_id")
+    private Long segmentId;
+    private String text;
+    private String type;
+    private Double weight;
+    @JsonProperty("options_json")
+    private String optionsJson;
+    @JsonProperty("option_label")
+    private String optionLabel;
+    @JsonProperty("option_value")
+    private String optionValue;
+    @JsonProperty("option_weight")
+    private Double optionWeight;
+
+    boolean hasOption() {
+        return optionLabel != null || optionValue != null || optionWeight != null;
+    }
+
+    boolean continues(QuestionCsvRow first) {
+        if (first.ref != null) {
+            return first.ref.equals(ref);
+        }
+        return ref == null && (text == null || text.isBlank());
+    }
+}
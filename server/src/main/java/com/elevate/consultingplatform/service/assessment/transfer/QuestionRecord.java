@@ -0,0 +1,35 @@
+package com.elevate.consultingplatform.service.assessment.transfer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One question with its options as it appears in an import or export; a JSON Lines file holds one per line.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class QuestionRecord {
+    private Long segmentId;
+    private String text;
+    private String type;
+    private Double weight;
+    private String optionsJson;
+    private List<OptionRecord> options = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class OptionRecord {
+        private String label;
+        private String value;
+        private Double weight;
+    }
+}
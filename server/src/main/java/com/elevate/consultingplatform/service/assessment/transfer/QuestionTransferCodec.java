@@ -0,0 +1,207 @@
+package com.elevate.consultingplatform.service.assessment.transfer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+
+/**
+ * Reads and writes {@link QuestionRecord}s one at a time over Jackson's streaming parsers and generators,
+ * so neither side ever holds more than one question in memory.
+ */
+@Component
+public class QuestionTransferCodec {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    // Writing uses the fixed column order; reading takes columns by header name in any order
+    private final CsvSchema writeSchema;
+    private final CsvSchema readSchema;
+
+    public QuestionTransferCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .build();
+        this.writeSchema = csvMapper.schemaFor(QuestionCsvRow.class).withHeader();
+        this.readSchema = CsvSchema.emptySchema().withHeader();
+    }
+
+    public RecordReader reader(TransferFormat format, InputStream in) throws IOException {
+        if (format == TransferFormat.CSV) {
+            return new RecordReader(csvMapper.readerFor(QuestionCsvRow.class).with(readSchema).readValues(in), true);
+        }
+        return new RecordReader(objectMapper.readerFor(QuestionRecord.class).readValues(in), false);
+    }
+
+    public RecordWriter writer(TransferFormat format, OutputStream out) throws IOException {
+        if (format == TransferFormat.CSV) {
+            SequenceWriter rows = csvMapper.writer(writeSchema)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .writeValues(out);
+            return new CsvRecordWriter(rows);
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        ObjectWriter writer = objectMapper.writerFor(QuestionRecord.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new JsonLinesRecordWriter(generator, writer);
+    }
+
+    /**
+     * Pulls one question at a time. Malformed input surfaces as an {@link IOException} from {@link #next()};
+     * the reader cannot continue after one.
+     */
+    public static final class RecordReader implements Closeable {
+        private final MappingIterator<?> rows;
+        private final boolean csv;
+        private QuestionCsvRow pending;
+        private long pendingLine;
+        private long line;
+
+        private RecordReader(MappingIterator<?> rows, boolean csv) {
+            this.rows = rows;
+            this.csv = csv;
+        }
+
+        /**
+         * @return the next question, or null at the end of the input
+         */
+        public QuestionRecord next() throws IOException {
+            if (!csv) {
+                if (!rows.hasNextValue()) {
+                    return null;
+                }
+                QuestionRecord record = (QuestionRecord) rows.nextValue();
+                line = currentLine();
+                return record;
+            }
+            QuestionCsvRow first = pending != null ? pending : readRow();
+            if (first == null) {
+                return null;
+            }
+            line = pending != null ? pendingLine : currentLine();
+            pending = null;
+            QuestionRecord record = new QuestionRecord(first.getSegmentId(), first.getText(), first.getType(),
+                    first.getWeight(), first.getOptionsJson(), new ArrayList<>());
+            addOption(record, first);
+            QuestionCsvRow row;
+            while ((row = readRow()) != null) {
+                if (!row.continues(first)) {
+                    pending = row;
+                    pendingLine = currentLine();
+                    break;
+                }
+                addOption(record, row);
+            }
+            return record;
+        }
+
+        /**
+         * Line where the question last returned by {@link #next()} starts (JSON Lines: the line it is on).
+         */
+        public long line() {
+            return line;
+        }
+
+        /**
+         * Line the parser is at, for reporting errors thrown by {@link #next()}.
+         */
+        public long currentLine() {
+            return rows.getParser().getTokenLocation().getLineNr();
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+
+        private QuestionCsvRow readRow() throws IOException {
+            return rows.hasNextValue() ? (QuestionCsvRow) rows.nextValue() : null;
+        }
+
+        private static void addOption(QuestionRecord record, QuestionCsvRow row) {
+            if (row.hasOption()) {
+                record.getOptions().add(new QuestionRecord.OptionRecord(
+                        row.getOptionLabel(), row.getOptionValue(), row.getOptionWeight()));
+            }
+        }
+    }
+
+    public interface RecordWriter extends Closeable {
+        /**
+         * @param ref identifies the question within the file; CSV uses it to group option lines
+         */
+        void write(String ref, QuestionRecord record) throws IOException;
+    }
+
+    private static final class JsonLinesRecordWriter implements RecordWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+        private boolean written;
+
+        private JsonLinesRecordWriter(JsonGenerator generator, ObjectWriter writer) {
+            this.generator = generator;
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(String ref, QuestionRecord record) throws IOException {
+            writer.writeValue(generator, record);
+            written = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (written) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+
+    private static final class CsvRecordWriter implements RecordWriter {
+        private final SequenceWriter rows;
+
+        private CsvRecordWriter(SequenceWriter rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void write(String ref, QuestionRecord record) throws IOException {
+            if (record.getOptions() == null || record.getOptions().isEmpty()) {
+                rows.write(row(ref, record, null));
+                return;
+            }
+            for (QuestionRecord.OptionRecord option : record.getOptions()) {
+                rows.write(row(ref, record, option));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+
+        private static QuestionCsvRow row(String ref, QuestionRecord q, QuestionRecord.OptionRecord o) {
+            return new QuestionCsvRow(ref, q.getSegmentId(), q.getText(), q.getType(), q.getWeight(), q.getOptionsJson(),
+                    o != null ? o.getLabel() : null, o != null ? o.getValue() : null, o != null ? o.getWeight() : null);
+        }
+    }
+}
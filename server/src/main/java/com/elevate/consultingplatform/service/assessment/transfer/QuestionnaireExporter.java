@@ -0,0 +1,91 @@
+package com.elevate.consultingplatform.service.assessment.transfer;
+
+import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import com.elevate.consultingplatform.repository.assessment.QuestionBulkRepository;
+import com.elevate.consultingplatform.repository.assessment.QuestionnaireRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+
+/**
+ * Writes a questionnaire in the import format, straight from a streaming query: rows are turned into
+ * questions and written as they arrive, so memory use does not depend on the questionnaire size.
+ * Re-importing an export into another questionnaire reproduces its questions and options in order.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionnaireExporter {
+
+    private final QuestionnaireRepository questionnaireRepository;
+    private final QuestionBulkRepository bulkRepository;
+    private final QuestionTransferCodec codec;
+
+    /**
+     * Fails fast for unknown questionnaires, before the response is committed.
+     */
+    public void checkExists(long questionnaireId) {
+        if (!questionnaireRepository.existsById(questionnaireId)) {
+            throw new ResourceNotFoundException("Questionnaire not found");
+        }
+    }
+
+    public void export(long questionnaireId, TransferFormat format, OutputStream out) throws IOException {
+        try (QuestionTransferCodec.RecordWriter writer = codec.writer(format, out)) {
+            Grouper grouper = new Grouper(writer);
+            try {
+                bulkRepository.streamContent(questionnaireId, grouper::accept);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            grouper.finish();
+        }
+    }
+
+    // Rows arrive grouped by question; a question is written once its last option has been seen
+    private static final class Grouper {
+        private final QuestionTransferCodec.RecordWriter writer;
+        private long questionId;
+        private QuestionRecord current;
+
+        private Grouper(QuestionTransferCodec.RecordWriter writer) {
+            this.writer = writer;
+        }
+
+        void accept(QuestionBulkRepository.ContentRow row) {
+            if (current == null || row.getQuestionId() != questionId) {
+                emit();
+                questionId = row.getQuestionId();
+                current = new QuestionRecord(row.getSegmentId(), row.getText(), row.getType(), row.getWeight(),
+                        row.getOptionsJson(), new ArrayList<>());
+            }
+            if (row.getOptionLabel() != null) {
+                current.getOptions().add(new QuestionRecord.OptionRecord(
+                        row.getOptionLabel(), row.getOptionValue(), row.getOptionWeight()));
+            }
+        }
+
+        void finish() throws IOException {
+            try {
+                emit();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void emit() {
+            if (current == null) {
+                return;
+            }
+            try {
+                writer.write(String.valueOf(questionId), current);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+        }
+    }
+}
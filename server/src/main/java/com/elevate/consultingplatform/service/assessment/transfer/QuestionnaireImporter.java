@@ -0,0 +1,303 @@
+package com.elevate.consultingplatform.service.assessment.transfer;
+
+import com.elevate.consultingplatform.common.OrderKeys;
+import com.elevate.consultingplatform.dto.assessment.QuestionnaireImportResponse;
+import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import com.elevate.consultingplatform.repository.OrderKeyRepository;
+import com.elevate.consultingplatform.repository.OrderedTable;
+import com.elevate.consultingplatform.repository.SiblingGroup;
+import com.elevate.consultingplatform.repository.assessment.QuestionBulkRepository;
+import com.elevate.consultingplatform.repository.assessment.QuestionnaireRepository;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireContentChangedEvent;
+import com.elevate.consultingplatform.service.assessment.version.QuestionnaireVersionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Appends questions from a CSV or JSON Lines stream to a questionnaire. Input is parsed one question at a time,
+ * and valid questions are written in chunks of {@code app.questionnaire.import.chunk-size}, each chunk being one
+ * transaction with one batched insert for its questions and one for their options. Invalid questions are
+ * skipped and reported; unreadable input ends the import, keeping the chunks written before it.
+ * A dry run validates everything (segments included) without writing.
+ */
+@Slf4j
+@Service
+public class QuestionnaireImporter {
+
+    private static final int MAX_PROBLEMS = 100;
+    private static final int MAX_TEXT_LENGTH = 65_535;
+    private static final int MAX_LABEL_LENGTH = 255;
+    private static final int MAX_TYPE_LENGTH = 50;
+
+    private final QuestionnaireRepository questionnaireRepository;
+    private final QuestionBulkRepository bulkRepository;
+    private final OrderKeyRepository orderKeyRepository;
+    private final QuestionnaireVersionService versionService;
+    private final QuestionTransferCodec codec;
+    private final ObjectMapper objectMapper;
+    private final AuditorAware<String> auditorProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public QuestionnaireImporter(QuestionnaireRepository questionnaireRepository,
+                                 QuestionBulkRepository bulkRepository,
+                                 OrderKeyRepository orderKeyRepository,
+                                 QuestionnaireVersionService versionService,
+                                 QuestionTransferCodec codec,
+                                 ObjectMapper objectMapper,
+                                 AuditorAware<String> auditorProvider,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.questionnaire.import.chunk-size:500}") int chunkSize) {
+        this.questionnaireRepository = questionnaireRepository;
+        this.bulkRepository = bulkRepository;
+        this.orderKeyRepository = orderKeyRepository;
+        this.versionService = versionService;
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+        this.auditorProvider = auditorProvider;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public QuestionnaireImportResponse importQuestions(long questionnaireId, InputStream in, TransferFormat format,
+                                                       boolean dryRun) throws IOException {
+        if (!questionnaireRepository.existsById(questionnaireId)) {
+            throw new ResourceNotFoundException("Questionnaire not found");
+        }
+        if (!dryRun) {
+            versionService.requireDraft(questionnaireId);
+        }
+        Run run = new Run(questionnaireId, dryRun, auditorProvider.getCurrentAuditor().orElse("system"));
+        try (QuestionTransferCodec.RecordReader reader = codec.reader(format, in)) {
+            List<Pending> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                QuestionRecord record;
+                try {
+                    record = reader.next();
+                } catch (JsonProcessingException e) {
+                    run.problem(reader.currentLine(), "Unreadable input, import stopped: " + e.getOriginalMessage());
+                    run.completed = false;
+                    break;
+                }
+                if (record == null) {
+                    break;
+                }
+                String problem = validate(record);
+                if (problem != null) {
+                    run.reject(reader.line(), problem);
+                    continue;
+                }
+                chunk.add(new Pending(reader.line(), record));
+                if (chunk.size() >= chunkSize) {
+                    flush(run, chunk);
+                    chunk.clear();
+                }
+            }
+            flush(run, chunk);
+        } finally {
+            if (run.questions > 0 && !dryRun) {
+                eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(questionnaireId));
+            }
+        }
+        log.info("Questionnaire {} import{}: {} questions, {} options, {} rejected{}", questionnaireId,
+                dryRun ? " (dry run)" : "", run.questions, run.options, run.rejected, run.completed ? "" : ", stopped early");
+        return QuestionnaireImportResponse.builder()
+                .questionnaireId(questionnaireId)
+                .dryRun(dryRun)
+                .completed(run.completed)
+                .questionsImported(run.questions)
+                .optionsImported(run.options)
+                .questionsRejected(run.rejected)
+                .problems(run.problems)
+                .build();
+    }
+
+    private void flush(Run run, List<Pending> chunk) {
+        dropUnknownSegments(run, chunk);
+        if (chunk.isEmpty()) {
+            return;
+        }
+        if (run.dryRun) {
+            for (Pending p : chunk) {
+                run.questions++;
+                run.options += options(p.record).size();
+            }
+            return;
+        }
+        Map<Long, String> lastKeys = new HashMap<>(run.lastKeys);
+        Integer options = chunkTransaction.execute(status -> write(run, chunk, lastKeys));
+        run.lastKeys.putAll(lastKeys);
+        run.questions += chunk.size();
+        run.options += options != null ? options : 0;
+    }
+
+    private void dropUnknownSegments(Run run, List<Pending> chunk) {
+        Set<Long> unchecked = new HashSet<>();
+        for (Pending p : chunk) {
+            Long segmentId = p.record.getSegmentId();
+            if (segmentId != null && !run.knownSegments.contains(segmentId)) {
+                unchecked.add(segmentId);
+            }
+        }
+        run.knownSegments.addAll(bulkRepository.findExistingSegmentIds(unchecked));
+        for (Iterator<Pending> it = chunk.iterator(); it.hasNext(); ) {
+            Pending p = it.next();
+            if (p.record.getSegmentId() != null && !run.knownSegments.contains(p.record.getSegmentId())) {
+                run.reject(p.line, "Segment " + p.record.getSegmentId() + " does not exist");
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Inserts the chunk; {@code lastKeys} holds the last order key per segment and is advanced past the chunk.
+     *
+     * @return number of options inserted
+     */
+    private int write(Run run, List<Pending> chunk, Map<Long, String> lastKeys) {
+        // Imported questions go after the questionnaire's existing ones of their segment, in file order
+        Map<Long, List<Pending>> bySegment = new LinkedHashMap<>();
+        for (Pending p : chunk) {
+            bySegment.computeIfAbsent(p.record.getSegmentId(), id -> new ArrayList<>()).add(p);
+        }
+        Map<Pending, String> keys = new HashMap<>();
+        for (Map.Entry<Long, List<Pending>> e : bySegment.entrySet()) {
+            String last = lastKeys.containsKey(e.getKey())
+                    ? lastKeys.get(e.getKey())
+                    : orderKeyRepository.findLastKey(OrderedTable.QUESTIONS, SiblingGroup.of(run.questionnaireId, e.getKey()));
+            List<String> segmentKeys = OrderKeys.between(last, null, e.getValue().size());
+            for (int i = 0; i < segmentKeys.size(); i++) {
+                keys.put(e.getValue().get(i), segmentKeys.get(i));
+            }
+            lastKeys.put(e.getKey(), segmentKeys.get(segmentKeys.size() - 1));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<QuestionBulkRepository.QuestionInsert> questions = new ArrayList<>(chunk.size());
+        for (Pending p : chunk) {
+            QuestionRecord r = p.record;
+            questions.add(new QuestionBulkRepository.QuestionInsert(r.getSegmentId(), r.getText().trim(),
+                    r.getType() != null ? r.getType().trim().toUpperCase() : null, r.getWeight(),
+                    r.getOptionsJson(), keys.get(p)));
+        }
+        List<Long> ids = bulkRepository.insertQuestions(run.questionnaireId, questions, run.actor, now);
+
+        List<QuestionBulkRepository.OptionInsert> options = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            List<QuestionRecord.OptionRecord> records = options(chunk.get(i).record);
+            List<String> optionKeys = OrderKeys.spaced(records.size());
+            for (int j = 0; j < records.size(); j++) {
+                QuestionRecord.OptionRecord o = records.get(j);
+                options.add(new QuestionBulkRepository.OptionInsert(ids.get(i), o.getLabel().trim(), o.getValue(),
+                        o.getWeight(), optionKeys.get(j)));
+            }
+        }
+        bulkRepository.insertOptions(options, run.actor, now);
+        return options.size();
+    }
+
+    private String validate(QuestionRecord r) {
+        if (r.getText() == null || r.getText().isBlank()) {
+            return "Question text is required";
+        }
+        if (r.getText().length() > MAX_TEXT_LENGTH) {
+            return "Question text is longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (r.getType() != null && r.getType().trim().length() > MAX_TYPE_LENGTH) {
+            return "Question type is longer than " + MAX_TYPE_LENGTH + " characters";
+        }
+        if (r.getWeight() != null && (!Double.isFinite(r.getWeight()) || r.getWeight() < 0)) {
+            return "Question weight must be a non-negative number";
+        }
+        if (r.getOptionsJson() != null) {
+            try {
+                objectMapper.readTree(r.getOptionsJson());
+            } catch (JsonProcessingException e) {
+                return "options_json is not valid JSON";
+            }
+        }
+        int n = 0;
+        for (QuestionRecord.OptionRecord o : options(r)) {
+            n++;
+            if (o == null || o.getLabel() == null || o.getLabel().isBlank()) {
+                return "Option " + n + " has no label";
+            }
+            if (o.getLabel().trim().length() > MAX_LABEL_LENGTH || (o.getValue() != null && o.getValue().length() > MAX_LABEL_LENGTH)) {
+                return "Option " + n + " label or value is longer than " + MAX_LABEL_LENGTH + " characters";
+            }
+            if (o.getWeight() != null && !Double.isFinite(o.getWeight())) {
+                return "Option " + n + " weight must be a number";
+            }
+        }
+        return null;
+    }
+
+    private static List<QuestionRecord.OptionRecord> options(QuestionRecord r) {
+        return r.getOptions() != null ? r.getOptions() : List.of();
+    }
+
+    // A parsed, valid question waiting for its chunk; identity-keyed
+    private static final class Pending {
+        private final long line;
+        private final QuestionRecord record;
+
+        private Pending(long line, QuestionRecord record) {
+            this.line = line;
+            this.record = record;
+        }
+    }
+
+    private static final class Run {
+        private final long questionnaireId;
+        private final boolean dryRun;
+        private final String actor;
+        private final Set<Long> knownSegments = new HashSet<>();
+        // Last key handed out per segment (null key: questions without a segment)
+        private final Map<Long, String> lastKeys = new HashMap<>();
+        private final List<QuestionnaireImportResponse.Problem> problems = new ArrayList<>();
+        private boolean completed = true;
+        private int questions;
+        private int options;
+        private int rejected;
+
+        private Run(long questionnaireId, boolean dryRun, String actor) {
+            this.questionnaireId = questionnaireId;
+            this.dryRun = dryRun;
+            this.actor = actor;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            problem(line, message);
+        }
+
+        private void problem(long line, String message) {
+            if (problems.size() < MAX_PROBLEMS) {
+                problems.add(new QuestionnaireImportResponse.Problem(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.elevate.consultingplatform.service.assessment.transfer;
+
+public enum TransferFormat {
+    JSONL("application/x-ndjson", "jsonl"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TransferFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * The explicit format if given, else guessed from the request content type (JSON Lines unless it says CSV).
+     */
+    public static TransferFormat resolve(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            for (TransferFormat f : values()) {
+                if (f.extension.equalsIgnoreCase(format.trim()) || f.name().equalsIgnoreCase(format.trim())) {
+                    return f;
+                }
+            }
+            throw new IllegalArgumentException("Unknown format: " + format + " (expected jsonl or csv)");
+        }
+        return contentType != null && contentType.toLowerCase().contains("csv") ? CSV : JSONL;
+    }
+}
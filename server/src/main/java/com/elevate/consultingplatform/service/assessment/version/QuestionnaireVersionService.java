@@ -0,0 +1,172 @@
+package com.elevate.consultingplatform.service.assessment.version;
+
+import com.elevate.consultingplatform.dto.assessment.QuestionnaireVersionResponse;
+import com.elevate.consultingplatform.entity.assessment.Questionnaire;
+import com.elevate.consultingplatform.entity.assessment.QuestionnaireStatus;
+import com.elevate.consultingplatform.exception.BusinessRuleViolationException;
+import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import com.elevate.consultingplatform.repository.assessment.QuestionnaireRepository;
+import com.elevate.consultingplatform.repository.assessment.QuestionnaireVersionRepository;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireContentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Copy-on-write questionnaire versions. A version is edited while it is a DRAFT; publishing freezes it, archives
+ * the family's previous published version and points assessments at it. Changing a frozen version means
+ * starting a new draft from it. Since a version's content never changes after publishing, caches keyed by
+ * questionnaire id stay valid for published and archived versions; only drafts ever send change events.
+ * Family-wide operations lock the family's first version row, so one family has at most one draft.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionnaireVersionService {
+
+    private final QuestionnaireRepository questionnaireRepository;
+    private final QuestionnaireVersionRepository versionRepository;
+    private final AuditorAware<String> auditorProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates the first version of a new questionnaire, as a draft.
+     */
+    @Transactional
+    public Questionnaire create(String name, String version) {
+        Questionnaire q = questionnaireRepository.save(Questionnaire.builder()
+                .name(name)
+                .version(version)
+                .status(QuestionnaireStatus.DRAFT)
+                .build());
+        q.setFamilyId(q.getId());
+        eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(q.getId()));
+        return q;
+    }
+
+    @Transactional
+    public QuestionnaireVersionResponse publish(Long id) {
+        Questionnaire q = lockFamilyAndFind(id);
+        if (q.getStatus() != QuestionnaireStatus.DRAFT) {
+            throw new BusinessRuleViolationException("Questionnaire " + id + " is already " + q.getStatus().name().toLowerCase());
+        }
+        q.setStatus(QuestionnaireStatus.PUBLISHED);
+        q.setPublishedAt(LocalDateTime.now());
+        questionnaireRepository.saveAndFlush(q);
+        int archived = versionRepository.archiveOthers(q.getFamilyId(), q.getId());
+        int repointed = versionRepository.repointAssessments(q.getFamilyId(), q.getId());
+        // The public view lists published versions only
+        eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(q.getId()));
+        log.info("Published questionnaire {} ({}), archived {} version(s), repointed {} assessment(s)",
+                q.getId(), q.getVersion(), archived, repointed);
+        return toResponse(q);
+    }
+
+    /**
+     * Starts a draft from any version of the questionnaire, copying its questions, options and stage rules.
+     */
+    @Transactional
+    public QuestionnaireVersionResponse newDraft(Long sourceId, String version) {
+        Questionnaire source = lockFamilyAndFind(sourceId);
+        Optional<Questionnaire> open = questionnaireRepository.findFirstByFamilyIdAndStatus(
+                source.getFamilyId(), QuestionnaireStatus.DRAFT);
+        if (open.isPresent()) {
+            throw new BusinessRuleViolationException("Questionnaire already has a draft: " + open.get().getId());
+        }
+        Questionnaire draft = questionnaireRepository.saveAndFlush(Questionnaire.builder()
+                .name(source.getName())
+                .version(version != null && !version.isBlank() ? version.trim() : source.getVersion() + "-draft")
+                .status(QuestionnaireStatus.DRAFT)
+                .familyId(source.getFamilyId())
+                .basedOnId(source.getId())
+                .build());
+
+        String actor = auditorProvider.getCurrentAuditor().orElse("system");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int questions = versionRepository.cloneQuestions(source.getId(), draft.getId(), actor, now);
+        int options = versionRepository.cloneOptions(draft.getId(), actor, now);
+        int rules = versionRepository.cloneStageRules(source.getId(), draft.getId(), actor, now);
+        eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(draft.getId()));
+        log.info("Draft questionnaire {} cloned from {}: {} questions, {} options, {} stage rules",
+                draft.getId(), source.getId(), questions, options, rules);
+        return toResponse(draft);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QuestionnaireVersionResponse> versions(Long id) {
+        Questionnaire q = find(id);
+        return questionnaireRepository.findByFamilyIdOrderByIdAsc(q.getFamilyId()).stream()
+                .map(QuestionnaireVersionService::toResponse)
+                .toList();
+    }
+
+    public void requireDraft(Long questionnaireId) {
+        check(questionnaireRepository.findStatusById(questionnaireId));
+    }
+
+    public void requireDraftQuestion(Long questionId) {
+        check(questionnaireRepository.findStatusByQuestionId(questionId));
+    }
+
+    public void requireDraftOption(Long optionId) {
+        check(questionnaireRepository.findStatusByOptionId(optionId));
+    }
+
+    public void requireDraftQuestions(Collection<Long> questionIds) {
+        if (!questionIds.isEmpty() && questionnaireRepository.countFrozenQuestions(questionIds) > 0) {
+            throw frozen();
+        }
+    }
+
+    public void requireDraftOptions(Collection<Long> optionIds) {
+        if (!optionIds.isEmpty() && questionnaireRepository.countFrozenOptions(optionIds) > 0) {
+            throw frozen();
+        }
+    }
+
+    // Missing rows are left to the caller's own not-found handling
+    private static void check(Optional<QuestionnaireStatus> status) {
+        if (status.isPresent() && status.get() != QuestionnaireStatus.DRAFT) {
+            throw frozen();
+        }
+    }
+
+    private static BusinessRuleViolationException frozen() {
+        return new BusinessRuleViolationException(
+                "Published questionnaire versions cannot be changed; create a new draft instead");
+    }
+
+    private Questionnaire find(Long id) {
+        return questionnaireRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Questionnaire not found"));
+    }
+
+    // Locks before loading, so the returned version's status is current
+    private Questionnaire lockFamilyAndFind(Long id) {
+        Long familyId = questionnaireRepository.findFamilyIdById(id).orElse(id);
+        questionnaireRepository.findByIdForUpdate(familyId);
+        return find(id);
+    }
+
+    private static QuestionnaireVersionResponse toResponse(Questionnaire q) {
+        return QuestionnaireVersionResponse.builder()
+                .id(q.getId())
+                .familyId(q.getFamilyId())
+                .basedOnId(q.getBasedOnId())
+                .name(q.getName())
+                .version(q.getVersion())
+                .status(q.getStatus().name())
+                .createdAt(q.getCreatedAt())
+                .publishedAt(q.getPublishedAt())
+                .build();
+    }
+}
@@ -7,19 +7,27 @@ import com.elevate.consultingplatform.dto.catalog.ModuleTreeResponse;
 import com.elevate.consultingplatform.entity.catalog.Module;
 import com.elevate.consultingplatform.entity.catalog.Segment;
 import com.elevate.consultingplatform.entity.catalog.Stage;
+import com.elevate.consultingplatform.repository.OrderedTable;
 import com.elevate.consultingplatform.repository.catalog.ModuleRepository;
 import com.elevate.consultingplatform.repository.catalog.SegmentRepository;
 import com.elevate.consultingplatform.repository.catalog.StageRepository;
+import com.elevate.consultingplatform.service.assessment.scoring.ScoringConfig;
+import com.elevate.consultingplatform.service.assessment.scoring.ScoringConfigChangedEvent;
 import com.elevate.consultingplatform.service.catalog.CatalogService;
-import com.elevate.consultingplatform.mapper.CatalogTreeMapper;
+import com.elevate.consultingplatform.service.catalog.tree.CatalogChangedEvent;
+import com.elevate.consultingplatform.service.catalog.tree.CatalogTreeCache;
+import com.elevate.consultingplatform.service.ordering.OrderingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -28,7 +36,10 @@ public class CatalogServiceImpl implements CatalogService {
     private final ModuleRepository moduleRepository;
     private final SegmentRepository segmentRepository;
     private final StageRepository stageRepository;
-    private final CatalogTreeMapper catalogTreeMapper;
+    private final CatalogTreeCache catalogTreeCache;
+    private final OrderingService orderingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     @Override
     @Transactional
@@ -37,8 +48,11 @@ public class CatalogServiceImpl implements CatalogService {
         m.setName(req.getName());
         m.setDescription(req.getDescription());
         m.setOrderIndex(req.getOrderIndex());
+        m.setOrderKey(orderingService.keyFor(OrderedTable.MODULES, null, req.getOrderIndex(), null));
         m.setIsActive(req.getIsActive());
-        return moduleRepository.save(m).getId();
+        Long id = moduleRepository.save(m).getId();
+        catalogChanged();
+        return id;
     }
 
     @Override
@@ -48,15 +62,20 @@ public class CatalogServiceImpl implements CatalogService {
                 .orElseThrow(() -> new ResourceNotFoundException("Module not found"));
         if (req.getName() != null) m.setName(req.getName());
         if (req.getDescription() != null) m.setDescription(req.getDescription());
-        if (req.getOrderIndex() != null) m.setOrderIndex(req.getOrderIndex());
+        if (req.getOrderIndex() != null) {
+            m.setOrderIndex(req.getOrderIndex());
+            m.setOrderKey(orderingService.keyFor(OrderedTable.MODULES, null, req.getOrderIndex(), id));
+        }
         if (req.getIsActive() != null) m.setIsActive(req.getIsActive());
         moduleRepository.save(m);
+        catalogChanged();
     }
 
     @Override
     @Transactional
     public void deleteModule(Long id) {
         moduleRepository.deleteById(id);
+        catalogChanged();
     }
 
     @Override
@@ -68,8 +87,11 @@ public class CatalogServiceImpl implements CatalogService {
         s.setName(req.getName());
         s.setDescription(req.getDescription());
         s.setOrderIndex(req.getOrderIndex());
+        s.setOrderKey(orderingService.keyFor(OrderedTable.SEGMENTS, module.getId(), req.getOrderIndex(), null));
         s.setIsActive(req.getIsActive());
-        return segmentRepository.save(s).getId();
+        Long id = segmentRepository.save(s).getId();
+        catalogChanged();
+        return id;
     }
 
     @Override
@@ -85,25 +107,33 @@ public class CatalogServiceImpl implements CatalogService {
         if (req.getName() != null) s.setName(req.getName());
         if (req.getDescription() != null) s.setDescription(req.getDescription());
         if (req.getOrderIndex() != null) s.setOrderIndex(req.getOrderIndex());
+        if (req.getModuleId() != null || req.getOrderIndex() != null) {
+            s.setOrderKey(orderingService.keyFor(OrderedTable.SEGMENTS,
+                    s.getModule() != null ? s.getModule().getId() : null, req.getOrderIndex(), id));
+        }
         if (req.getIsActive() != null) s.setIsActive(req.getIsActive());
         segmentRepository.save(s);
+        catalogChanged();
     }
 
     @Override
     @Transactional
     public void deleteSegment(Long id) {
         segmentRepository.deleteById(id);
+        catalogChanged();
     }
 
     @Override
     @Transactional
     public Long createStage(CreateStageRequest req) {
+        ScoringConfig.validate(req.getAssessmentConfig(), objectMapper);
         Segment segment = segmentRepository.findById(req.getSegmentId())
                 .orElseThrow(() -> new ResourceNotFoundException("Segment not found"));
         Stage st = Stage.builder().segment(segment).type(req.getType()).build();
         st.setName(req.getName());
         st.setDescription(req.getDescription());
         st.setOrderIndex(req.getOrderIndex());
+        st.setOrderKey(orderingService.keyFor(OrderedTable.STAGES, segment.getId(), req.getOrderIndex(), null));
         st.setIsActive(req.getIsActive());
         st.setContentUrl(req.getContentUrl());
         st.setLmsCourseId(req.getLmsCourseId());
@@ -111,12 +141,18 @@ public class CatalogServiceImpl implements CatalogService {
         st.setAiPromptTemplate(req.getAiPromptTemplate());
         st.setDurationMinutes(req.getDurationMinutes());
         st.setMetadata(req.getMetadata());
-        return stageRepository.save(st).getId();
+        Long id = stageRepository.save(st).getId();
+        catalogChanged();
+        if (req.getAssessmentConfig() != null) {
+            eventPublisher.publishEvent(new ScoringConfigChangedEvent());
+        }
+        return id;
     }
 
     @Override
     @Transactional
     public void updateStage(Long id, CreateStageRequest req) {
+        ScoringConfig.validate(req.getAssessmentConfig(), objectMapper);
         Stage st = stageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Stage not found"));
         if (req.getSegmentId() != null) {
@@ -128,6 +164,10 @@ public class CatalogServiceImpl implements CatalogService {
         if (req.getName() != null) st.setName(req.getName());
         if (req.getDescription() != null) st.setDescription(req.getDescription());
         if (req.getOrderIndex() != null) st.setOrderIndex(req.getOrderIndex());
+        if (req.getSegmentId() != null || req.getOrderIndex() != null) {
+            st.setOrderKey(orderingService.keyFor(OrderedTable.STAGES,
+                    st.getSegment() != null ? st.getSegment().getId() : null, req.getOrderIndex(), id));
+        }
         if (req.getIsActive() != null) st.setIsActive(req.getIsActive());
         if (req.getContentUrl() != null) st.setContentUrl(req.getContentUrl());
         if (req.getLmsCourseId() != null) st.setLmsCourseId(req.getLmsCourseId());
@@ -136,47 +176,44 @@ public class CatalogServiceImpl implements CatalogService {
         if (req.getDurationMinutes() != null) st.setDurationMinutes(req.getDurationMinutes());
         if (req.getMetadata() != null) st.setMetadata(req.getMetadata());
         stageRepository.save(st);
+        catalogChanged();
+        if (req.getAssessmentConfig() != null) {
+            eventPublisher.publishEvent(new ScoringConfigChangedEvent());
+        }
     }
 
     @Override
     @Transactional
     public void deleteStage(Long id) {
         stageRepository.deleteById(id);
+        catalogChanged();
+        eventPublisher.publishEvent(new ScoringConfigChangedEvent());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ModuleTreeResponse> getModuleTree() {
-        List<Module> modules = moduleRepository.findAll();
-        modules.sort(Comparator.comparing(m -> m.getOrderIndex() == null ? Integer.MAX_VALUE : m.getOrderIndex()));
-        return modules.stream().map(catalogTreeMapper::toTree).collect(Collectors.toList());
+        return catalogTreeCache.get();
     }
 
     @Override
     @Transactional
     public void reorder(com.elevate.consultingplatform.dto.catalog.ReorderRequest req) {
         if (req == null || req.getItems() == null) return;
+        // One set-based update per type instead of a load and save per item
+        Map<OrderedTable, Map<Long, Integer>> byType = new EnumMap<>(OrderedTable.class);
         for (var item : req.getItems()) {
-            String type = item.getType();
-            if ("modules".equalsIgnoreCase(type)) {
-                var entity = moduleRepository.findById(item.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Module not found: " + item.getId()));
-                entity.setOrderIndex(item.getOrderIndex());
-            } else if ("segments".equalsIgnoreCase(type)) {
-                var entity = segmentRepository.findById(item.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Segment not found: " + item.getId()));
-                entity.setOrderIndex(item.getOrderIndex());
-            } else if ("stages".equalsIgnoreCase(type)) {
-                var entity = stageRepository.findById(item.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Stage not found: " + item.getId()));
-                entity.setOrderIndex(item.getOrderIndex());
-            } else {
-                throw new IllegalArgumentException("Unsupported type: " + type);
+            OrderedTable table = OrderedTable.fromType(item.getType());
+            if (!table.isCatalog()) {
+                throw new IllegalArgumentException("Unsupported type: " + item.getType());
             }
+            byType.computeIfAbsent(table, t -> new HashMap<>()).put(item.getId(), item.getOrderIndex());
         }
-        // Flush via repositories to persist updates
-        moduleRepository.flush();
-        segmentRepository.flush();
-        stageRepository.flush();
+        byType.forEach((table, orderIndexes) -> orderingService.applyOrderIndexes(table, orderIndexes, false, null));
+        catalogChanged();
+    }
+
+    // Drops the cached tree once this transaction commits
+    private void catalogChanged() {
+        eventPublisher.publishEvent(new CatalogChangedEvent());
     }
 }
@@ -0,0 +1,8 @@
+package com.elevate.consultingplatform.service.catalog.tree;
+
+/**
+ * Published by anything that creates, updates, deletes or reorders modules, segments or stages.
+ * The cached catalog tree is dropped once the publishing transaction commits.
+ */
+public class CatalogChangedEvent {
+}
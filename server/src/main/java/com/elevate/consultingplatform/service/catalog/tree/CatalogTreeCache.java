@@ -0,0 +1,89 @@
+package com.elevate.consultingplatform.service.catalog.tree;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.dto.catalog.ModuleTreeResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The catalog tree as one shared snapshot, rebuilt on the first read after a catalog change.
+ * Every committed change bumps the catalog version; a snapshot built from an older version is never served,
+ * so a read racing a change may rebuild twice but never returns stale content.
+ * The returned nodes are shared between requests and must not be modified.
+ */
+@Slf4j
+@Component
+public class CatalogTreeCache {
+
+    private final CatalogTreeLoader loader;
+    private final TransactionTemplate readTransaction;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public CatalogTreeCache(CatalogTreeLoader loader, PlatformTransactionManager transactionManager) {
+        this.loader = loader;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<ModuleTreeResponse> get() {
+        return current().modules;
+    }
+
+    /**
+     * The module's subtree from the same snapshot, or null when there is no such module.
+     */
+    public ModuleTreeResponse module(long moduleId) {
+        return current().modulesById.get(moduleId);
+    }
+
+    private Snapshot current() {
+        long current = version.get();
+        Snapshot cached = snapshot.get();
+        if (cached != null && cached.version == current) {
+            return cached;
+        }
+        // Own transaction so the three queries see one consistent state even when called from a write
+        List<ModuleTreeResponse> modules = readTransaction.execute(status -> loader.load());
+        Snapshot fresh = new Snapshot(current, modules);
+        // Keep whichever is newer if another reader built one meanwhile
+        snapshot.accumulateAndGet(fresh, (a, b) -> a == null || b.version > a.version ? b : a);
+        log.debug("Built catalog tree v{} ({} modules)", current, modules.size());
+        return fresh;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final List<ModuleTreeResponse> modules;
+        private final LongObjectMap<ModuleTreeResponse> modulesById;
+
+        private Snapshot(long version, List<ModuleTreeResponse> modules) {
+            this.version = version;
+            this.modules = modules;
+            this.modulesById = new LongObjectMap<>(modules.size());
+            for (ModuleTreeResponse m : modules) {
+                modulesById.put(m.getId(), m);
+            }
+        }
+    }
+}
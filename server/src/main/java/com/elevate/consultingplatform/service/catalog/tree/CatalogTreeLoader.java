@@ -0,0 +1,79 @@
+package com.elevate.consultingplatform.service.catalog.tree;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.dto.catalog.ModuleTreeResponse;
+import com.elevate.consultingplatform.repository.catalog.ModuleRepository;
+import com.elevate.consultingplatform.repository.catalog.SegmentRepository;
+import com.elevate.consultingplatform.repository.catalog.StageRepository;
+import com.elevate.consultingplatform.repository.catalog.projection.ModuleNodeRow;
+import com.elevate.consultingplatform.repository.catalog.projection.SegmentNodeRow;
+import com.elevate.consultingplatform.repository.catalog.projection.StageNodeRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the module / segment / stage tree from three flat queries, each already ordered by order key, order
+ * index, then id, so children are appended to their parents in display order. No entity is loaded.
+ * {@code orderIndex} in the tree is the 1-based position among siblings, since moves only rewrite order keys.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogTreeLoader {
+
+    private final ModuleRepository moduleRepository;
+    private final SegmentRepository segmentRepository;
+    private final StageRepository stageRepository;
+
+    /**
+     * The whole tree; node lists are unmodifiable.
+     */
+    public List<ModuleTreeResponse> load() {
+        List<ModuleNodeRow> moduleRows = moduleRepository.findTreeRows();
+        List<SegmentNodeRow> segmentRows = segmentRepository.findTreeRows();
+        List<StageNodeRow> stageRows = stageRepository.findTreeRows();
+
+        LongObjectMap<List<ModuleTreeResponse.StageNode>> stagesBySegment = new LongObjectMap<>(segmentRows.size());
+        for (StageNodeRow t : stageRows) {
+            List<ModuleTreeResponse.StageNode> stages = stagesBySegment.computeIfAbsent(t.getSegmentId(), id -> new ArrayList<>());
+            stages.add(ModuleTreeResponse.StageNode.builder()
+                    .id(t.getId())
+                    .name(t.getName())
+                    .description(t.getDescription())
+                    .orderIndex(stages.size() + 1)
+                    .isActive(t.getIsActive())
+                    .type(t.getType() != null ? t.getType().name() : null)
+                    .contentUrl(t.getContentUrl())
+                    .lmsCourseId(t.getLmsCourseId())
+                    .build());
+        }
+
+        LongObjectMap<List<ModuleTreeResponse.SegmentNode>> segmentsByModule = new LongObjectMap<>(moduleRows.size());
+        for (SegmentNodeRow s : segmentRows) {
+            List<ModuleTreeResponse.SegmentNode> segments = segmentsByModule.computeIfAbsent(s.getModuleId(), id -> new ArrayList<>());
+            segments.add(ModuleTreeResponse.SegmentNode.builder()
+                    .id(s.getId())
+                    .name(s.getName())
+                    .description(s.getDescription())
+                    .orderIndex(segments.size() + 1)
+                    .isActive(s.getIsActive())
+                    .stages(List.copyOf(stagesBySegment.getOrDefault(s.getId(), List.of())))
+                    .build());
+        }
+
+        List<ModuleTreeResponse> modules = new ArrayList<>(moduleRows.size());
+        for (ModuleNodeRow m : moduleRows) {
+            modules.add(ModuleTreeResponse.builder()
+                    .id(m.getId())
+                    .name(m.getName())
+                    .description(m.getDescription())
+                    .orderIndex(modules.size() + 1)
+                    .isActive(m.getIsActive())
+                    .segments(List.copyOf(segmentsByModule.getOrDefault(m.getId(), List.of())))
+                    .build());
+        }
+        return List.copyOf(modules);
+    }
+}
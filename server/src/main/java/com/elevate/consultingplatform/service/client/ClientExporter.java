@@ -0,0 +1,76 @@
+package com.elevate.consultingplatform.service.client;
+
+import com.elevate.consultingplatform.dto.user.ClientExportRow;
+import com.elevate.consultingplatform.repository.ClientExportRepository;
+import com.elevate.consultingplatform.service.assessment.transfer.TransferFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes every client account as JSON Lines or CSV straight from a streaming query, one row at a time,
+ * so memory use stays the same however many clients there are.
+ */
+@Service
+public class ClientExporter {
+
+    private final ClientExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final CsvSchema schema;
+
+    public ClientExporter(ClientExportRepository exportRepository, ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.schema = csvMapper.schemaFor(ClientExportRow.class).withHeader();
+    }
+
+    /**
+     * @return number of clients written
+     */
+    public long export(TransferFormat format, OutputStream out) throws IOException {
+        try (SequenceWriter rows = writer(format, out)) {
+            long count = exportRepository.streamClients(row -> {
+                try {
+                    rows.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (format == TransferFormat.JSONL && count > 0) {
+                // The separator only goes between values; JSON Lines ends every line
+                rows.flush();
+                out.write('\n');
+            }
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private SequenceWriter writer(TransferFormat format, OutputStream out) throws IOException {
+        if (format == TransferFormat.CSV) {
+            return csvMapper.writer(schema)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .writeValues(out);
+        }
+        return objectMapper.writerFor(ClientExportRow.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .writeValues(out);
+    }
+}
@@ -1,9 +1,13 @@
 package com.elevate.consultingplatform.service.impl;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
 import com.elevate.consultingplatform.dto.user.UserResponse;
+import com.elevate.consultingplatform.entity.Role;
 import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.mapper.UserMapper;
 import com.elevate.consultingplatform.repository.UserRepository;
+import com.elevate.consultingplatform.security.SecurityStampRegistry;
+import com.elevate.consultingplatform.security.UserDetailsCache;
 import com.elevate.consultingplatform.service.AdminClientService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -15,10 +19,13 @@ import com.elevate.consultingplatform.entity.PasswordResetToken;
 import com.elevate.consultingplatform.repository.PasswordResetTokenRepository;
 import com.elevate.consultingplatform.service.EmailService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,17 +36,32 @@ public class AdminClientServiceImpl implements AdminClientService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final com.elevate.consultingplatform.repository.EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final EmailService emailService;
+    private final SecurityStampRegistry securityStampRegistry;
+    private final UserDetailsCache userDetailsCache;
     private static final Logger log = LoggerFactory.getLogger(AdminClientServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 200;
 
     @Value("${app.security.password-reset-token.expiration-minutes:30}")
     private int passwordResetTokenExpirationMinutes;
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllClients() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toUserResponse)
-                .collect(Collectors.toList());
+    public KeysetPageResponse<UserResponse> pageClients(String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long afterId = cursor == null || cursor.isBlank() ? 0L : parseCursor(cursor);
+        // One extra row tells whether another page follows
+        List<User> rows = userRepository.findPageByRole(Role.CLIENT, afterId,
+                PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        List<UserResponse> items = new ArrayList<>(Math.min(rows.size(), size));
+        for (User user : hasMore ? rows.subList(0, size) : rows) {
+            items.add(userMapper.toUserResponse(user));
+        }
+        return KeysetPageResponse.<UserResponse>builder()
+                .items(items)
+                .nextCursor(hasMore ? encodeCursor(rows.get(size - 1).getId()) : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     @Override
@@ -85,7 +107,7 @@ public class AdminClientServiceImpl implements AdminClientService {
         .lastName(lastName)
         .email(email)
         .password(encoded)
-        .role(com.elevate.consultingplatform.entity.Role.CLIENT)
+        .role(Role.CLIENT)
         .isActive(true)
         .isEmailVerified(true)
         .build();
@@ -125,6 +147,11 @@ public class AdminClientServiceImpl implements AdminClientService {
     @Transactional
     public UserResponse updateClient(Long id, UserResponse request) {
         var user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("Client not found"));
+        // Remember what access tokens depend on so we can tell whether issued tokens go stale
+        String previousEmail = user.getEmail();
+        var previousRole = user.getRole();
+        boolean previouslyEnabled = user.isEnabled();
+
         // Basic fields
         if (request.getFirstName() != null) user.setFirstName(request.getFirstName());
         if (request.getLastName() != null) user.setLastName(request.getLastName());
@@ -141,7 +168,19 @@ public class AdminClientServiceImpl implements AdminClientService {
             setter.invoke(user, java.time.LocalDateTime.now());
         } catch (Exception ignore) { /* updatedAt may be handled by JPA auditing */ }
 
+        boolean tokensStale = !java.util.Objects.equals(previousEmail, user.getEmail())
+                || previousRole != user.getRole()
+                || previouslyEnabled != user.isEnabled();
+        if (tokensStale) {
+            user.bumpSecurityVersion();
+        }
+
         var saved = userRepository.save(user);
+        if (tokensStale) {
+            securityStampRegistry.evictAfterCommit(saved.getId());
+        }
+        userDetailsCache.evict(previousEmail);
+        userDetailsCache.evict(saved.getEmail());
         return userMapper.toUserResponse(saved);
     }
 
@@ -158,6 +197,8 @@ public class AdminClientServiceImpl implements AdminClientService {
             emailVerificationTokenRepository.findByUser(user).ifPresent(token -> emailVerificationTokenRepository.delete(token));
             // Now delete the user
             userRepository.deleteById(id);
+            securityStampRegistry.revokeAfterCommit(id);
+            userDetailsCache.evict(user.getEmail());
         } else {
             throw new RuntimeException("Client not found");
         }
@@ -167,7 +208,7 @@ public class AdminClientServiceImpl implements AdminClientService {
     @Transactional(readOnly = true)
     public org.springframework.data.domain.Page<UserResponse> searchClients(String query, org.springframework.data.domain.Pageable pageable) {
         String q = query == null ? "" : query.trim();
-        var page = userRepository.searchClients(com.elevate.consultingplatform.entity.Role.CLIENT, q, pageable);
+        var page = userRepository.searchClients(Role.CLIENT, q, pageable);
         return page.map(userMapper::toUserResponse);
     }
 
@@ -191,4 +232,16 @@ public class AdminClientServiceImpl implements AdminClientService {
             log.warn("Failed to send password reset email for user {}", user.getEmail(), ex);
         }
     }
+
+    private static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
 }
@@ -1,20 +1,35 @@
 package com.elevate.consultingplatform.service.impl;
 
+    import com.elevate.consultingplatform.dto.KeysetPageResponse;
     import com.elevate.consultingplatform.dto.questionnaire.admin.*;
     import com.elevate.consultingplatform.entity.assessment.Question;
     import com.elevate.consultingplatform.entity.assessment.Option;
     import com.elevate.consultingplatform.entity.catalog.Segment;
+    import com.elevate.consultingplatform.repository.OrderedTable;
+    import com.elevate.consultingplatform.repository.SiblingGroup;
     import com.elevate.consultingplatform.repository.assessment.QuestionRepository;
     import com.elevate.consultingplatform.repository.assessment.OptionRepository;
+    import com.elevate.consultingplatform.repository.assessment.projection.QuestionRow;
+    import com.elevate.consultingplatform.repository.assessment.projection.SegmentQuestionCount;
     import com.elevate.consultingplatform.repository.catalog.SegmentRepository;
+    import com.elevate.consultingplatform.repository.catalog.projection.SegmentNodeRow;
     import com.elevate.consultingplatform.service.AdminQuestionnaireService;
+    import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireContentChangedEvent;
+    import com.elevate.consultingplatform.service.assessment.version.QuestionnaireVersionService;
+    import com.elevate.consultingplatform.service.catalog.tree.CatalogChangedEvent;
+    import com.elevate.consultingplatform.service.ordering.OrderingService;
     import lombok.RequiredArgsConstructor;
+    import org.springframework.context.ApplicationEventPublisher;
+    import org.springframework.data.domain.PageRequest;
     import org.springframework.stereotype.Service;
+    import org.springframework.transaction.annotation.Transactional;
 
-    import java.util.Comparator;
+    import java.nio.charset.StandardCharsets;
+    import java.util.ArrayList;
+    import java.util.Base64;
+    import java.util.HashMap;
     import java.util.List;
-    import java.util.Objects;
-    import java.util.stream.Collectors;
+    import java.util.Map;
 
     @Service
     @RequiredArgsConstructor
@@ -23,19 +38,37 @@ package com.elevate.consultingplatform.service.impl;
         private final SegmentRepository segmentRepository;
         private final QuestionRepository questionRepository;
         private final OptionRepository optionRepository;
+        private final OrderingService orderingService;
+        private final QuestionnaireVersionService versionService;
+        private final ApplicationEventPublisher eventPublisher;
+
+        private static final int MAX_PAGE_SIZE = 200;
 
     @Override
     public List<SegmentSummaryDto> listSegments() {
-        return segmentRepository.findAll().stream()
-                .sorted(Comparator.comparing(s -> Objects.requireNonNullElse(s.getOrderIndex(), Integer.MAX_VALUE)))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<SegmentNodeRow> segments = segmentRepository.findTreeRows();
+        Map<Long, Long> counts = new HashMap<>();
+        for (SegmentQuestionCount c : questionRepository.countBySegment()) {
+            counts.put(c.getSegmentId(), c.getCount());
+        }
+        List<SegmentSummaryDto> result = new ArrayList<>(segments.size());
+        for (SegmentNodeRow s : segments) {
+            result.add(SegmentSummaryDto.builder()
+                    .id(s.getId())
+                    .name(s.getName())
+                    .order(result.size() + 1)
+                    .questionCount(counts.getOrDefault(s.getId(), 0L))
+                    .build());
+        }
+        return result;
     }
 
     @Override
     public SegmentSummaryDto createSegment(String name, Integer order) {
         Segment s = Segment.builder().name(name).orderIndex(order).build();
+        s.setOrderKey(orderingService.keyFor(OrderedTable.SEGMENTS, null, order, null));
         Segment saved = segmentRepository.save(s);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         return toDto(saved);
     }
 
@@ -44,32 +77,77 @@ package com.elevate.consultingplatform.service.impl;
         Segment s = segmentRepository.findById(id).orElseThrow();
         if (name != null) s.setName(name);
         s.setOrderIndex(order);
-        return toDto(segmentRepository.save(s));
+        if (order != null) {
+            s.setOrderKey(orderingService.keyFor(OrderedTable.SEGMENTS,
+                    s.getModule() != null ? s.getModule().getId() : null, order, id));
+        }
+        Segment saved = segmentRepository.save(s);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return toDto(saved);
     }
 
     @Override
     public void deleteSegment(Long id) {
         segmentRepository.deleteById(id);
+        // Questions of the segment lose their segment reference (ON DELETE SET NULL)
+        eventPublisher.publishEvent(QuestionnaireContentChangedEvent.all());
+        eventPublisher.publishEvent(new CatalogChangedEvent());
     }
 
     private SegmentSummaryDto toDto(Segment s) {
+        return toDto(s, s.getOrderIndex());
+    }
+
+    // Lists report positions, since moves only rewrite order keys
+    private SegmentSummaryDto toDto(Segment s, Integer order) {
         return SegmentSummaryDto.builder()
                 .id(s.getId())
                 .name(s.getName())
-                .order(s.getOrderIndex())
+                .order(order)
                 .build();
     }
 
     // Questions
     @Override
     public List<QuestionSummaryDto> listQuestions(Long segmentId) {
-        return questionRepository.findAll().stream()
-                .filter(q -> q.getSegment() != null && Objects.equals(q.getSegment().getId(), segmentId))
-                .sorted(Comparator
-                        .comparing((Question q) -> Objects.requireNonNullElse(q.getOrderIndex(), Integer.MAX_VALUE))
-                        .thenComparing(q -> Objects.requireNonNullElse(q.getId(), Long.MAX_VALUE)))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<QuestionRow> questions = questionRepository.findRowsBySegmentIdInOrder(segmentId);
+        List<QuestionSummaryDto> result = new ArrayList<>(questions.size());
+        for (QuestionRow q : questions) {
+            result.add(toDto(q, result.size() + 1));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<QuestionSummaryDto> pageQuestions(Long segmentId, String text, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        String pattern = likePattern(text);
+        QuestionCursor after = cursor == null || cursor.isBlank() ? QuestionCursor.FIRST : QuestionCursor.parse(cursor);
+        // One extra row tells whether another page follows
+        List<QuestionRow> rows = questionRepository.findPageInSegment(segmentId, after.key, after.id, pattern,
+                PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        List<QuestionSummaryDto> items = new ArrayList<>(Math.min(rows.size(), size));
+        for (QuestionRow q : hasMore ? rows.subList(0, size) : rows) {
+            // Positions are only meaningful in the unfiltered list, which is what reorder works on
+            items.add(toDto(q, pattern == null ? after.position + items.size() + 1 : null));
+        }
+        String next = null;
+        if (hasMore) {
+            QuestionRow last = rows.get(size - 1);
+            next = new QuestionCursor(last.getOrderKey(), last.getId(), after.position + size).encode();
+        }
+        return KeysetPageResponse.<QuestionSummaryDto>builder()
+                .items(items)
+                .nextCursor(next)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public long countQuestions(Long segmentId, String text) {
+        return questionRepository.countInSegment(segmentId, likePattern(text));
     }
 
     @Override
@@ -80,31 +158,66 @@ package com.elevate.consultingplatform.service.impl;
                 .text(text)
                 .weight(weight != null ? weight.doubleValue() : null)
                 .orderIndex(order)
+                // Not part of any questionnaire, so it is ordered among the segment's other unassigned questions
+                .orderKey(orderingService.keyForGroup(OrderedTable.QUESTIONS, SiblingGroup.of(null, segmentId), order, null))
                 .build();
-        return toDto(questionRepository.save(q));
+        Question saved = questionRepository.save(q);
+        publishChanged(saved);
+        return toDto(saved);
     }
 
     @Override
     public QuestionSummaryDto updateQuestion(Long questionId, String text, Integer weight, Integer order) {
+        versionService.requireDraftQuestion(questionId);
         Question q = questionRepository.findById(questionId).orElseThrow();
         if (text != null) q.setText(text);
         q.setWeight(weight != null ? weight.doubleValue() : null);
-        if (order != null) q.setOrderIndex(order);
-        return toDto(questionRepository.save(q));
+        if (order != null) {
+            q.setOrderIndex(order);
+            q.setOrderKey(orderingService.keyForGroup(OrderedTable.QUESTIONS, SiblingGroup.of(
+                    q.getQuestionnaire() != null ? q.getQuestionnaire().getId() : null,
+                    q.getSegment() != null ? q.getSegment().getId() : null), order, questionId));
+        }
+        Question saved = questionRepository.save(q);
+        publishChanged(saved);
+        return toDto(saved);
     }
 
     @Override
     public void deleteQuestion(Long questionId) {
+        versionService.requireDraftQuestion(questionId);
+        var questionnaireId = questionRepository.findQuestionnaireIdById(questionId);
         questionRepository.deleteById(questionId);
+        questionnaireId.ifPresent(id -> eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(id)));
+    }
+
+    private void publishChanged(Question q) {
+        if (q.getQuestionnaire() != null) {
+            eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(q.getQuestionnaire().getId()));
+        }
     }
 
     private QuestionSummaryDto toDto(Question q) {
+        return toDto(q, q.getOrderIndex());
+    }
+
+    private QuestionSummaryDto toDto(Question q, Integer order) {
         return QuestionSummaryDto.builder()
                 .id(q.getId())
                 .segmentId(q.getSegment() != null ? q.getSegment().getId() : null)
                 .text(q.getText())
                 .weight(q.getWeight() != null ? q.getWeight().intValue() : null)
-                .order(q.getOrderIndex())
+                .order(order)
+                .build();
+    }
+
+    private QuestionSummaryDto toDto(QuestionRow q, Integer order) {
+        return QuestionSummaryDto.builder()
+                .id(q.getId())
+                .segmentId(q.getSegmentId())
+                .text(q.getText())
+                .weight(q.getWeight() != null ? q.getWeight().intValue() : null)
+                .order(order)
                 .build();
     }
 
@@ -112,86 +225,141 @@ package com.elevate.consultingplatform.service.impl;
     @Override
     public List<OptionSummaryDto> listOptions(Long questionId) {
         Question q = questionRepository.findById(questionId).orElseThrow();
-        return optionRepository.findByQuestionOrderByOrderIndexAscIdAsc(q).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<Option> options = optionRepository.findByQuestionIdInOrder(q.getId());
+        List<OptionSummaryDto> result = new ArrayList<>(options.size());
+        for (Option o : options) {
+            result.add(toDto(o, result.size() + 1));
+        }
+        return result;
     }
 
     @Override
     public OptionSummaryDto createOption(Long questionId, String label, String value, Integer order) {
+        versionService.requireDraftQuestion(questionId);
         Question q = questionRepository.findById(questionId).orElseThrow();
         Option opt = Option.builder()
                 .question(q)
                 .label(label)
                 .value(value)
                 .orderIndex(order)
+                .orderKey(orderingService.keyFor(OrderedTable.OPTIONS, questionId, order, null))
                 .build();
-        return toDto(optionRepository.save(opt));
+        Option saved = optionRepository.save(opt);
+        publishChanged(q);
+        return toDto(saved);
     }
 
     @Override
     public OptionSummaryDto updateOption(Long optionId, String label, String value, Integer order) {
+        versionService.requireDraftOption(optionId);
         Option opt = optionRepository.findById(optionId).orElseThrow();
         if (label != null) opt.setLabel(label);
         if (value != null) opt.setValue(value);
-        if (order != null) opt.setOrderIndex(order);
-        return toDto(optionRepository.save(opt));
+        if (order != null) {
+            opt.setOrderIndex(order);
+            opt.setOrderKey(orderingService.keyFor(OrderedTable.OPTIONS,
+                    opt.getQuestion() != null ? opt.getQuestion().getId() : null, order, optionId));
+        }
+        Option saved = optionRepository.save(opt);
+        publishChanged(saved.getQuestion());
+        return toDto(saved);
     }
 
     @Override
     public void deleteOption(Long optionId) {
+        versionService.requireDraftOption(optionId);
+        var questionnaireId = optionRepository.findQuestionnaireIdById(optionId);
         optionRepository.deleteById(optionId);
+        questionnaireId.ifPresent(id -> eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(id)));
     }
 
     private OptionSummaryDto toDto(Option o) {
+        return toDto(o, o.getOrderIndex());
+    }
+
+    private OptionSummaryDto toDto(Option o, Integer order) {
         return OptionSummaryDto.builder()
                 .id(o.getId())
                 .questionId(o.getQuestion() != null ? o.getQuestion().getId() : null)
                 .label(o.getLabel())
                 .value(o.getValue())
-                .order(o.getOrderIndex())
+                .order(order)
                 .build();
     }
 
-    // Reorder bulk operations
+    // Reorder bulk operations: one set-based update per call, see OrderingService
     @Override
-    public void reorderSegments(java.util.List<com.elevate.consultingplatform.dto.questionnaire.admin.ReorderItemDto> items) {
+    public void reorderSegments(List<ReorderItemDto> items) {
         if (items == null) return;
-        for (var it : items) {
-            if (it.getId() == null) continue;
-            segmentRepository.findById(it.getId()).ifPresent(seg -> {
-                seg.setOrderIndex(it.getOrder());
-                segmentRepository.save(seg);
-            });
-        }
+        orderingService.applyOrderIndexes(OrderedTable.SEGMENTS, orderIndexes(items), false, null);
     }
 
     @Override
-    public void reorderQuestions(Long segmentId, java.util.List<com.elevate.consultingplatform.dto.questionnaire.admin.ReorderItemDto> items) {
+    public void reorderQuestions(Long segmentId, List<ReorderItemDto> items) {
         if (items == null) return;
-        for (var it : items) {
-            if (it.getId() == null) continue;
-            questionRepository.findById(it.getId()).ifPresent(q -> {
-                if (q.getSegment() != null && java.util.Objects.equals(q.getSegment().getId(), segmentId)) {
-                    q.setOrderIndex(it.getOrder());
-                    questionRepository.save(q);
-                }
-            });
-        }
+        Map<Long, Integer> orderIndexes = orderIndexes(items);
+        versionService.requireDraftQuestions(orderIndexes.keySet());
+        orderingService.applyOrderIndexes(OrderedTable.QUESTIONS, orderIndexes, true, segmentId);
     }
 
     @Override
-    public void reorderOptions(Long questionId, java.util.List<com.elevate.consultingplatform.dto.questionnaire.admin.ReorderItemDto> items) {
+    public void reorderOptions(Long questionId, List<ReorderItemDto> items) {
         if (items == null) return;
+        versionService.requireDraftQuestion(questionId);
         Question q = questionRepository.findById(questionId).orElseThrow();
-        for (var it : items) {
-            if (it.getId() == null) continue;
-            optionRepository.findById(it.getId()).ifPresent(o -> {
-                if (o.getQuestion() != null && Objects.equals(o.getQuestion().getId(), q.getId())) {
-                    o.setOrderIndex(it.getOrder());
-                    optionRepository.save(o);
-                }
-            });
+        orderingService.applyOrderIndexes(OrderedTable.OPTIONS, orderIndexes(items), true, q.getId());
+    }
+
+    private static Map<Long, Integer> orderIndexes(List<ReorderItemDto> items) {
+        Map<Long, Integer> orderIndexes = new HashMap<>();
+        for (ReorderItemDto it : items) {
+            if (it.getId() != null) {
+                orderIndexes.put(it.getId(), it.getOrder());
+            }
+        }
+        return orderIndexes;
+    }
+
+    // Substring match; '!' escapes LIKE wildcards typed by the admin
+    private static String likePattern(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String escaped = text.trim().replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    // Last row of the previous page plus how many rows came before it, so pages can report positions.
+    // Positions assume nothing moved between page requests; a concurrent move shifts the later ones.
+    private static final class QuestionCursor {
+        static final QuestionCursor FIRST = new QuestionCursor("", 0L, 0);
+        // Stands for a null key; never a valid base-62 key
+        private static final String UNKEYED = "~";
+
+        final String key;
+        final long id;
+        final int position;
+
+        QuestionCursor(String key, long id, int position) {
+            this.key = key;
+            this.id = id;
+            this.position = position;
+        }
+
+        String encode() {
+            String raw = position + ":" + id + ":" + (key != null ? key : UNKEYED);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static QuestionCursor parse(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split(":", 3);
+                String key = UNKEYED.equals(parts[2]) ? null : parts[2];
+                return new QuestionCursor(key, Long.parseLong(parts[1]), Integer.parseInt(parts[0]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
         }
     }
 }
@@ -13,7 +13,12 @@ import java.util.Date;
 import com.elevate.consultingplatform.exception.ResourceNotFoundException;
 import com.elevate.consultingplatform.mapper.UserMapper;
 import com.elevate.consultingplatform.repository.UserRepository;
-import com.elevate.consultingplatform.security.JwtTokenUtil;
+import com.elevate.consultingplatform.security.JwtService;
+import com.elevate.consultingplatform.security.LastLoginWriteBehind;
+import com.elevate.consultingplatform.security.SecurityStampRegistry;
+import com.elevate.consultingplatform.security.UserDetailsCache;
+import com.elevate.consultingplatform.security.UserDetailsImpl;
+import com.elevate.consultingplatform.security.VerifiedToken;
 import com.elevate.consultingplatform.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,10 +43,13 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtTokenUtil jwtTokenUtil;
+    private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
     private final UserMapper userMapper;
+    private final SecurityStampRegistry securityStampRegistry;
+    private final UserDetailsCache userDetailsCache;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
 
     @Override
     @Transactional
@@ -84,24 +92,29 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // Update last login
-        user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        // Update last login; buffered and written in batches instead of saving the whole user, so the row
+        // still holds the previous login and the response reports this one explicitly
+        LocalDateTime loginAt = LocalDateTime.now();
+        lastLoginWriteBehind.record(user.getId(), loginAt);
 
         // Generate tokens
-        return generateAuthResponse(user);
+        return generateAuthResponse(user, loginAt);
     }
 
     @Override
     public AuthenticationResponse refreshToken(String refreshToken) {
-        // Extract username from refresh token
-        String username = jwtTokenUtil.extractUsername(refreshToken);
+        // Verify the refresh token once and read the subject from the verified claims
+        VerifiedToken verified = jwtService.verify(refreshToken)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        String username = verified.getSubject();
         
         // Load user details
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         
-        // Validate refresh token
-        if (!jwtTokenUtil.isTokenValid(refreshToken, userDetails)) {
+        // Validate refresh token; a password reset or deactivation since issue makes it stale
+        boolean staleStamp = userDetails instanceof UserDetailsImpl principal
+                && !verified.matchesSecurityVersion(principal.getSecurityVersion());
+        if (!verified.isValidFor(userDetails) || staleStamp) {
             throw new BadCredentialsException("Invalid refresh token");
         }
         
@@ -117,13 +130,14 @@ public class AuthServiceImpl implements AuthService {
     @Transactional
     public boolean verifyEmail(String token) {
         // In a real app, you would verify the token and mark the email as verified
-        String email = jwtTokenUtil.extractUsername(token);
+        String email = jwtService.extractUsername(token);
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         user.setEmailVerified(true);
         user.setAccountStatus(AccountStatus.ACTIVE);
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail());
         
         return true;
     }
@@ -141,13 +155,16 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public boolean resetPassword(String token, String newPassword) {
-        String email = jwtTokenUtil.extractUsername(token);
+        String email = jwtService.extractUsername(token);
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         // In a real app, you would validate the reset token
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.bumpSecurityVersion();
         userRepository.save(user);
+        securityStampRegistry.evictAfterCommit(user.getId());
+        userDetailsCache.evict(user.getEmail());
         
         return true;
     }
@@ -165,6 +182,10 @@ public class AuthServiceImpl implements AuthService {
     }
 
     private AuthenticationResponse generateAuthResponse(User user) {
+        return generateAuthResponse(user, user.getLastLogin());
+    }
+
+    private AuthenticationResponse generateAuthResponse(User user, LocalDateTime lastLogin) {
         // Generate access token
         Map<String, Object> extraClaims = new HashMap<>();
     // Guard against null role or account status
@@ -173,8 +194,8 @@ public class AuthServiceImpl implements AuthService {
 
     extraClaims.put("role", role.name());
         
-        String accessToken = jwtTokenUtil.generateToken(extraClaims, user);
-        String refreshToken = jwtTokenUtil.generateRefreshToken(user);
+        String accessToken = jwtService.generateToken(extraClaims, user);
+        String refreshToken = jwtService.generateRefreshToken(user);
         
         // Map user to response DTO
         UserResponse userResponse = userMapper.toUserResponse(user);
@@ -184,7 +205,7 @@ public class AuthServiceImpl implements AuthService {
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .tokenType("Bearer")
-                .expiresIn(jwtTokenUtil.getJwtExpirationMs() / 1000) // Convert to seconds
+                .expiresIn(jwtService.getJwtExpirationMs() / 1000) // Convert to seconds
                 .id(String.valueOf(user.getId()))
                 .email(user.getEmail())
                 .firstName(user.getFirstName())
@@ -193,10 +214,10 @@ public class AuthServiceImpl implements AuthService {
                 .profilePictureUrl(user.getProfilePictureUrl())
                 .role(role)
                 .isEmailVerified(user.isEmailVerified())
-                .lastLogin(user.getLastLogin())
+                .lastLogin(lastLogin)
                 .accountStatus(accountStatus.name())
                 .issuedAt(new Date().toInstant())
-                .expiresAt(new Date(System.currentTimeMillis() + jwtTokenUtil.getJwtExpirationMs()).toInstant())
+                .expiresAt(new Date(System.currentTimeMillis() + jwtService.getJwtExpirationMs()).toInstant())
                 .build();
     }
 }
@@ -5,6 +5,11 @@ import com.elevate.consultingplatform.entity.PasswordResetToken;
 import com.elevate.consultingplatform.exception.TokenExpiredException;
 import com.elevate.consultingplatform.exception.UserNotFoundException;
 import com.elevate.consultingplatform.security.JwtService;
+import com.elevate.consultingplatform.security.LastLoginWriteBehind;
+import com.elevate.consultingplatform.security.SecurityStampRegistry;
+import com.elevate.consultingplatform.security.UserDetailsCache;
+import com.elevate.consultingplatform.security.UserDetailsImpl;
+import com.elevate.consultingplatform.security.VerifiedToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import com.elevate.consultingplatform.service.EmailService;
@@ -57,6 +62,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final UserDetailsService userDetailsService;
+    private final SecurityStampRegistry securityStampRegistry;
+    private final UserDetailsCache userDetailsCache;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
     
     @Value("${app.security.verification-token.expiration-minutes}")
     private int verificationTokenExpirationMinutes;
@@ -100,6 +108,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                     if (!passwordEncoder.matches(adminPassword, admin.getPassword())) {
                         admin.setPassword(passwordEncoder.encode(adminPassword));
                         userRepository.save(admin);
+                        userDetailsCache.evict(admin.getEmail());
                         log.info("Admin password updated for email: {}", adminEmail);
                     }
                 });
@@ -194,9 +203,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 throw new RuntimeException("Email not verified. Please check your email for verification link.");
             }
             
-            // Update last login time
-            user.setLastLogin(LocalDateTime.now());
-            userRepository.save(user);
+            // Update last login time; buffered and written in batches instead of saving the whole user
+            lastLoginWriteBehind.record(user.getId(), LocalDateTime.now());
             
             // Generate JWT tokens
             var jwtToken = jwtService.generateToken(user);
@@ -222,21 +230,19 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Override
     public void refreshToken(HttpServletRequest request, HttpServletResponse response) throws IOException {
         final String authHeader = request.getHeader("Authorization");
-        String refreshToken;
-        final String userEmail;
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Missing or invalid Authorization header");
             return;
         }
         
-        refreshToken = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(refreshToken);
+        VerifiedToken refreshToken = jwtService.verify(authHeader.substring(7)).orElse(null);
+        final String userEmail = refreshToken != null ? refreshToken.getSubject() : null;
         
         if (userEmail != null) {
             UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
             
-            if (jwtService.isTokenValid(refreshToken, userDetails)) {
+            if (refreshToken.isValidFor(userDetails) && isCurrentStamp(refreshToken, userDetails)) {
                 var accessToken = jwtService.generateToken(userDetails);
                 var newRefreshToken = jwtService.generateRefreshToken(userDetails);
                 
@@ -261,6 +267,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         response.sendError(HttpServletResponse.SC_FORBIDDEN, "Invalid refresh token");
     }
 
+    private boolean isCurrentStamp(VerifiedToken token, UserDetails userDetails) {
+        return !(userDetails instanceof UserDetailsImpl user)
+                || token.matchesSecurityVersion(user.getSecurityVersion());
+    }
+
     @Override
     @Transactional
     public void verifyEmail(String verificationToken) {
@@ -278,6 +289,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         User user = token.getUser();
         user.setEmailVerified(true);
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail());
 
         // Mark token as used
         token.setUsed(true);
@@ -363,7 +375,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.bumpSecurityVersion();
         userRepository.save(user);
+        securityStampRegistry.evictAfterCommit(user.getId());
+        userDetailsCache.evict(user.getEmail());
 
         // Mark token as used
         resetToken.setUsed(true);
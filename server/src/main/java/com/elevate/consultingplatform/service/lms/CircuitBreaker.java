@@ -0,0 +1,63 @@
+package com.elevate.consultingplatform.service.lms;
+
+import java.time.Duration;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failures in a row calls are refused
+ * for {@code openFor}; then one probe call is let through, and its outcome closes or re-opens the circuit.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openForMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openFor) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openForMillis = openFor.toMillis();
+    }
+
+    /**
+     * Whether a call may be made now. A true result must be followed by {@link #recordSuccess()} or
+     * {@link #recordFailure()}.
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN && System.currentTimeMillis() >= openUntil) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntil = System.currentTimeMillis() + openForMillis;
+        }
+        probeInFlight = false;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,20 @@
+package com.elevate.consultingplatform.service.lms;
+
+import java.util.List;
+
+/**
+ * Transport to the LMS. Implementations are called from the dispatching gateway only, which adds
+ * batching, retries and the circuit breaker; they should fail fast with {@link LmsException}.
+ */
+public interface LmsClient {
+
+    /**
+     * Enrolls all learners in the course in one call.
+     */
+    void enroll(String courseId, List<LmsEnrollment> learners);
+
+    /**
+     * Launch URL for the learner, or null when the LMS has none for the course.
+     */
+    String launchUrl(LmsEnrollment enrollment);
+}
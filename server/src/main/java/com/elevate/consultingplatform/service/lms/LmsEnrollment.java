@@ -0,0 +1,18 @@
+package com.elevate.consultingplatform.service.lms;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * What the LMS needs to know about one learner on one stage; detached from the JPA entities so it can be
+ * queued past the end of the transaction that produced it.
+ */
+@Getter
+@AllArgsConstructor
+public final class LmsEnrollment {
+    private final long userId;
+    private final String email;
+    private final long stageId;
+    private final String courseId;
+    private final String contentUrl;
+}
@@ -0,0 +1,12 @@
+package com.elevate.consultingplatform.service.lms;
+
+public class LmsException extends RuntimeException {
+
+    public LmsException(String message) {
+        super(message);
+    }
+
+    public LmsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -5,5 +5,9 @@ import com.elevate.consultingplatform.entity.catalog.Stage;
 
 public interface LmsGateway {
     void enroll(User user, Stage stage);
+    /**
+     * Where the learner starts the stage. Called inside request transactions, so it must not wait on the LMS;
+     * implementations answer from what they already know (a cached LMS URL or the stage's content URL).
+     */
     String launchUrl(User user, Stage stage);
 }
@@ -0,0 +1,295 @@
+package com.elevate.consultingplatform.service.lms.impl;
+
+import com.elevate.consultingplatform.entity.User;
+import com.elevate.consultingplatform.entity.catalog.Stage;
+import com.elevate.consultingplatform.service.lms.CircuitBreaker;
+import com.elevate.consultingplatform.service.lms.LmsClient;
+import com.elevate.consultingplatform.service.lms.LmsEnrollment;
+import com.elevate.consultingplatform.service.lms.LmsGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LmsGateway} that keeps remote calls off request transactions. Enrollments are queued once the
+ * caller's transaction commits (never for a rolled-back one) and sent by a periodic flush on the gateway's
+ * own thread (so a slow LMS never holds up other scheduled jobs), one call per course carrying up to
+ * {@code maxBatchSize} learners queued for it. A failed call is retried with exponential backoff; each
+ * learner counts its own attempts and is dropped after the last one, so learners queued during a backoff
+ * get their full share. A circuit breaker stops calling an LMS that keeps failing.
+ * Launch URLs are cached per user and stage and never fetched on the caller's thread: on a miss the stage's
+ * content URL is returned and the LMS URL is fetched in the background once the caller's transaction commits,
+ * so the next start gets it. Queued enrollments are held in memory only.
+ */
+@Slf4j
+public class DispatchingLmsGateway implements LmsGateway {
+
+    private final LmsClient client;
+    private final CircuitBreaker breaker;
+    private final Cache<String, String> launchUrls;
+    private final BlockingQueue<LmsEnrollment> incoming;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService dispatcher;
+    private final ThreadPoolExecutor launchUrlFetcher;
+    // user:stage keys with a fetch queued or running
+    private final Set<String> fetching = ConcurrentHashMap.newKeySet();
+
+    // courseId -> batch waiting to be sent; touched by the flush only
+    private final Map<String, PendingBatch> pending = new LinkedHashMap<>();
+
+    public DispatchingLmsGateway(LmsClient client, CircuitBreaker breaker, int queueCapacity, int maxBatchSize,
+                                 int maxAttempts, Duration backoff, Duration maxBackoff, Duration flushInterval,
+                                 Duration launchUrlTtl, long launchUrlCacheSize) {
+        this.client = client;
+        this.breaker = breaker;
+        this.incoming = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lms-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.launchUrlFetcher = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "lms-launch-url");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.launchUrls = Caffeine.newBuilder()
+                .maximumSize(launchUrlCacheSize)
+                .expireAfterWrite(launchUrlTtl)
+                .build();
+    }
+
+    @Override
+    public void enroll(User user, Stage stage) {
+        if (stage.getLmsCourseId() == null || stage.getLmsCourseId().isBlank()) {
+            return; // nothing to enroll in
+        }
+        LmsEnrollment enrollment = toEnrollment(user, stage);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(enrollment);
+                }
+            });
+        } else {
+            offer(enrollment);
+        }
+    }
+
+    @Override
+    public String launchUrl(User user, Stage stage) {
+        if (stage.getLmsCourseId() == null || stage.getLmsCourseId().isBlank()) {
+            return stage.getContentUrl();
+        }
+        String key = user.getId() + ":" + stage.getId();
+        String cached = launchUrls.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        LmsEnrollment enrollment = toEnrollment(user, stage);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fetchLaunchUrl(key, enrollment);
+                }
+            });
+        } else {
+            fetchLaunchUrl(key, enrollment);
+        }
+        return stage.getContentUrl();
+    }
+
+    private void fetchLaunchUrl(String key, LmsEnrollment enrollment) {
+        if (!fetching.add(key)) {
+            return;
+        }
+        try {
+            launchUrlFetcher.execute(() -> {
+                try {
+                    if (!breaker.allowRequest()) {
+                        return;
+                    }
+                    String url = client.launchUrl(enrollment);
+                    breaker.recordSuccess();
+                    if (url != null) {
+                        launchUrls.put(key, url);
+                    }
+                } catch (RuntimeException e) {
+                    breaker.recordFailure();
+                    log.warn("LMS launch URL for user {} stage {} failed: {}",
+                            enrollment.getUserId(), enrollment.getStageId(), e.getMessage());
+                } finally {
+                    fetching.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fetching.remove(key);
+            log.warn("LMS launch URL queue full; user {} stage {} keeps the content URL",
+                    enrollment.getUserId(), enrollment.getStageId());
+        }
+    }
+
+    public void start() {
+        dispatcher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        dispatcher.shutdownNow();
+        launchUrlFetcher.shutdownNow();
+        // Best effort; whatever cannot be sent now is lost with the process
+        flushSafely();
+    }
+
+    /**
+     * Sends every batch that is due, in queue order, until the circuit opens.
+     */
+    public synchronized void flush() {
+        List<LmsEnrollment> drained = new ArrayList<>();
+        incoming.drainTo(drained);
+        for (LmsEnrollment e : drained) {
+            // Repeated starts of the same course by one user collapse into one learner entry
+            pending.computeIfAbsent(e.getCourseId(), PendingBatch::new).learners.putIfAbsent(e.getUserId(), new Learner(e));
+        }
+        long now = System.currentTimeMillis();
+        Iterator<PendingBatch> it = pending.values().iterator();
+        while (it.hasNext()) {
+            PendingBatch batch = it.next();
+            if (batch.notBefore > now) {
+                continue;
+            }
+            while (!batch.learners.isEmpty()) {
+                if (!breaker.allowRequest()) {
+                    return;
+                }
+                if (!send(batch, now)) {
+                    break;
+                }
+            }
+            if (batch.learners.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    // Sends the first slice of the batch; false when it failed and the batch now waits out a backoff
+    private boolean send(PendingBatch batch, long now) {
+        List<Learner> slice = new ArrayList<>(Math.min(batch.learners.size(), maxBatchSize));
+        for (Learner learner : batch.learners.values()) {
+            if (slice.size() == maxBatchSize) {
+                break;
+            }
+            slice.add(learner);
+        }
+        List<LmsEnrollment> enrollments = new ArrayList<>(slice.size());
+        for (Learner learner : slice) {
+            enrollments.add(learner.enrollment);
+        }
+        try {
+            client.enroll(batch.courseId, enrollments);
+            breaker.recordSuccess();
+            for (Learner learner : slice) {
+                batch.learners.remove(learner.enrollment.getUserId());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            breaker.recordFailure();
+            int attempts = 0;
+            int dropped = 0;
+            for (Learner learner : slice) {
+                learner.attempts++;
+                attempts = Math.max(attempts, learner.attempts);
+                if (learner.attempts >= maxAttempts) {
+                    batch.learners.remove(learner.enrollment.getUserId());
+                    dropped++;
+                }
+            }
+            if (dropped > 0) {
+                log.error("Dropping {} LMS enrollment(s) for course {} after {} attempts: {}",
+                        dropped, batch.courseId, maxAttempts, e.getMessage());
+            }
+            long delay = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempts - 1, 20));
+            batch.notBefore = now + delay;
+            log.warn("LMS enrollment for course {} failed (attempt {}), retrying in {} ms: {}",
+                    batch.courseId, attempts, delay, e.getMessage());
+            return false;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("LMS enrollment flush failed: {}", e.getMessage());
+        }
+    }
+
+    public int queuedEnrollments() {
+        return incoming.size();
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return breaker.state();
+    }
+
+    private void offer(LmsEnrollment enrollment) {
+        if (!incoming.offer(enrollment)) {
+            log.error("LMS enrollment queue full; dropped user {} course {}", enrollment.getUserId(), enrollment.getCourseId());
+        }
+    }
+
+    private static LmsEnrollment toEnrollment(User user, Stage stage) {
+        return new LmsEnrollment(user.getId(), user.getEmail(), stage.getId(), stage.getLmsCourseId(), stage.getContentUrl());
+    }
+
+    private static final class PendingBatch {
+        private final String courseId;
+        // userId -> learner, in queue order
+        private final Map<Long, Learner> learners = new LinkedHashMap<>();
+        private long notBefore;
+
+        private PendingBatch(String courseId) {
+            this.courseId = courseId;
+        }
+    }
+
+    private static final class Learner {
+        private final LmsEnrollment enrollment;
+        private int attempts;
+
+        private Learner(LmsEnrollment enrollment) {
+            this.enrollment = enrollment;
+        }
+    }
+}
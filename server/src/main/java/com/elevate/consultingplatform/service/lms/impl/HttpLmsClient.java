@@ -0,0 +1,101 @@
+package com.elevate.consultingplatform.service.lms.impl;
+
+import com.elevate.consultingplatform.service.lms.LmsClient;
+import com.elevate.consultingplatform.service.lms.LmsEnrollment;
+import com.elevate.consultingplatform.service.lms.LmsException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * LMS over HTTP/JSON:
+ * <ul>
+ *     <li>{@code POST {base}/courses/{courseId}/enrollments} with {@code {"learners":[{"userId":..,"email":..}]}}</li>
+ *     <li>{@code GET {base}/courses/{courseId}/launch?userId=..&stageId=..} answering {@code {"url":".."}}</li>
+ * </ul>
+ * Every call is bounded by the request timeout.
+ */
+public class HttpLmsClient implements LmsClient {
+
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient http;
+
+    public HttpLmsClient(String baseUrl, String apiKey, Duration connectTimeout, Duration requestTimeout,
+                         ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.apiKey = apiKey;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        this.http = HttpClient.newBuilder().connectTimeout(connectTimeout).build();
+    }
+
+    @Override
+    public void enroll(String courseId, List<LmsEnrollment> learners) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode array = body.putArray("learners");
+        for (LmsEnrollment e : learners) {
+            array.addObject().put("userId", e.getUserId()).put("email", e.getEmail());
+        }
+        HttpRequest request = request("/courses/" + encode(courseId) + "/enrollments")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        send(request);
+    }
+
+    @Override
+    public String launchUrl(LmsEnrollment enrollment) {
+        HttpRequest request = request("/courses/" + encode(enrollment.getCourseId()) + "/launch?userId="
+                + enrollment.getUserId() + "&stageId=" + enrollment.getStageId())
+                .GET()
+                .build();
+        String response = send(request);
+        try {
+            JsonNode url = objectMapper.readTree(response).get("url");
+            return url != null && !url.isNull() ? url.asText() : null;
+        } catch (IOException e) {
+            throw new LmsException("Unreadable LMS launch response", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout);
+        if (apiKey != null && !apiKey.isBlank()) {
+            builder.header("Authorization", "Bearer " + apiKey);
+        }
+        return builder;
+    }
+
+    private String send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new LmsException("LMS answered " + response.statusCode() + " for " + request.uri().getPath());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new LmsException("LMS call failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LmsException("Interrupted while calling the LMS", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
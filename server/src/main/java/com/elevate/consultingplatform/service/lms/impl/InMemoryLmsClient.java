@@ -0,0 +1,42 @@
+package com.elevate.consultingplatform.service.lms.impl;
+
+import com.elevate.consultingplatform.service.lms.LmsClient;
+import com.elevate.consultingplatform.service.lms.LmsEnrollment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LMS that lives in this process: remembers enrollments per course and hands out the stage's content URL.
+ * For development and tests.
+ */
+public class InMemoryLmsClient implements LmsClient {
+
+    private final Map<String, Set<Long>> learnersByCourse = new ConcurrentHashMap<>();
+    private final AtomicInteger enrollCalls = new AtomicInteger();
+
+    @Override
+    public void enroll(String courseId, List<LmsEnrollment> learners) {
+        enrollCalls.incrementAndGet();
+        Set<Long> enrolled = learnersByCourse.computeIfAbsent(courseId, c -> ConcurrentHashMap.newKeySet());
+        for (LmsEnrollment e : learners) {
+            enrolled.add(e.getUserId());
+        }
+    }
+
+    @Override
+    public String launchUrl(LmsEnrollment enrollment) {
+        return enrollment.getContentUrl();
+    }
+
+    public boolean isEnrolled(String courseId, long userId) {
+        return learnersByCourse.getOrDefault(courseId, Set.of()).contains(userId);
+    }
+
+    public int getEnrollCalls() {
+        return enrollCalls.get();
+    }
+}
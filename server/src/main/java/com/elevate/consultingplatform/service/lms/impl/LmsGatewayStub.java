@@ -5,9 +5,12 @@ import com.elevate.consultingplatform.entity.catalog.Stage;
 import com.elevate.consultingplatform.service.lms.LmsGateway;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+// Default, and with app.lms.mode=stub; otherwise LmsConfig provides the dispatching gateway
 @Component
+@ConditionalOnProperty(name = "app.lms.mode", havingValue = "stub", matchIfMissing = true)
 public class LmsGatewayStub implements LmsGateway {
     private static final Logger log = LoggerFactory.getLogger(LmsGatewayStub.class);
 
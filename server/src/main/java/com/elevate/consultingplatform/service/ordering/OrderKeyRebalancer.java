@@ -0,0 +1,56 @@
+package com.elevate.consultingplatform.service.ordering;
+
+import com.elevate.consultingplatform.common.OrderKeys;
+import com.elevate.consultingplatform.repository.OrderKeyRepository;
+import com.elevate.consultingplatform.repository.OrderedTable;
+import com.elevate.consultingplatform.repository.SiblingGroup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Background upkeep for order keys: gives keys to rows that have none (existing data, rows written outside
+ * the ordering service) and respaces sibling lists whose keys grew long or collided. Each sibling list is
+ * rewritten in its own transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderKeyRebalancer {
+
+    private final OrderKeyRepository orderKeyRepository;
+    private final OrderingService orderingService;
+
+    @Value("${app.ordering.rebalance-batch:200}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        rebalanceAll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.ordering.rebalance-interval-ms:600000}",
+            initialDelayString = "${app.ordering.rebalance-interval-ms:600000}")
+    public void rebalanceAll() {
+        for (OrderedTable table : OrderedTable.values()) {
+            try {
+                List<SiblingGroup> groups = orderKeyRepository.findGroupsToRebalance(table, OrderKeys.REBALANCE_LENGTH, batchSize);
+                int rows = 0;
+                for (SiblingGroup group : groups) {
+                    rows += orderingService.rebalance(table, group);
+                }
+                if (!groups.isEmpty()) {
+                    log.info("Rebalanced order keys of {} {} sibling list(s), {} row(s)", groups.size(), table, rows);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Order key rebalance of {} failed: {}", table, e.getMessage());
+            }
+        }
+    }
+}
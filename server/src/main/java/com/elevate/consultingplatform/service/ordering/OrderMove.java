@@ -0,0 +1,16 @@
+package com.elevate.consultingplatform.service.ordering;
+
+import com.elevate.consultingplatform.repository.OrderedTable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Places one row directly after a sibling, or first among its siblings when {@code afterId} is null.
+ */
+@Getter
+@AllArgsConstructor
+public final class OrderMove {
+    private final OrderedTable table;
+    private final long id;
+    private final Long afterId;
+}
@@ -0,0 +1,286 @@
+package com.elevate.consultingplatform.service.ordering;
+
+import com.elevate.consultingplatform.common.OrderKeys;
+import com.elevate.consultingplatform.exception.ResourceNotFoundException;
+import com.elevate.consultingplatform.repository.OrderKeyRepository;
+import com.elevate.consultingplatform.repository.OrderKeyRepository.Sibling;
+import com.elevate.consultingplatform.repository.OrderedTable;
+import com.elevate.consultingplatform.repository.SiblingGroup;
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireContentChangedEvent;
+import com.elevate.consultingplatform.service.catalog.tree.CatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sibling ordering by {@link OrderKeys}. A move computes a key between the new neighbours and writes only the
+ * moved row; a sibling list is respaced (every row rewritten) only when it has rows without keys, duplicate keys
+ * left by concurrent moves, or a key that would outgrow {@link OrderKeys#MAX_LENGTH}.
+ * {@code order_index} is kept for the legacy reorder endpoints and as the tie-breaker for rows without keys.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderingService {
+
+    private final OrderKeyRepository orderKeyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Applies the moves in order; each sees the result of the previous ones. Writes one statement per table.
+     *
+     * @return number of rows whose key changed
+     */
+    @Transactional
+    public int moveAll(List<OrderMove> moves) {
+        Map<OrderedTable, List<OrderMove>> byTable = new LinkedHashMap<>();
+        for (OrderMove move : moves) {
+            if (move.getTable() == null) {
+                throw new IllegalArgumentException("Move type is required");
+            }
+            if (Objects.equals(move.getAfterId(), move.getId())) {
+                throw new IllegalArgumentException("Cannot move " + move.getId() + " after itself");
+            }
+            byTable.computeIfAbsent(move.getTable(), t -> new ArrayList<>()).add(move);
+        }
+        int changed = 0;
+        for (Map.Entry<OrderedTable, List<OrderMove>> entry : byTable.entrySet()) {
+            changed += moveWithin(entry.getKey(), entry.getValue());
+        }
+        return changed;
+    }
+
+    @Transactional
+    public void move(OrderedTable table, long id, Long afterId) {
+        moveAll(List.of(new OrderMove(table, id, afterId)));
+    }
+
+    /**
+     * Legacy reorder: stores the given order indexes and re-keys the affected sibling lists to match them.
+     * Rows of other parents than {@code parentId} are ignored when {@code restrictToParent} is set.
+     */
+    @Transactional
+    public void applyOrderIndexes(OrderedTable table, Map<Long, Integer> orderIndexes,
+                                  boolean restrictToParent, Long parentId) {
+        if (orderIndexes.isEmpty()) {
+            return;
+        }
+        Set<SiblingGroup> groups = new HashSet<>();
+        Map<Long, Integer> indexes = new HashMap<>();
+        for (Sibling row : orderKeyRepository.findByIds(table, orderIndexes.keySet())) {
+            if (!restrictToParent || Objects.equals(row.getGroup().getParentId(), parentId)) {
+                groups.add(row.getGroup());
+                indexes.put(row.getId(), orderIndexes.get(row.getId()));
+            }
+        }
+        Map<Long, String> keys = new HashMap<>();
+        for (SiblingGroup group : groups) {
+            List<Sibling> siblings = new ArrayList<>(orderKeyRepository.findSiblings(table, group));
+            // Stable sort, so rows with equal indexes keep their current relative order
+            siblings.sort(Comparator.comparing((Sibling s) ->
+                    indexes.containsKey(s.getId()) ? indexes.get(s.getId()) : s.getOrderIndex(),
+                    Comparator.<Integer>nullsLast(Comparator.naturalOrder())));
+            List<String> spaced = OrderKeys.spaced(siblings.size());
+            for (int i = 0; i < siblings.size(); i++) {
+                keys.put(siblings.get(i).getId(), spaced.get(i));
+            }
+        }
+        orderKeyRepository.assign(table, keys, indexes);
+        changed(table, keys.keySet());
+    }
+
+    /**
+     * Key for a row (new, or moving to {@code parentId}) so that it lands at the 1-based {@code position}
+     * among its siblings in display order, the position the list endpoints report; at the end when no
+     * position is given or it is past the end. Writes only when the sibling list has to be respaced.
+     */
+    public String keyFor(OrderedTable table, Long parentId, Integer position, Long excludeId) {
+        return keyForGroup(table, SiblingGroup.of(parentId), position, excludeId);
+    }
+
+    /**
+     * {@link #keyFor} for siblings that are also scoped, e.g. questions of one questionnaire and segment.
+     */
+    public String keyForGroup(OrderedTable table, SiblingGroup group, Integer position, Long excludeId) {
+        if (position == null) {
+            return OrderKeys.between(orderKeyRepository.findLastKey(table, group), null);
+        }
+        List<Slot> slots = slots(table, group);
+        slots.removeIf(s -> excludeId != null && s.id == excludeId);
+        if (needsRespace(slots)) {
+            respace(table, slots);
+        }
+        int pos = Math.max(0, Math.min(position - 1, slots.size()));
+        String key = between(slots, pos);
+        if (key == null) {
+            respace(table, slots);
+            key = between(slots, pos);
+        }
+        return key;
+    }
+
+    /**
+     * Rewrites every key of the sibling list evenly spaced, keeping the current order.
+     *
+     * @return number of rows rewritten
+     */
+    @Transactional
+    public int rebalance(OrderedTable table, SiblingGroup group) {
+        List<Slot> slots = slots(table, group);
+        respace(table, slots);
+        return slots.size();
+    }
+
+    private int moveWithin(OrderedTable table, List<OrderMove> moves) {
+        Set<Long> ids = new HashSet<>();
+        for (OrderMove move : moves) {
+            ids.add(move.getId());
+            if (move.getAfterId() != null) {
+                ids.add(move.getAfterId());
+            }
+        }
+        Map<Long, Sibling> rows = new HashMap<>();
+        for (Sibling row : orderKeyRepository.findByIds(table, ids)) {
+            rows.put(row.getId(), row);
+        }
+        for (Long id : ids) {
+            if (!rows.containsKey(id)) {
+                throw new ResourceNotFoundException(label(table) + " not found: " + id);
+            }
+        }
+
+        Map<SiblingGroup, List<Slot>> siblingsByGroup = new HashMap<>();
+        Map<Long, String> changedKeys = new LinkedHashMap<>();
+        for (OrderMove move : moves) {
+            SiblingGroup group = rows.get(move.getId()).getGroup();
+            if (move.getAfterId() != null && !group.equals(rows.get(move.getAfterId()).getGroup())) {
+                throw new IllegalArgumentException(label(table) + " " + move.getId()
+                        + " can only be placed after a sibling; " + move.getAfterId() + " has another parent");
+            }
+            List<Slot> slots = siblingsByGroup.computeIfAbsent(group, g -> {
+                List<Slot> loaded = slots(table, g);
+                if (needsRespace(loaded)) {
+                    respaceInMemory(loaded, changedKeys);
+                }
+                return loaded;
+            });
+
+            Slot moved = remove(slots, move.getId());
+            int pos = move.getAfterId() == null ? 0 : indexOf(slots, move.getAfterId()) + 1;
+            String key = between(slots, pos);
+            slots.add(pos, moved);
+            if (key == null) {
+                respaceInMemory(slots, changedKeys);
+            } else {
+                moved.key = key;
+                changedKeys.put(moved.id, key);
+            }
+        }
+        orderKeyRepository.assign(table, changedKeys, Map.of());
+        changed(table, changedKeys.keySet());
+        return changedKeys.size();
+    }
+
+    private List<Slot> slots(OrderedTable table, SiblingGroup group) {
+        List<Sibling> siblings = orderKeyRepository.findSiblings(table, group);
+        List<Slot> slots = new ArrayList<>(siblings.size());
+        for (Sibling s : siblings) {
+            slots.add(new Slot(s.getId(), s.getOrderKey()));
+        }
+        return slots;
+    }
+
+    // Rows without a key, with a duplicate key, or with a malformed one make neighbour keys meaningless
+    private static boolean needsRespace(List<Slot> slots) {
+        String previous = null;
+        for (Slot s : slots) {
+            if (s.key == null || !OrderKeys.isValid(s.key) || s.key.equals(previous)) {
+                return true;
+            }
+            previous = s.key;
+        }
+        return false;
+    }
+
+    // Readers cache the order, so every write that changes it is announced (after commit, see the listeners)
+    private void respace(OrderedTable table, List<Slot> slots) {
+        Map<Long, String> keys = new LinkedHashMap<>();
+        respaceInMemory(slots, keys);
+        orderKeyRepository.assign(table, keys, Map.of());
+        changed(table, keys.keySet());
+    }
+
+    private static void respaceInMemory(List<Slot> slots, Map<Long, String> changedKeys) {
+        List<String> spaced = OrderKeys.spaced(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            slots.get(i).key = spaced.get(i);
+            changedKeys.put(slots.get(i).id, spaced.get(i));
+        }
+    }
+
+    // Key for a row inserted at pos, or null when it would exceed the maximum length
+    private static String between(List<Slot> slots, int pos) {
+        String before = pos > 0 ? slots.get(pos - 1).key : null;
+        String after = pos < slots.size() ? slots.get(pos).key : null;
+        String key = OrderKeys.between(before, after);
+        return key.length() <= OrderKeys.MAX_LENGTH ? key : null;
+    }
+
+    private static Slot remove(List<Slot> slots, long id) {
+        int i = indexOf(slots, id);
+        return slots.remove(i);
+    }
+
+    private static int indexOf(List<Slot> slots, long id) {
+        for (int i = 0; i < slots.size(); i++) {
+            if (slots.get(i).id == id) {
+                return i;
+            }
+        }
+        // rows were loaded in this transaction, so a sibling cannot be missing from its own list
+        throw new IllegalStateException("Row " + id + " is missing from its sibling list");
+    }
+
+    private void changed(OrderedTable table, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (table.isCatalog()) {
+            eventPublisher.publishEvent(new CatalogChangedEvent());
+        } else {
+            for (Long questionnaireId : orderKeyRepository.findQuestionnaireIds(table, ids)) {
+                eventPublisher.publishEvent(QuestionnaireContentChangedEvent.of(questionnaireId));
+            }
+        }
+    }
+
+    private static String label(OrderedTable table) {
+        return switch (table) {
+            case MODULES -> "Module";
+            case SEGMENTS -> "Segment";
+            case STAGES -> "Stage";
+            case QUESTIONS -> "Question";
+            case OPTIONS -> "Option";
+        };
+    }
+
+    private static final class Slot {
+        private final long id;
+        private String key;
+
+        private Slot(long id, String key) {
+            this.id = id;
+            this.key = key;
+        }
+    }
+}
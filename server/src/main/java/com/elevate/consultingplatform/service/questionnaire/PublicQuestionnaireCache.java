@@ -0,0 +1,71 @@
+package com.elevate.consultingplatform.service.questionnaire;
+
+import com.elevate.consultingplatform.service.assessment.snapshot.QuestionnaireContentChangedEvent;
+import com.elevate.consultingplatform.service.catalog.tree.CatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The public questionnaire view, built on the first read after any question, option or segment change.
+ * Same versioning as the catalog tree cache: a view built before the latest committed change is never served.
+ */
+@Slf4j
+@Component
+public class PublicQuestionnaireCache {
+
+    private final PublicQuestionnaireLoader loader;
+    private final TransactionTemplate readTransaction;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Versioned> current = new AtomicReference<>();
+
+    public PublicQuestionnaireCache(PublicQuestionnaireLoader loader, PlatformTransactionManager transactionManager) {
+        this.loader = loader;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public PublicQuestionnaireView get() {
+        long seen = version.get();
+        Versioned cached = current.get();
+        if (cached != null && cached.version == seen) {
+            return cached.view;
+        }
+        // Own transaction so the three queries see one consistent state
+        PublicQuestionnaireView view = readTransaction.execute(status -> loader.load());
+        Versioned fresh = new Versioned(seen, view);
+        current.accumulateAndGet(fresh, (a, b) -> a == null || b.version > a.version ? b : a);
+        log.debug("Built public questionnaire view v{} ({} segments, {} questions)",
+                seen, view.getSegments().size(), view.getQuestions().size());
+        return view;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChanged(QuestionnaireContentChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private static final class Versioned {
+        private final long version;
+        private final PublicQuestionnaireView view;
+
+        private Versioned(long version, PublicQuestionnaireView view) {
+            this.version = version;
+            this.view = view;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.elevate.consultingplatform.service.questionnaire;
+
+import com.elevate.consultingplatform.common.LongObjectMap;
+import com.elevate.consultingplatform.dto.questionnaire.QuestionDto;
+import com.elevate.consultingplatform.dto.questionnaire.SegmentDto;
+import com.elevate.consultingplatform.repository.assessment.QuestionOptionRepository;
+import com.elevate.consultingplatform.repository.assessment.QuestionRepository;
+import com.elevate.consultingplatform.repository.assessment.projection.OptionRow;
+import com.elevate.consultingplatform.repository.assessment.projection.QuestionRow;
+import com.elevate.consultingplatform.repository.catalog.SegmentRepository;
+import com.elevate.consultingplatform.repository.catalog.projection.SegmentNodeRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the public questionnaire view from three ordered queries (segments, questions, options) and one
+ * grouping pass over each; rows arrive in display order, so nothing is sorted here.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicQuestionnaireLoader {
+
+    private final SegmentRepository segmentRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionOptionRepository questionOptionRepository;
+
+    public PublicQuestionnaireView load() {
+        List<SegmentNodeRow> segmentRows = segmentRepository.findTreeRows();
+        List<QuestionRow> questionRows = questionRepository.findAllRowsInOrder();
+        List<OptionRow> optionRows = questionOptionRepository.findAllRowsInOrder();
+
+        LongObjectMap<List<String>> labelsByQuestion = new LongObjectMap<>(questionRows.size());
+        for (OptionRow o : optionRows) {
+            labelsByQuestion.computeIfAbsent(o.getQuestionId(), id -> new ArrayList<>()).add(o.getLabel());
+        }
+
+        List<QuestionDto> questions = new ArrayList<>(questionRows.size());
+        LongObjectMap<List<QuestionDto>> questionsBySegment = new LongObjectMap<>(segmentRows.size());
+        for (QuestionRow q : questionRows) {
+            QuestionDto dto = QuestionDto.builder()
+                    .id(q.getId())
+                    .text(q.getText())
+                    .options(labelsByQuestion.getOrDefault(q.getId(), List.of()).toArray(new String[0]))
+                    .weight(q.getWeight() != null ? q.getWeight().intValue() : null)
+                    .build();
+            questions.add(dto);
+            if (q.getSegmentId() != null) {
+                questionsBySegment.computeIfAbsent(q.getSegmentId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        List<SegmentDto> segments = new ArrayList<>(segmentRows.size());
+        for (SegmentNodeRow s : segmentRows) {
+            segments.add(SegmentDto.builder()
+                    .id(s.getId())
+                    .name(s.getName())
+                    // position, since moves only rewrite order keys
+                    .order(segments.size() + 1)
+                    .questions(List.copyOf(questionsBySegment.getOrDefault(s.getId(), List.of())))
+                    .build());
+        }
+        return new PublicQuestionnaireView(List.copyOf(questions), List.copyOf(segments));
+    }
+}
@@ -0,0 +1,18 @@
+package com.elevate.consultingplatform.service.questionnaire;
+
+import com.elevate.consultingplatform.dto.questionnaire.QuestionDto;
+import com.elevate.consultingplatform.dto.questionnaire.SegmentDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Ready-to-serve responses of the public questionnaire endpoints. Shared between requests; never modified.
+ */
+@Getter
+@AllArgsConstructor
+public final class PublicQuestionnaireView {
+    private final List<QuestionDto> questions;
+    private final List<SegmentDto> segments;
+}
@@ -1,7 +1,20 @@
 package com.elevate.consultingplatform.service.training;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
 import com.elevate.consultingplatform.dto.training.CreateAssignmentRequest;
+import com.elevate.consultingplatform.dto.training.ModuleAssignmentProgressResponse;
 
 public interface AssignmentService {
     Long createAssignment(CreateAssignmentRequest req);
+
+    /**
+     * Assignments of the module in the given status (default COMPLETED), from the maintained roll-up.
+     */
+    KeysetPageResponse<ModuleAssignmentProgressResponse> listModuleProgress(Long moduleId, String status,
+                                                                           String cursor, int limit);
+
+    /**
+     * Recomputes the progress roll-up of every assignment now.
+     */
+    int reconcileProgress();
 }
@@ -1,20 +1,28 @@
 package com.elevate.consultingplatform.service.training.impl;
 
+import com.elevate.consultingplatform.dto.KeysetPageResponse;
 import com.elevate.consultingplatform.dto.training.CreateAssignmentRequest;
+import com.elevate.consultingplatform.dto.training.ModuleAssignmentProgressResponse;
 import com.elevate.consultingplatform.entity.User;
 import com.elevate.consultingplatform.entity.catalog.Module;
 import com.elevate.consultingplatform.entity.training.AssignmentStatus;
 import com.elevate.consultingplatform.entity.training.UserModuleAssignment;
 import com.elevate.consultingplatform.repository.UserRepository;
 import com.elevate.consultingplatform.repository.catalog.ModuleRepository;
+import com.elevate.consultingplatform.repository.training.AssignmentProgressRepository;
 import com.elevate.consultingplatform.repository.training.UserModuleAssignmentRepository;
 import com.elevate.consultingplatform.service.training.AssignmentService;
+import com.elevate.consultingplatform.service.training.progress.AssignmentProgressUpdater;
+import com.elevate.consultingplatform.service.training.progress.ModuleAssignedEvent;
 import com.elevate.consultingplatform.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +31,11 @@ public class AssignmentServiceImpl implements AssignmentService {
     private final UserRepository userRepository;
     private final ModuleRepository moduleRepository;
     private final UserModuleAssignmentRepository assignmentRepository;
+    private final AssignmentProgressRepository progressRepository;
+    private final AssignmentProgressUpdater progressUpdater;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 200;
 
     @Override
     @Transactional
@@ -44,6 +57,61 @@ public class AssignmentServiceImpl implements AssignmentService {
                 .assignedAt(LocalDateTime.now())
                 .dueAt(req.getDueAt())
                 .build();
-        return assignmentRepository.save(a).getId();
+        Long id = assignmentRepository.save(a).getId();
+        eventPublisher.publishEvent(new ModuleAssignedEvent(user.getId(), module.getId()));
+        return id;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageResponse<ModuleAssignmentProgressResponse> listModuleProgress(Long moduleId, String status,
+                                                                                  String cursor, int limit) {
+        AssignmentStatus wanted = status == null || status.isBlank() ? AssignmentStatus.COMPLETED : parseStatus(status);
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long afterId = cursor == null || cursor.isBlank() ? 0L : parseCursor(cursor);
+        // One extra row tells whether another page follows
+        List<AssignmentProgressRepository.ModuleProgressRow> rows =
+                progressRepository.findByModuleAndStatus(moduleId, wanted.name(), afterId, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<ModuleAssignmentProgressResponse> items = new ArrayList<>(Math.min(rows.size(), size));
+        for (AssignmentProgressRepository.ModuleProgressRow r : hasMore ? rows.subList(0, size) : rows) {
+            items.add(ModuleAssignmentProgressResponse.builder()
+                    .assignmentId(r.getAssignmentId())
+                    .userId(r.getUserId())
+                    .email(r.getEmail())
+                    .status(r.getStatus())
+                    .stagesTotal(r.getStagesTotal())
+                    .stagesStarted(r.getStagesStarted())
+                    .stagesCompleted(r.getStagesCompleted())
+                    .lastActivityAt(r.getLastActivityAt())
+                    .completedAt(r.getCompletedAt())
+                    .build());
+        }
+        return KeysetPageResponse.<ModuleAssignmentProgressResponse>builder()
+                .items(items)
+                .nextCursor(hasMore ? String.valueOf(items.get(items.size() - 1).getAssignmentId()) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public int reconcileProgress() {
+        return progressUpdater.reconcileAll();
+    }
+
+    private static AssignmentStatus parseStatus(String status) {
+        try {
+            return AssignmentStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown assignment status: " + status);
+        }
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 }
@@ -1,30 +1,35 @@
 package com.elevate.consultingplatform.service.training.impl;
 
+import com.elevate.consultingplatform.common.LongObjectMap;
 import com.elevate.consultingplatform.dto.catalog.ModuleTreeResponse;
+import com.elevate.consultingplatform.dto.training.AssignedModuleResponse;
 import com.elevate.consultingplatform.dto.training.StageCompleteRequest;
 import com.elevate.consultingplatform.entity.User;
-import com.elevate.consultingplatform.entity.catalog.Module;
 import com.elevate.consultingplatform.entity.catalog.Stage;
 import com.elevate.consultingplatform.entity.training.ProgressStatus;
 import com.elevate.consultingplatform.entity.training.UserStageProgress;
-import com.elevate.consultingplatform.mapper.CatalogTreeMapper;
 import com.elevate.consultingplatform.repository.UserRepository;
 import com.elevate.consultingplatform.repository.catalog.StageRepository;
 import com.elevate.consultingplatform.repository.training.UserModuleAssignmentRepository;
 import com.elevate.consultingplatform.repository.training.UserStageProgressRepository;
+import com.elevate.consultingplatform.repository.training.projection.ModuleAssignmentRow;
+import com.elevate.consultingplatform.repository.training.projection.StageProgressRow;
+import com.elevate.consultingplatform.service.catalog.tree.CatalogTreeCache;
+import com.elevate.consultingplatform.service.training.progress.StageProgressEvent;
 import com.elevate.consultingplatform.service.training.ProgressService;
 import com.elevate.consultingplatform.service.lms.LmsGateway;
 import com.elevate.consultingplatform.dto.training.StageStartResponse;
 import com.elevate.consultingplatform.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,16 +39,38 @@ public class ProgressServiceImpl implements ProgressService {
     private final UserModuleAssignmentRepository assignmentRepository;
     private final UserStageProgressRepository progressRepository;
     private final StageRepository stageRepository;
-    private final CatalogTreeMapper catalogTreeMapper;
+    private final CatalogTreeCache catalogTreeCache;
     private final LmsGateway lmsGateway;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
-    public List<ModuleTreeResponse> getAssignedTreeForCurrentUser() {
-        User u = currentUser();
-        var assignments = assignmentRepository.findByUser(u);
-        List<Module> modules = assignments.stream().map(a -> a.getModule()).collect(Collectors.toList());
-        return modules.stream().map(catalogTreeMapper::toTree).collect(Collectors.toList());
+    public List<AssignedModuleResponse> getAssignedTreeForCurrentUser() {
+        Long userId = currentUserId();
+        List<ModuleAssignmentRow> assignments = assignmentRepository.findRowsByUserId(userId);
+        if (assignments.isEmpty()) {
+            return List.of();
+        }
+        // The module structure is shared by all users; only the progress overlay is built per request
+        LongObjectMap<StageProgressRow> progressByStage = new LongObjectMap<>();
+        for (StageProgressRow row : progressRepository.findRowsByUserId(userId)) {
+            progressByStage.put(row.getStageId(), row);
+        }
+        List<AssignedModuleResponse> result = new ArrayList<>(assignments.size());
+        for (ModuleAssignmentRow a : assignments) {
+            ModuleTreeResponse module = catalogTreeCache.module(a.getModuleId());
+            if (module == null) {
+                continue; // removed since the assignment was made
+            }
+            result.add(AssignedModuleResponse.builder()
+                    .module(module)
+                    .assignmentStatus(a.getStatus() != null ? a.getStatus().name() : null)
+                    .assignedAt(a.getAssignedAt())
+                    .dueAt(a.getDueAt())
+                    .progress(overlay(module, progressByStage))
+                    .build());
+        }
+        return result;
     }
 
     @Override
@@ -59,10 +86,12 @@ public class ProgressServiceImpl implements ProgressService {
             p.setStartedAt(LocalDateTime.now());
         }
         progressRepository.save(p);
+        publishProgress(StageProgressEvent.Kind.STARTED, u, stage);
 
         // LMS hook for TRAINING stages
         if (stage.getType() == com.elevate.consultingplatform.entity.catalog.StageType.TRAINING) {
             lmsGateway.enroll(u, stage);
+            // Never a remote call here: cached LMS URL, or the content URL while it is fetched after commit
             String url = lmsGateway.launchUrl(u, stage);
             return StageStartResponse.builder().launchUrl(url).build();
         }
@@ -85,6 +114,68 @@ public class ProgressServiceImpl implements ProgressService {
         p.setScore(req.getScore());
         p.setEvidenceUrl(req.getEvidenceUrl());
         progressRepository.save(p);
+        publishProgress(StageProgressEvent.Kind.COMPLETED, u, stage);
+    }
+
+    private void publishProgress(StageProgressEvent.Kind kind, User u, Stage stage) {
+        Long moduleId = stage.getSegment() != null && stage.getSegment().getModule() != null
+                ? stage.getSegment().getModule().getId() : null;
+        eventPublisher.publishEvent(new StageProgressEvent(kind, u.getId(), stage.getId(), moduleId));
+    }
+
+    // Stage statuses plus completion counts rolled up per segment and for the module; inactive stages are
+    // listed but not counted
+    private static AssignedModuleResponse.ModuleProgress overlay(ModuleTreeResponse module,
+                                                                 LongObjectMap<StageProgressRow> progressByStage) {
+        List<AssignedModuleResponse.SegmentProgress> segments = new ArrayList<>(module.getSegments().size());
+        List<AssignedModuleResponse.StageProgress> stages = new ArrayList<>();
+        int moduleCompleted = 0;
+        int moduleTotal = 0;
+        for (ModuleTreeResponse.SegmentNode segment : module.getSegments()) {
+            int completed = 0;
+            int total = 0;
+            for (ModuleTreeResponse.StageNode stage : segment.getStages()) {
+                StageProgressRow row = progressByStage.get(stage.getId());
+                stages.add(AssignedModuleResponse.StageProgress.builder()
+                        .stageId(stage.getId())
+                        .status(row != null && row.getStatus() != null ? row.getStatus().name() : ProgressStatus.NOT_STARTED.name())
+                        .score(row != null ? row.getScore() : null)
+                        .startedAt(row != null ? row.getStartedAt() : null)
+                        .completedAt(row != null ? row.getCompletedAt() : null)
+                        .build());
+                if (Boolean.FALSE.equals(stage.getIsActive())) {
+                    continue;
+                }
+                total++;
+                if (row != null && row.getStatus() == ProgressStatus.COMPLETED) {
+                    completed++;
+                }
+            }
+            segments.add(AssignedModuleResponse.SegmentProgress.builder()
+                    .segmentId(segment.getId())
+                    .completedStages(completed)
+                    .totalStages(total)
+                    .completionPercent(percent(completed, total))
+                    .build());
+            moduleCompleted += completed;
+            moduleTotal += total;
+        }
+        return AssignedModuleResponse.ModuleProgress.builder()
+                .completedStages(moduleCompleted)
+                .totalStages(moduleTotal)
+                .completionPercent(percent(moduleCompleted, moduleTotal))
+                .segments(segments)
+                .stages(stages)
+                .build();
+    }
+
+    private static int percent(int completed, int total) {
+        return total == 0 ? 0 : (int) Math.round(completed * 100.0 / total);
+    }
+
+    private Long currentUserId() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userRepository.findIdByEmail(email).orElseThrow(() -> new IllegalStateException("User not found: " + email));
     }
 
     private User currentUser() {
@@ -0,0 +1,125 @@
+package com.elevate.consultingplatform.service.training.progress;
+
+import com.elevate.consultingplatform.repository.training.AssignmentProgressRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the progress roll-up on user module assignments (stage counters, last activity, status) current.
+ * Stage events are handled off the request thread once the progress change has committed; repeated events
+ * for the same assignment that arrive while one is queued collapse into one recompute. Anything missed
+ * (a full queue, a restart, catalog changes that add or remove stages) is caught up by the periodic
+ * reconciliation, which recomputes all assignments in id-ordered chunks.
+ */
+@Slf4j
+@Component
+public class AssignmentProgressUpdater {
+
+    private final AssignmentProgressRepository progressRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+
+    // Assignments (user:module) with a recompute queued but not yet started
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public AssignmentProgressUpdater(AssignmentProgressRepository progressRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${app.progress.reconcile-chunk-size:500}") int chunkSize,
+                                     @Value("${app.progress.max-queued-updates:10000}") int maxQueued) {
+        this.progressRepository = progressRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "progress-rollup-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStageProgress(StageProgressEvent event) {
+        if (event.getModuleId() != null) {
+            submit(event.getUserId(), event.getModuleId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onModuleAssigned(ModuleAssignedEvent event) {
+        submit(event.getUserId(), event.getModuleId());
+    }
+
+    /**
+     * Recomputes every assignment. Each chunk is one statement in its own transaction.
+     *
+     * @return number of assignments updated
+     */
+    public int reconcileAll() {
+        long started = System.currentTimeMillis();
+        long afterId = 0L;
+        int updated = 0;
+        Long chunkEnd;
+        while ((chunkEnd = progressRepository.findChunkEnd(afterId, chunkSize)) != null) {
+            long from = afterId;
+            long to = chunkEnd;
+            Integer rows = transactionTemplate.execute(status -> progressRepository.recomputeRange(from, to));
+            updated += rows != null ? rows : 0;
+            afterId = chunkEnd;
+        }
+        log.info("Reconciled module assignment progress: {} row(s) updated in {} ms",
+                updated, System.currentTimeMillis() - started);
+        return updated;
+    }
+
+    @Scheduled(cron = "${app.progress.reconcile-cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcileAll();
+        } catch (RuntimeException e) {
+            log.warn("Module assignment progress reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private void submit(long userId, long moduleId) {
+        String key = userId + ":" + moduleId;
+        if (!pending.add(key)) {
+            return; // a queued recompute will see this change too
+        }
+        try {
+            executor.execute(() -> {
+                pending.remove(key);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> progressRepository.recompute(userId, moduleId));
+                } catch (RuntimeException e) {
+                    log.warn("Progress roll-up for user {} module {} failed: {}", userId, moduleId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            log.warn("Progress roll-up queue full; user {} module {} is left to reconciliation", userId, moduleId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
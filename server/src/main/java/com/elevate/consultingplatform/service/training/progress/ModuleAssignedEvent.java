@@ -0,0 +1,14 @@
+package com.elevate.consultingplatform.service.training.progress;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a module is assigned to a user, so the new assignment gets its stage counts.
+ */
+@Getter
+@AllArgsConstructor
+public class ModuleAssignedEvent {
+    private final long userId;
+    private final long moduleId;
+}
@@ -0,0 +1,20 @@
+package com.elevate.consultingplatform.service.training.progress;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a user starts or completes a stage. Handled after the publishing transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class StageProgressEvent {
+
+    public enum Kind { STARTED, COMPLETED }
+
+    private final Kind kind;
+    private final long userId;
+    private final long stageId;
+    // null when the stage is not (or no longer) under a module
+    private final Long moduleId;
+}
@@ -0,0 +1,4 @@
+-- V16: Security-version stamp carried in access tokens.
+-- Bumped whenever a change must invalidate tokens already issued (password reset, deactivation, role change).
+ALTER TABLE users
+    ADD COLUMN security_version INT NOT NULL DEFAULT 0;
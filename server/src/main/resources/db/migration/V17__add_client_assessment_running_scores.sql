@@ -0,0 +1,30 @@
+-- V17: Running score per client assessment, kept up to date on every answer save.
+-- Segment subtotals live in their own table; segment_id 0 holds answers to questions without a segment.
+ALTER TABLE client_assessments
+    ADD COLUMN running_score DECIMAL(14,4) NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS client_assessment_segment_scores (
+  client_assessment_id BIGINT NOT NULL,
+  segment_id BIGINT NOT NULL DEFAULT 0,
+  score DECIMAL(14,4) NOT NULL DEFAULT 0,
+  PRIMARY KEY (client_assessment_id, segment_id),
+  CONSTRAINT fk_segment_scores_client_assessment
+    FOREIGN KEY (client_assessment_id) REFERENCES client_assessments(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Backfill from the answers already stored
+INSERT INTO client_assessment_segment_scores (client_assessment_id, segment_id, score)
+SELECT a.client_assessment_id, COALESCE(q.segment_id, 0), SUM(COALESCE(o.weight, 0))
+FROM assessment_answers a
+JOIN assessment_answer_options l ON l.answer_id = a.id
+JOIN question_options o ON o.id = l.option_id
+JOIN assessment_questions q ON q.id = a.question_id
+GROUP BY a.client_assessment_id, COALESCE(q.segment_id, 0);
+
+UPDATE client_assessments ca
+JOIN (
+  SELECT client_assessment_id, SUM(score) AS total
+  FROM client_assessment_segment_scores
+  GROUP BY client_assessment_id
+) t ON t.client_assessment_id = ca.id
+SET ca.running_score = t.total;
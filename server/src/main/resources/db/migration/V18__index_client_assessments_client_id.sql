@@ -0,0 +1,4 @@
+-- V18: Keyset listing of a client's assessments (WHERE client_id = ? AND id < ? ORDER BY id DESC).
+-- The composite index also backs the client FK, so the single-column one is dropped.
+CREATE INDEX idx_client_assessments_client_id ON client_assessments (client_id, id);
+DROP INDEX idx_client_assessments_client ON client_assessments;
@@ -0,0 +1,23 @@
+-- V19: Checkpoints of bulk re-scoring jobs.
+-- A job walks completed attempts, then submitted client assessments, in id order; last_id is the keyset
+-- cursor of the current phase. owner/lease_until let another instance pick up a job whose runner died.
+CREATE TABLE IF NOT EXISTS rescore_jobs (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  questionnaire_id BIGINT NULL,
+  status VARCHAR(20) NOT NULL,
+  phase VARCHAR(30) NOT NULL,
+  last_id BIGINT NOT NULL DEFAULT 0,
+  attempts_scanned BIGINT NOT NULL DEFAULT 0,
+  attempts_updated BIGINT NOT NULL DEFAULT 0,
+  client_assessments_scanned BIGINT NOT NULL DEFAULT 0,
+  client_assessments_updated BIGINT NOT NULL DEFAULT 0,
+  requested_by VARCHAR(255) NULL,
+  owner VARCHAR(64) NULL,
+  lease_until DATETIME(3) NULL,
+  error_message VARCHAR(1000) NULL,
+  created_at DATETIME(3) NOT NULL,
+  started_at DATETIME(3) NULL,
+  updated_at DATETIME(3) NULL,
+  finished_at DATETIME(3) NULL,
+  INDEX idx_rescore_jobs_status (status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,17 @@
+-- V20: One client assessment per (client, assessment); bulk assignment relies on it to skip duplicates.
+-- Clear duplicate assignments that were never started, keeping a started row if there is one, else the oldest.
+DELETE ca FROM client_assessments ca
+JOIN client_assessments other
+  ON other.client_id = ca.client_id AND other.assessment_id = ca.assessment_id AND other.id <> ca.id
+WHERE ca.status = 'ASSIGNED' AND other.status <> 'ASSIGNED'
+  AND NOT EXISTS (SELECT 1 FROM assessment_answers a WHERE a.client_assessment_id = ca.id);
+
+DELETE ca FROM client_assessments ca
+JOIN client_assessments older
+  ON older.client_id = ca.client_id AND older.assessment_id = ca.assessment_id AND older.id < ca.id
+WHERE ca.status = 'ASSIGNED'
+  AND NOT EXISTS (SELECT 1 FROM assessment_answers a WHERE a.client_assessment_id = ca.id);
+
+-- Fails if a client has two started copies of one assessment; those need merging by hand first.
+ALTER TABLE client_assessments
+  ADD CONSTRAINT uk_client_assessments_client_assessment UNIQUE (client_id, assessment_id);
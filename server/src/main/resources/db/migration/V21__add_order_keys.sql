@@ -0,0 +1,22 @@
+-- V21: Fractional ordering keys (base-62, compared byte-wise) for catalog and questionnaire content.
+-- Sibling lists sort by order_key, then order_index, then id. Keys start out NULL and are filled in
+-- by the application's order key rebalancer, which also respaces lists whose keys grew too long.
+ALTER TABLE modules
+  ADD COLUMN order_key VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+CREATE INDEX idx_modules_order_key ON modules (order_key);
+
+ALTER TABLE segments
+  ADD COLUMN order_key VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+CREATE INDEX idx_segments_module_order_key ON segments (module_id, order_key);
+
+ALTER TABLE stages
+  ADD COLUMN order_key VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+CREATE INDEX idx_stages_segment_order_key ON stages (segment_id, order_key);
+
+ALTER TABLE assessment_questions
+  ADD COLUMN order_key VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+CREATE INDEX idx_questions_segment_order_key ON assessment_questions (segment_id, order_key);
+
+ALTER TABLE question_options
+  ADD COLUMN order_key VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+CREATE INDEX idx_options_question_order_key ON question_options (question_id, order_key);
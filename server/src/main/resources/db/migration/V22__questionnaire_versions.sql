@@ -0,0 +1,30 @@
+-- V22: Questionnaire versions. Every questionnaires row is one version; the versions of one questionnaire
+-- share family_id (the id of the first). Only DRAFT versions may change; publishing freezes a version and
+-- archives the previously published one. Client assessments pin the version current when they were assigned.
+ALTER TABLE questionnaires
+  ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'DRAFT',
+  ADD COLUMN family_id BIGINT NULL,
+  ADD COLUMN based_on_id BIGINT NULL,
+  ADD COLUMN published_at TIMESTAMP NULL;
+
+-- Existing questionnaires are live content: each becomes the published first version of its own family
+UPDATE questionnaires
+SET status = 'PUBLISHED', family_id = id, published_at = COALESCE(created_at, CURRENT_TIMESTAMP);
+
+CREATE INDEX idx_questionnaires_family_status ON questionnaires (family_id, status);
+
+-- Lineage of cloned questions; the clone statement for options joins on it
+ALTER TABLE assessment_questions
+  ADD COLUMN source_question_id BIGINT NULL;
+CREATE INDEX idx_questions_questionnaire_source ON assessment_questions (questionnaire_id, source_question_id);
+
+ALTER TABLE client_assessments
+  ADD COLUMN questionnaire_id BIGINT NULL;
+
+UPDATE client_assessments ca
+JOIN assessments a ON a.id = ca.assessment_id
+SET ca.questionnaire_id = a.questionnaire_id;
+
+ALTER TABLE client_assessments
+  ADD CONSTRAINT fk_client_assessment_questionnaire
+  FOREIGN KEY (questionnaire_id) REFERENCES questionnaires(id);
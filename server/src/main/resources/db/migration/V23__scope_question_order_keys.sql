@@ -0,0 +1,5 @@
+-- V23: Questions are ordered among the questions of the same segment in the same questionnaire version,
+-- so versions cloned from one another never share a sibling list. Existing keys stay valid: every list
+-- keeps its relative order, and keys duplicated across versions are no longer siblings.
+CREATE INDEX idx_questions_questionnaire_segment_order_key
+  ON assessment_questions (questionnaire_id, segment_id, order_key);
@@ -0,0 +1,101 @@
+package com.elevate.consultingplatform.service.lms.impl;
+
+import com.elevate.consultingplatform.entity.User;
+import com.elevate.consultingplatform.entity.catalog.Stage;
+import com.elevate.consultingplatform.service.lms.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the gateway over {@link HttpLmsClient} against a {@link LocalLmsServer} on loopback.
+ */
+class DispatchingLmsGatewayTest {
+
+    private LocalLmsServer server;
+    private DispatchingLmsGateway gateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new LocalLmsServer(0, 0);
+        server.start();
+        HttpLmsClient client = new HttpLmsClient(server.baseUrl(), "", Duration.ofSeconds(1), Duration.ofSeconds(2),
+                new ObjectMapper());
+        // Flushed by hand; the scheduled flush is never started
+        gateway = new DispatchingLmsGateway(client, new CircuitBreaker(2, Duration.ofMinutes(1)),
+                100, 50, 6, Duration.ZERO, Duration.ZERO, Duration.ofHours(1),
+                Duration.ofMinutes(10), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.stop();
+        server.stop();
+    }
+
+    @Test
+    void flushSendsOneCallPerCourseWithEveryLearner() {
+        Stage stage = stage(10L, "course-1");
+        gateway.enroll(user(1L), stage);
+        gateway.enroll(user(2L), stage);
+        gateway.enroll(user(2L), stage);
+        gateway.enroll(user(3L), stage(11L, "course-2"));
+
+        gateway.flush();
+
+        assertThat(server.getEnrollCalls()).isEqualTo(2);
+        assertThat(server.enrollmentCount("course-1")).isEqualTo(2);
+        assertThat(server.enrollmentCount("course-2")).isEqualTo(1);
+        assertThat(gateway.queuedEnrollments()).isZero();
+    }
+
+    @Test
+    void failingLmsOpensTheCircuitAndKeepsTheBatch() {
+        server.setFailing(true);
+        gateway.enroll(user(1L), stage(10L, "course-1"));
+
+        gateway.flush();
+        gateway.flush();
+        assertThat(gateway.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(server.getRequests()).isEqualTo(2);
+
+        gateway.flush();
+        assertThat(server.getRequests()).isEqualTo(2);
+        assertThat(server.enrollmentCount("course-1")).isZero();
+    }
+
+    @Test
+    void launchUrlFallsBackToContentUrlUntilFetched() throws InterruptedException {
+        User user = user(1L);
+        Stage stage = stage(10L, "course-1");
+
+        assertThat(gateway.launchUrl(user, stage)).isEqualTo("https://content.example/10");
+
+        String url = stage.getContentUrl();
+        for (int i = 0; i < 50 && url.equals(stage.getContentUrl()); i++) {
+            Thread.sleep(20);
+            url = gateway.launchUrl(user, stage);
+        }
+        assertThat(url).isEqualTo(server.baseUrl() + "/play/course-1?userId=1&stageId=10");
+    }
+
+    private static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("learner" + id + "@example.com");
+        return user;
+    }
+
+    private static Stage stage(long id, String courseId) {
+        Stage stage = new Stage();
+        stage.setId(id);
+        stage.setLmsCourseId(courseId);
+        stage.setContentUrl("https://content.example/" + id);
+        return stage;
+    }
+}
@@ -0,0 +1,131 @@
+package com.elevate.consultingplatform.service.lms.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stand-in LMS on loopback that speaks the {@link HttpLmsClient} protocol, for tests.
+ * Optional latency and failure injection exercise the gateway's timeouts, retries and circuit breaker.
+ */
+@Slf4j
+public class LocalLmsServer {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int requestedPort;
+    private final long latencyMillis;
+    private final Map<String, AtomicInteger> enrollmentsByCourse = new ConcurrentHashMap<>();
+    private final AtomicInteger enrollCalls = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile boolean failing;
+    private HttpServer server;
+
+    public LocalLmsServer(int port, long latencyMillis) {
+        this.requestedPort = port;
+        this.latencyMillis = latencyMillis;
+    }
+
+    public synchronized void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 0);
+        server.createContext("/courses/", this::handle);
+        server.start();
+        log.info("Local LMS stand-in listening on {}", baseUrl());
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Makes every following call answer 503 until switched off again.
+     */
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    /**
+     * Every request received, including those answered 503.
+     */
+    public int getRequests() {
+        return requests.get();
+    }
+
+    public int getEnrollCalls() {
+        return enrollCalls.get();
+    }
+
+    public int enrollmentCount(String courseId) {
+        AtomicInteger count = enrollmentsByCourse.get(courseId);
+        return count != null ? count.get() : 0;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (failing) {
+                respond(exchange, 503, objectMapper.createObjectNode().put("error", "unavailable"));
+                return;
+            }
+            // /courses/{courseId}/enrollments or /courses/{courseId}/launch
+            String[] parts = exchange.getRequestURI().getRawPath().split("/");
+            if (parts.length != 4) {
+                respond(exchange, 404, objectMapper.createObjectNode());
+                return;
+            }
+            String courseId = URLDecoder.decode(parts[2], StandardCharsets.UTF_8);
+            if ("enrollments".equals(parts[3]) && "POST".equals(exchange.getRequestMethod())) {
+                enrollCalls.incrementAndGet();
+                JsonNode body;
+                try (InputStream in = exchange.getRequestBody()) {
+                    body = objectMapper.readTree(in);
+                }
+                int learners = body.path("learners").size();
+                enrollmentsByCourse.computeIfAbsent(courseId, c -> new AtomicInteger()).addAndGet(learners);
+                respond(exchange, 202, objectMapper.createObjectNode());
+            } else if ("launch".equals(parts[3]) && "GET".equals(exchange.getRequestMethod())) {
+                String query = exchange.getRequestURI().getRawQuery();
+                respond(exchange, 200, objectMapper.createObjectNode()
+                        .put("url", baseUrl() + "/play/" + parts[2] + "?" + (query != null ? query : "")));
+            } else {
+                respond(exchange, 404, objectMapper.createObjectNode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, ObjectNode json) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(json);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}